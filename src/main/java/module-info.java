@@ -30,6 +30,7 @@ module org.burningwave.core {
 
     requires java.base;
     requires java.compiler;
+    requires java.management;
     requires jdk.unsupported;
     requires transitive io.github.toolfactory.jvm;
     requires transitive org.burningwave.jvm;
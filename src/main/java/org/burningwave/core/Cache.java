@@ -30,36 +30,101 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
-import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import org.burningwave.core.classes.Members;
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
 import org.burningwave.core.function.TriConsumer;
+import org.burningwave.core.io.ArchiveSnapshotStore;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
 import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
+import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
+import org.burningwave.core.jvm.SlabArena;
 
 
 public class Cache {
+
+	public static abstract class Configuration {
+
+		public static abstract class Key {
+
+			public static final String MAX_ENTRY_COUNT = "cache.{}.max-entry-count";
+			public static final String MAX_WEIGHT = "cache.{}.max-weight";
+			public static final String PATH_FOR_CONTENTS_STORE = "cache.path-for-contents.store";
+			public static final String PATH_FOR_CONTENTS_SLAB_SIZE = "cache.path-for-contents.slab-size";
+			public static final String ARCHIVE_SNAPSHOTS_ENABLED = "cache.archive-snapshots.enabled";
+			public static final String ARCHIVE_SNAPSHOTS_FOLDER = "cache.archive-snapshots.folder";
+			public static final String STATISTICS_LOG_INTERVAL = "cache.statistics.log-interval";
+			public static final String STATISTICS_MX_BEANS_ENABLED = "cache.statistics.mx-beans.enabled";
+			public static final String WEAK_KEYS_PURGE_INTERVAL = "cache.weak-keys.purge-interval";
+
+		}
+
+		public final static Map<String, Object> DEFAULT_VALUES;
+
+		static {
+			Map<String, Object> defaultValues = new HashMap<>();
+
+			defaultValues.put(Key.PATH_FOR_CONTENTS_STORE, "default");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_SLAB_SIZE, "16MB");
+			defaultValues.put(Key.ARCHIVE_SNAPSHOTS_ENABLED, "false");
+			defaultValues.put(Key.ARCHIVE_SNAPSHOTS_FOLDER, "");
+			defaultValues.put(Key.STATISTICS_LOG_INTERVAL, "0");
+			defaultValues.put(Key.STATISTICS_MX_BEANS_ENABLED, "false");
+			defaultValues.put(Key.WEAK_KEYS_PURGE_INTERVAL, "30000");
+
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+
+	}
+
+	public final SlabArena pathForContentsArena;
+	public final ArchiveSnapshotStore archiveSnapshotStore;
 	public final PathForResources<ByteBuffer> pathForContents;
 	public final PathForResources<FileSystemItem> pathForFileSystemItems;
 	public final PathForResources<IterableZipContainer> pathForIterableZipContainers;
@@ -71,41 +136,158 @@ public class Cache {
 	public final ObjectAndPathForResources<ClassLoader, Collection<Method>> uniqueKeyForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Object> bindedFunctionalInterfaces;
 	public final ObjectAndPathForResources<ClassLoader, Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
+	private final Map<String, Supplier<Statistics.Snapshot>> regionStatistics;
 
-	private Cache() {
+	private Cache(Map<?, ?> config) {
 		ManagedLoggerRepository.logInfo(getClass()::getName, "Building cache");
-		pathForContents = new PathForResources<>(BufferHandler::shareContent);
+		pathForContentsArena = createPathForContentsArena(config);
+		archiveSnapshotStore = createArchiveSnapshotStore(config);
+		pathForContents = new PathForResources<>(
+			1L, BufferHandler::shareContent, null,
+			Bounds.create("path-for-contents", config, ByteBuffer::capacity)
+		);
+		if (pathForContentsArena != null) {
+			pathForContents.setStorage(pathForContentsArena::store, pathForContentsArena::release);
+		}
 		pathForFileSystemItems = new PathForResources<>(
+			1L, item -> item,
 			(path, fileSystemItem) ->
-				fileSystemItem.destroy()
+				fileSystemItem.destroy(),
+			Bounds.create("path-for-file-system-items", config)
 		);
 		pathForIterableZipContainers = new PathForResources<>(
+			1L, item -> item,
 			(path, zipFileContainer) ->
-				zipFileContainer.destroy()
+				zipFileContainer.destroy(),
+			Bounds.create("path-for-iterable-zip-containers", config)
+		);
+		classLoaderForFields = new ObjectAndPathForResources<>(Bounds.create("class-loader-for-fields", config), true);
+		classLoaderForMethods = new ObjectAndPathForResources<>(Bounds.create("class-loader-for-methods", config), true);
+		uniqueKeyForFields = new ObjectAndPathForResources<>(Bounds.create("unique-key-for-fields", config), true);
+		uniqueKeyForMethods = new ObjectAndPathForResources<>(Bounds.create("unique-key-for-methods", config), true);
+		uniqueKeyForConstructors = new ObjectAndPathForResources<>(Bounds.create("unique-key-for-constructors", config), true);
+		classLoaderForConstructors = new ObjectAndPathForResources<>(Bounds.create("class-loader-for-constructors", config), true);
+		bindedFunctionalInterfaces = new ObjectAndPathForResources<>(Bounds.create("binded-functional-interfaces", config), true);
+		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>(Bounds.create("unique-key-for-executable-and-method-handle", config), true);
+		regionStatistics = new LinkedHashMap<>();
+		regionStatistics.put("path-for-contents", pathForContents::getStatistics);
+		regionStatistics.put("path-for-file-system-items", pathForFileSystemItems::getStatistics);
+		regionStatistics.put("path-for-iterable-zip-containers", pathForIterableZipContainers::getStatistics);
+		regionStatistics.put("class-loader-for-fields", classLoaderForFields::getStatistics);
+		regionStatistics.put("class-loader-for-methods", classLoaderForMethods::getStatistics);
+		regionStatistics.put("class-loader-for-constructors", classLoaderForConstructors::getStatistics);
+		regionStatistics.put("unique-key-for-fields", uniqueKeyForFields::getStatistics);
+		regionStatistics.put("unique-key-for-methods", uniqueKeyForMethods::getStatistics);
+		regionStatistics.put("unique-key-for-constructors", uniqueKeyForConstructors::getStatistics);
+		regionStatistics.put("binded-functional-interfaces", bindedFunctionalInterfaces::getStatistics);
+		regionStatistics.put("unique-key-for-executable-and-method-handle", uniqueKeyForExecutableAndMethodHandle::getStatistics);
+		if (Boolean.valueOf(resolveStringValue(config, Configuration.Key.STATISTICS_MX_BEANS_ENABLED))) {
+			registerStatisticsMXBeans();
+		}
+		long statisticsLogInterval = Objects.toLong(resolveStringValue(config, Configuration.Key.STATISTICS_LOG_INTERVAL));
+		if (statisticsLogInterval > 0) {
+			startStatisticsLogging(statisticsLogInterval);
+		}
+		long weakKeysPurgeInterval = Objects.toLong(resolveStringValue(config, Configuration.Key.WEAK_KEYS_PURGE_INTERVAL));
+		if (weakKeysPurgeInterval > 0) {
+			startWeakKeysPurging(weakKeysPurgeInterval);
+		}
+	}
+
+	private static String resolveStringValue(Map<?, ?> config, String key) {
+		return IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(key)
+			.on(config)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		).trim();
+	}
+
+	private static SlabArena createPathForContentsArena(Map<?, ?> config) {
+		String store = IterableObjectHelper.resolveStringValue(
+			ResolveConfig.forNamedKey(Configuration.Key.PATH_FOR_CONTENTS_STORE)
+			.on(config)
+			.withDefaultValues(Configuration.DEFAULT_VALUES)
+		).trim();
+		boolean memoryMapped = store.equalsIgnoreCase("memory-mapped-slabs");
+		if (!memoryMapped && !store.equalsIgnoreCase("direct-slabs")) {
+			return null;
+		}
+		long slabSize = Bounds.toLong(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.PATH_FOR_CONTENTS_SLAB_SIZE)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
+		);
+		if ((slabSize <= 0) || (slabSize > Integer.MAX_VALUE)) {
+			slabSize = 16 * 1024 * 1024;
+		}
+		ManagedLoggerRepository.logInfo(
+			Cache.class::getName,
+			"Contents will be stored in {} slabs of {} bytes",
+			memoryMapped ? "memory mapped" : "direct", slabSize
+		);
+		return SlabArena.create("path-for-contents", memoryMapped, (int)slabSize);
+	}
+
+	private static ArchiveSnapshotStore createArchiveSnapshotStore(Map<?, ?> config) {
+		boolean enabled = Boolean.valueOf(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.ARCHIVE_SNAPSHOTS_ENABLED)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			).trim()
+		);
+		if (!enabled) {
+			return null;
+		}
+		ManagedLoggerRepository.logInfo(Cache.class::getName, "Archive snapshots enabled");
+		return ArchiveSnapshotStore.create(
+			IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(Configuration.Key.ARCHIVE_SNAPSHOTS_FOLDER)
+				.on(config)
+				.withDefaultValues(Configuration.DEFAULT_VALUES)
+			)
 		);
-		classLoaderForFields = new ObjectAndPathForResources<>();
-		classLoaderForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForFields = new ObjectAndPathForResources<>();
-		uniqueKeyForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForConstructors = new ObjectAndPathForResources<>();
-		classLoaderForConstructors = new ObjectAndPathForResources<>();
-		bindedFunctionalInterfaces = new ObjectAndPathForResources<>();
-		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>();
 	}
 
 	public static Cache create() {
-		return new Cache();
+		return new Cache(Collections.emptyMap());
+	}
+
+	public static Cache create(Map<?, ?> config) {
+		return new Cache(config);
+	}
+
+	//Implemented by the objects that can keep alive the resources cached for them: a cache with weak keys stores
+	//these resources in the anchor itself so that they don't prevent the anchor from being garbage collected
+	public static interface Anchor {
+
+		public Map<Object, Object> getAnchoredResources();
+
 	}
 
 	public static class ObjectAndPathForResources<T, R> {
-		Map<T, PathForResources<R>> resources;
+		Map<Object, PathForResources<R>> resources;
+		Set<Object> anchoredKeys;
+		ReferenceQueue<T> collectedKeys;
 		Supplier<PathForResources<R>> pathForResourcesSupplier;
-		String instanceId;
+		Bounds<R> bounds;
+		Statistics statistics;
+		AtomicLong purgedKeyCount;
 
 		public ObjectAndPathForResources() {
 			this(1L, item -> item, null );
 		}
 
+		public ObjectAndPathForResources(Bounds<R> bounds) {
+			this(1L, item -> item, null, bounds);
+		}
+
+		public ObjectAndPathForResources(Bounds<R> bounds, boolean weakKeys) {
+			this(1L, item -> item, null, bounds, weakKeys);
+		}
+
 		public ObjectAndPathForResources(Long partitionStartLevel) {
 			this(partitionStartLevel, item -> item, null);
 		}
@@ -115,46 +297,91 @@ public class Cache {
 		}
 
 		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
+			this(partitionStartLevel, sharer, itemDestroyer, null);
+		}
+
+		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer, Bounds<R> bounds) {
+			this(partitionStartLevel, sharer, itemDestroyer, bounds, false);
+		}
+
+		//If the keys are weak they are compared by identity and their resources are purged in background once they are
+		//garbage collected: the resources of the keys that implement Anchor are stored in the keys themselves
+		public ObjectAndPathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer, Bounds<R> bounds, boolean weakKeys) {
 			this.resources = new ConcurrentHashMap<>();
-			this.pathForResourcesSupplier = () -> new PathForResources<>(partitionStartLevel, sharer, itemDestroyer);
-			this.instanceId = Objects.getId(this);
+			this.bounds = bounds;
+			//The statistics are shared among all the resources of the region
+			Statistics statistics = this.statistics = new Statistics();
+			this.pathForResourcesSupplier = () -> new PathForResources<>(partitionStartLevel, sharer, itemDestroyer, bounds, statistics);
+			if (weakKeys) {
+				this.anchoredKeys = ConcurrentHashMap.newKeySet();
+				this.collectedKeys = new ReferenceQueue<>();
+				this.purgedKeyCount = new AtomicLong();
+			}
 		}
 
 		public R getOrUploadIfAbsent(T object, String path, Supplier<R> resourceSupplier) {
-			PathForResources<R> pathForResources = resources.get(object);
+			return retrievePathForResources(object).getOrUploadIfAbsent(path, resourceSupplier);
+		}
+
+		public R get(T object, String path) {
+			return retrievePathForResources(object).get(path);
+		}
+
+		PathForResources<R> retrievePathForResources(T object) {
+			if (collectedKeys == null) {
+				Map<Object, PathForResources<R>> resources = this.resources;
+				PathForResources<R> pathForResources = resources.get(object);
+				if (pathForResources == null) {
+					pathForResources = resources.computeIfAbsent(object, key -> pathForResourcesSupplier.get());
+				}
+				return pathForResources;
+			}
+			purgeInBackgroundIfNeeded();
+			if (object instanceof Anchor) {
+				return retrieveAnchoredPathForResources(object);
+			}
+			Map<Object, PathForResources<R>> resources = this.resources;
+			PathForResources<R> pathForResources = resources.get(new IdentityKey(object));
 			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_" + Objects.getId(object), () -> {
-					PathForResources<R> pathForResourcesTemp = resources.get(object);
-					if (pathForResourcesTemp == null) {
-						pathForResourcesTemp = pathForResourcesSupplier.get();
-						resources.put(object, pathForResourcesTemp);
-					}
-					return pathForResourcesTemp;
-				});
+				pathForResources = resources.computeIfAbsent(
+					new WeakKey<>(object, collectedKeys, null), key -> pathForResourcesSupplier.get()
+				);
 			}
-			return pathForResources.getOrUploadIfAbsent(path, resourceSupplier);
+			return pathForResources;
 		}
 
-		public R get(T object, String path) {
-			PathForResources<R> pathForResources = resources.get(object);
+		@SuppressWarnings("unchecked")
+		PathForResources<R> retrieveAnchoredPathForResources(T object) {
+			Map<Object, Object> anchoredResources = ((Anchor)object).getAnchoredResources();
+			PathForResources<R> pathForResources = (PathForResources<R>)anchoredResources.get(this);
 			if (pathForResources == null) {
-				pathForResources = Synchronizer.execute(instanceId + "_mutexManagerForResources_" + Objects.getId(object), () -> {
-					PathForResources<R> pathForResourcesTemp = resources.get(object);
-					if (pathForResourcesTemp == null) {
-						pathForResourcesTemp = pathForResourcesSupplier.get();
-						resources.put(object, pathForResourcesTemp);
-					}
-					return pathForResourcesTemp;
+				Set<Object> anchoredKeys = this.anchoredKeys;
+				pathForResources = (PathForResources<R>)anchoredResources.computeIfAbsent(this, key -> {
+					PathForResources<R> newPathForResources = pathForResourcesSupplier.get();
+					anchoredKeys.add(new WeakKey<>(object, collectedKeys, newPathForResources.boundedNodes));
+					return newPathForResources;
 				});
 			}
-			return pathForResources.get(path);
+			return pathForResources;
 		}
 
+		@SuppressWarnings("unchecked")
 		public PathForResources<R> remove(T object, boolean destroyItems) {
-			PathForResources<R> pathForResources = resources.remove(object);
+			PathForResources<R> pathForResources;
+			if (collectedKeys == null) {
+				pathForResources = resources.remove(object);
+			} else if (object instanceof Anchor) {
+				anchoredKeys.remove(new IdentityKey(object));
+				pathForResources = (PathForResources<R>)((Anchor)object).getAnchoredResources().remove(this);
+			} else {
+				pathForResources = resources.remove(new IdentityKey(object));
+			}
 			if ((pathForResources != null) && destroyItems) {
 				pathForResources.clearInBackground(destroyItems).waitForFinish();
 			}
+			if ((pathForResources != null) && (bounds != null)) {
+				bounds.unregister(pathForResources);
+			}
 			return pathForResources;
 		}
 
@@ -163,27 +390,118 @@ public class Cache {
 		}
 
 		public R removePath(T object, String path, boolean destroyItem) {
-			PathForResources<R> pathForResources = resources.get(object);
+			PathForResources<R> pathForResources = getPathForResources(object);
 			if (pathForResources != null) {
 				return pathForResources.remove(path, destroyItem);
 			}
 			return null;
 		}
 
+		@SuppressWarnings("unchecked")
+		PathForResources<R> getPathForResources(T object) {
+			if (collectedKeys == null) {
+				return resources.get(object);
+			} else if (object instanceof Anchor) {
+				return (PathForResources<R>)((Anchor)object).getAnchoredResources().get(this);
+			}
+			return resources.get(new IdentityKey(object));
+		}
+
+		void purgeInBackgroundIfNeeded() {
+			Reference<? extends T> collectedKey = collectedKeys.poll();
+			if (collectedKey != null) {
+				BackgroundExecutor.createTask(task -> {
+					purge(collectedKey);
+					purge();
+				}, Thread.MIN_PRIORITY).submit();
+			}
+		}
+
+		public long purge() {
+			if (collectedKeys == null) {
+				return 0;
+			}
+			long purgedKeyCount = 0;
+			Reference<? extends T> collectedKey;
+			while ((collectedKey = collectedKeys.poll()) != null) {
+				if (purge(collectedKey)) {
+					++purgedKeyCount;
+				}
+			}
+			return purgedKeyCount;
+		}
+
+		boolean purge(Reference<? extends T> collectedKey) {
+			WeakKey<? extends T> weakKey = (WeakKey<? extends T>)collectedKey;
+			if (anchoredKeys.remove(weakKey)) {
+				//The resources were stored in the anchor, so they have been garbage collected together with it
+				if ((bounds != null) && (weakKey.boundedNodes != null)) {
+					bounds.onCleared(weakKey.boundedNodes);
+				}
+			} else {
+				PathForResources<R> pathForResources = resources.remove(weakKey);
+				if (pathForResources == null) {
+					return false;
+				}
+				pathForResources.clearInBackground(true);
+				if (bounds != null) {
+					bounds.unregister(pathForResources);
+				}
+			}
+			purgedKeyCount.incrementAndGet();
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
 		QueuedTaskExecutor.Task clearInBackground(boolean destroyItems) {
-			Map<T, PathForResources<R>> resources;
+			Collection<PathForResources<R>> resources = new ArrayList<>();
 			synchronized (this.resources) {
-				resources = this.resources;
+				resources.addAll(this.resources.values());
 				this.resources = new ConcurrentHashMap<>();
+				if (anchoredKeys != null) {
+					for (Object anchoredKey : this.anchoredKeys) {
+						Object object = ((WeakKey<?>)anchoredKey).get();
+						if (object != null) {
+							PathForResources<R> pathForResources = (PathForResources<R>)((Anchor)object).getAnchoredResources().remove(this);
+							if (pathForResources != null) {
+								resources.add(pathForResources);
+							}
+						}
+					}
+					this.anchoredKeys = ConcurrentHashMap.newKeySet();
+				}
 			}
 			return BackgroundExecutor.createTask(task -> {
-				for (Entry<T, PathForResources<R>> item : resources.entrySet()) {
-					item.getValue().clearInBackground(destroyItems).waitForFinish();
+				for (PathForResources<R> pathForResources : resources) {
+					pathForResources.clearInBackground(destroyItems).waitForFinish();
+					if (bounds != null) {
+						bounds.unregister(pathForResources);
+					}
 				}
 				resources.clear();
 			}).submit();
 		}
 
+		public Bounds<R> getBounds() {
+			return bounds;
+		}
+
+		public Statistics.Snapshot getStatistics() {
+			long size = 0;
+			for (Entry<T, PathForResources<R>> entry : getEntries()) {
+				size += entry.getValue().getLoadedResourcesCount();
+			}
+			return statistics.snapshot(size);
+		}
+
+		public boolean hasWeakKeys() {
+			return collectedKeys != null;
+		}
+
+		public long getPurgedKeyCount() {
+			return purgedKeyCount != null ? purgedKeyCount.get() : 0L;
+		}
+
 		public void iterate(TriConsumer<T, String, R> itemConsumer) {
 			iterate(false, itemConsumer, new AtomicReference<>());
 		}
@@ -197,10 +515,9 @@ public class Cache {
 			TriConsumer<T, String, R> itemConsumer,
 			AtomicReference<org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration> terminateExceptionWrapper
 		) {
-
 			IterableObjectHelper.iterate(
 				IterationConfig.of(
-					this.resources.entrySet()
+					getEntries()
 				).withAction(entry -> {
 					PathForResources<R> pathForResources = entry.getValue();
 					pathForResources.checkAndThrow(terminateExceptionWrapper);
@@ -213,14 +530,95 @@ public class Cache {
 				}).parallelIf(coll -> parallel)
 			);
 		}
+
+		@SuppressWarnings("unchecked")
+		Collection<Entry<T, PathForResources<R>>> getEntries() {
+			Collection<Entry<T, PathForResources<R>>> entries = new ArrayList<>();
+			for (Entry<Object, PathForResources<R>> entry : resources.entrySet()) {
+				T object = collectedKeys == null ?
+					(T)entry.getKey() :
+					((WeakKey<T>)entry.getKey()).get();
+				if (object != null) {
+					entries.add(new AbstractMap.SimpleEntry<>(object, entry.getValue()));
+				}
+			}
+			if (anchoredKeys != null) {
+				for (Object anchoredKey : anchoredKeys) {
+					T object = ((WeakKey<T>)anchoredKey).get();
+					PathForResources<R> pathForResources;
+					if ((object != null) && ((pathForResources = getPathForResources(object)) != null)) {
+						entries.add(new AbstractMap.SimpleEntry<>(object, pathForResources));
+					}
+				}
+			}
+			return entries;
+		}
+
+		static class WeakKey<T> extends WeakReference<T> {
+			final int hashCode;
+			final Map<String, Bounds.Node> boundedNodes;
+
+			WeakKey(T object, ReferenceQueue<T> queue, Map<String, Bounds.Node> boundedNodes) {
+				super(object, queue);
+				this.hashCode = System.identityHashCode(object);
+				this.boundedNodes = boundedNodes;
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+
+			@Override
+			public boolean equals(Object other) {
+				if (other == this) {
+					return true;
+				}
+				Object object = get();
+				if (object == null) {
+					return false;
+				}
+				if (other instanceof IdentityKey) {
+					return ((IdentityKey)other).object == object;
+				}
+				return (other instanceof WeakKey) && (((WeakKey<?>)other).get() == object);
+			}
+
+		}
+
+		//Used only to look up the weak keys without creating a reference
+		static class IdentityKey {
+			final Object object;
+
+			IdentityKey(Object object) {
+				this.object = object;
+			}
+
+			@Override
+			public int hashCode() {
+				return System.identityHashCode(object);
+			}
+
+			@Override
+			public boolean equals(Object other) {
+				return (other == this) || ((other instanceof WeakKey) && (((WeakKey<?>)other).get() == object));
+			}
+
+		}
 	}
 
 	public static class PathForResources<R> {
-		Map<Long, Map<String, Map<String, R>>> resources;
-		Long partitionStartLevel;
+		//The resources and their index are replaced together by the clearing so that a path can't be stored in a map
+		//and indexed in the index of another one
+		volatile IndexedResources<R> indexedResources;
 		Function<R, R> sharer;
 		BiConsumer<String, R> itemDestroyer;
-		String instanceId;
+		Bounds<R> bounds;
+		Map<String, Bounds.Node> boundedNodes;
+		Map<String, Loader<R>> loaders;
+		Function<R, R> storer;
+		Consumer<R> releaser;
+		Statistics statistics;
 
 		private PathForResources() {
 			this(1L, item -> item, null);
@@ -251,151 +649,257 @@ public class Cache {
 		}
 
 		private PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
-			this.partitionStartLevel = partitionStartLevel;
+			this(partitionStartLevel, sharer, itemDestroyer, null);
+		}
+
+		//The partition start level is no longer used since the paths are indexed by a trie
+		private PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer, Bounds<R> bounds) {
+			this(partitionStartLevel, sharer, itemDestroyer, bounds, new Statistics());
+		}
+
+		private PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer, Bounds<R> bounds, Statistics statistics) {
 			this.sharer = sharer;
-			this.resources = new ConcurrentHashMap<>();
+			this.statistics = statistics;
+			this.indexedResources = new IndexedResources<>();
 			this.itemDestroyer = itemDestroyer;
-			this.instanceId = this.toString();
-		}
-
-		Map<String, R> retrievePartition(Map<String, Map<String, R>> partion, Long partitionIndex, String path) {
-			String partitionKey = "/";
-			if (partitionIndex > 1) {
-				partitionKey = path.substring(0, path.lastIndexOf("/"));
-				partitionKey = partitionKey.substring(partitionKey.lastIndexOf("/") + 1);
-			}
-			Map<String, R> innerPartion = partion.get(partitionKey);
-			if (innerPartion == null) {
-				String finalPartitionKey = partitionKey;
-				innerPartion = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
-					Map<String, R> innerPartionTemp = partion.get(finalPartitionKey);
-					if (innerPartionTemp == null) {
-						partion.put(finalPartitionKey, innerPartionTemp = new ConcurrentHashMap<>());
-					}
-					return innerPartionTemp;
-				});
+			this.loaders = new ConcurrentHashMap<>();
+			if (bounds != null) {
+				this.bounds = bounds;
+				this.boundedNodes = new ConcurrentHashMap<>();
+				bounds.register(this);
 			}
-			return innerPartion;
 		}
 
-		R getOrUploadIfAbsent(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
-			R resource = loadedResources.get(path);
+		void setStorage(Function<R, R> storer, Consumer<R> releaser) {
+			this.storer = storer;
+			this.releaser = releaser;
+		}
+
+		public R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
+			R resource = indexedResources.resources.get(path);
 			if (resource == null) {
-				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-					R resourceTemp = loadedResources.get(path);
-					if ((resourceTemp == null) && (resourceSupplier != null)) {
-						resourceTemp = resourceSupplier.get();
-						if (resourceTemp != null) {
-							loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
-						}
-					}
-					return resourceTemp;
-				});
+				statistics.missCount.increment();
+				resource = resourceSupplier != null ?
+					load(path, resourceSupplier) :
+					waitForLoading(path);
+				//The eviction must be executed outside of the loading to avoid dead locks between loaders
+				if (bounds != null) {
+					bounds.evictIfNeeded();
+				}
+			} else {
+				statistics.hitCount.increment();
+				if (bounds != null) {
+					bounds.onAccessed(this, path);
+				}
 			}
 			return resource != null?
 				sharer.apply(resource) :
 				resource;
 		}
 
-		public R upload(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier, boolean destroy) {
-			R oldResource = remove(path, destroy);
-			Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				R resourceTemp = resourceSupplier.get();
-				if (resourceTemp != null) {
-					loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+		public R get(String path) {
+			return getOrUploadIfAbsent(path, null);
+		}
+
+		R load(String path, Supplier<R> resourceSupplier) {
+			return executeExclusively(path, true, () -> {
+				R resource = indexedResources.resources.get(path);
+				if (resource == null) {
+					resource = supply(resourceSupplier);
+					if (resource != null) {
+						resource = put(path, sharer.apply(resource));
+					}
 				}
+				return resource;
 			});
-			return oldResource;
 		}
 
-		Map<String, Map<String, R>> retrievePartition(Map<Long, Map<String, Map<String, R>>> partitionedResources, Long partitionIndex) {
-			Map<String, Map<String, R>> resources = partitionedResources.get(partitionIndex);
-			if (resources == null) {
-				resources = Synchronizer.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
-					Map<String, Map<String, R>> resourcesTemp = partitionedResources.get(partitionIndex);
-					if (resourcesTemp == null) {
-						partitionedResources.put(partitionIndex, resourcesTemp = new ConcurrentHashMap<>());
-					}
-					return resourcesTemp;
-				});
+		R supply(Supplier<R> resourceSupplier) {
+			long startTime = System.nanoTime();
+			try {
+				return resourceSupplier.get();
+			} finally {
+				statistics.loadCount.increment();
+				statistics.totalLoadTime.add(System.nanoTime() - startTime);
 			}
-			return resources;
 		}
 
-		public R upload(String path, Supplier<R> resourceSupplier, boolean destroy) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			return upload(nestedPartition, path, resourceSupplier, destroy);
+		R waitForLoading(String path) {
+			Loader<R> inFlightLoader = loaders.get(path);
+			if ((inFlightLoader != null) && !inFlightLoader.isOwnedByCurrentThread()) {
+				R resource = inFlightLoader.await();
+				if (resource != null) {
+					return resource;
+				}
+			}
+			return indexedResources.resources.get(path);
 		}
 
-		public R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			return getOrUploadIfAbsent(nestedPartition, path, resourceSupplier);
+		//Must be called by the owner of the loader of the path
+		R put(String path, R resource) {
+			if (storer != null) {
+				resource = storer.apply(resource);
+			}
+			//The path is indexed before publishing the resource so that a concurrent
+			//removeAllUnder always finds it and waits for the in-flight loading
+			IndexedResources<R> indexedResources = this.indexedResources;
+			indexedResources.index.add(path);
+			indexedResources.resources.put(path, resource);
+			if (bounds != null) {
+				bounds.onAdded(this, path, resource);
+			}
+			return resource;
 		}
 
-		public R get(String path) {
-			return getOrUploadIfAbsent(path, null);
+		void release(R resource) {
+			if (releaser != null) {
+				releaser.accept(resource);
+			}
+		}
+
+		//Concurrent operations on the same path are coalesced on the in-flight loader: if the operation is a
+		//loading the waiting threads take its result, otherwise they retry once the in-flight operation is finished
+		R executeExclusively(String path, boolean isLoading, Supplier<R> operation) {
+			Loader<R> loader = null;
+			while (true) {
+				Loader<R> inFlightLoader = loaders.get(path);
+				if (inFlightLoader == null) {
+					if (loader == null) {
+						loader = new Loader<>(isLoading);
+					}
+					if ((inFlightLoader = loaders.putIfAbsent(path, loader)) == null) {
+						break;
+					}
+				}
+				if (inFlightLoader.isOwnedByCurrentThread()) {
+					//Reentrant call
+					return operation.get();
+				}
+				R resource = inFlightLoader.await();
+				if (isLoading && (resource != null)) {
+					return resource;
+				}
+			}
+			R resource = null;
+			Throwable exception = null;
+			try {
+				resource = operation.get();
+			} catch (Throwable exc) {
+				exception = exc;
+			}
+			loaders.remove(path, loader);
+			if (exception == null) {
+				loader.complete(resource);
+				return resource;
+			}
+			loader.completeExceptionally(exception);
+			return Driver.throwException(exception);
+		}
+
+		public R upload(String path, Supplier<R> resourceSupplier, boolean destroy) {
+			R oldResource = remove(path, destroy);
+			executeExclusively(path, true, () -> {
+				R resource = supply(resourceSupplier);
+				if (resource != null) {
+					resource = put(path, sharer.apply(resource));
+				}
+				return resource;
+			});
+			if (bounds != null) {
+				bounds.evictIfNeeded();
+			}
+			return oldResource;
 		}
 
 		public R remove(String path, boolean destroy) {
-			Long occurences = path.chars().filter(ch -> ch == '/').count();
-			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
-			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
-			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
-			R item = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				return nestedPartition.remove(path);
+			R item = executeExclusively(path, false, () -> {
+				IndexedResources<R> indexedResources = this.indexedResources;
+				R removedItem = indexedResources.resources.remove(path);
+				if (removedItem != null) {
+					indexedResources.index.remove(path);
+					release(removedItem);
+					if (bounds != null) {
+						bounds.onRemoved(this, path);
+					}
+				}
+				return removedItem;
 			});
 			if ((itemDestroyer != null) && destroy && (item != null)) {
-				String finalPath = path;
-				itemDestroyer.accept(finalPath, item);
+				itemDestroyer.accept(path, item);
 			}
 			return item;
 		}
 
-		public int getLoadedResourcesCount() {
-			return getLoadedResourcesCount(resources);
+		public int removeAllUnder(String path, boolean destroy) {
+			int removedItemsCount = 0;
+			for (String pathToBeRemoved : indexedResources.index.detach(path)) {
+				if (remove(pathToBeRemoved, destroy) != null) {
+					++removedItemsCount;
+				}
+			}
+			return removedItemsCount;
 		}
 
-		private int getLoadedResourcesCount(Map<Long, Map<String, Map<String, R>>> resources) {
-			int count = 0;
-			for (Map.Entry<Long, Map<String, Map<String, R>>> partition : resources.entrySet()) {
-				for (Map.Entry<String, Map<String, R>> innerPartition : partition.getValue().entrySet()) {
-					count += innerPartition.getValue().size();
+		R evict(String path) {
+			Loader<R> loader = new Loader<>(false);
+			//Paths involved in an in-flight operation are skipped
+			if (loaders.putIfAbsent(path, loader) != null) {
+				return null;
+			}
+			R item = null;
+			try {
+				IndexedResources<R> indexedResources = this.indexedResources;
+				item = indexedResources.resources.remove(path);
+				if (item != null) {
+					indexedResources.index.remove(path);
+					release(item);
+					bounds.onRemoved(this, path);
 				}
+			} finally {
+				loaders.remove(path, loader);
+				loader.complete(null);
 			}
-			return count;
+			if ((itemDestroyer != null) && (item != null)) {
+				itemDestroyer.accept(path, item);
+			}
+			return item;
+		}
+
+		public int getLoadedResourcesCount() {
+			return indexedResources.resources.size();
+		}
+
+		public Statistics.Snapshot getStatistics() {
+			return statistics.snapshot(indexedResources.resources.size());
 		}
 
 		private QueuedTaskExecutor.Task clearInBackground(boolean destroyItems) {
-			Map<Long, Map<String, Map<String, R>>> partitions;
-			synchronized (this.resources) {
-				partitions = this.resources;
-				this.resources = new ConcurrentHashMap<>();
+			IndexedResources<R> indexedResources;
+			synchronized (this) {
+				indexedResources = this.indexedResources;
+				this.indexedResources = new IndexedResources<>();
+				if (bounds != null) {
+					bounds.onCleared(this);
+				}
 			}
 			return BackgroundExecutor.createTask(task -> {
-				clearResources(partitions, destroyItems);
+				clearResources(indexedResources.resources, destroyItems);
 			}).submit();
 		}
 
-		void clearResources(Map<Long, Map<String, Map<String, R>>> partitions, boolean destroyItems) {
-			for (Entry<Long, Map<String, Map<String, R>>> partition : partitions.entrySet()) {
-				for (Entry<String, Map<String, R>> nestedPartition : partition.getValue().entrySet()) {
-					if ((itemDestroyer != null) && destroyItems) {
-						IterableObjectHelper.deepClear(nestedPartition.getValue(), (path, resource) -> {
-							this.itemDestroyer.accept(path, resource);
-						});
-					} else {
-						nestedPartition.getValue().clear();
-					}
+		void clearResources(Map<String, R> resources, boolean destroyItems) {
+			if (releaser != null) {
+				for (R resource : resources.values()) {
+					release(resource);
 				}
-				partition.getValue().clear();
 			}
-			partitions.clear();
+			if ((itemDestroyer != null) && destroyItems) {
+				IterableObjectHelper.deepClear(resources, (path, resource) -> {
+					this.itemDestroyer.accept(path, resource);
+				});
+			} else {
+				resources.clear();
+			}
 		}
 
 		public void iterate(BiConsumer<String, R> itemConsumer) {
@@ -406,6 +910,16 @@ public class Cache {
 			iterate(true, itemConsumer, new AtomicReference<>());
 		}
 
+		public void iterateUnder(String path, BiConsumer<String, R> itemConsumer) {
+			IndexedResources<R> indexedResources = this.indexedResources;
+			for (String indexedPath : indexedResources.index.collect(path)) {
+				R resource = indexedResources.resources.get(indexedPath);
+				if (resource != null) {
+					itemConsumer.accept(indexedPath, resource);
+				}
+			}
+		}
+
 		void iterate(
 			boolean parallel,
 			BiConsumer<String, R> itemConsumer,
@@ -413,30 +927,16 @@ public class Cache {
 		) {
 			IterableObjectHelper.iterate(
 				IterationConfig.of(
-					this.resources.entrySet()
-				).withAction(entryOne -> {
-					checkAndThrow(terminateExceptionWrapper);
-					IterableObjectHelper.iterate(
-						IterationConfig.of(
-							entryOne.getValue().entrySet()
-						).withAction(entryTwo -> {
-							checkAndThrow(terminateExceptionWrapper);
-							IterableObjectHelper.iterate(
-								IterationConfig.of(
-									entryTwo.getValue().entrySet()
-								).withAction(entryThree -> {
-									try {
-										itemConsumer.accept(entryThree.getKey(), entryThree.getValue());
-									} catch (org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration exception) {
-										if (exception == org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration.NOTIFICATION) {
-											terminateExceptionWrapper.set(exception);
-										}
-										throw exception;
-									}
-								}).parallelIf(coll -> parallel)
-							);
-						}).parallelIf(coll -> false)
-					);
+					this.indexedResources.resources.entrySet()
+				).withAction(entry -> {
+					try {
+						itemConsumer.accept(entry.getKey(), entry.getValue());
+					} catch (org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration exception) {
+						if (exception == org.burningwave.core.iterable.IterableObjectHelper.TerminateIteration.NOTIFICATION) {
+							terminateExceptionWrapper.set(exception);
+						}
+						throw exception;
+					}
 				}).parallelIf(coll -> parallel)
 			);
 		}
@@ -450,6 +950,552 @@ public class Cache {
 
 	}
 
+	static class IndexedResources<R> {
+		final Map<String, R> resources;
+		final PathIndex index;
+
+		IndexedResources() {
+			this.resources = new ConcurrentHashMap<>();
+			this.index = new PathIndex();
+		}
+
+	}
+
+	//Index of the paths sorted by name: it is used only by the operations on a whole subtree, since the resources are
+	//retrieved by path directly from the resources map. The paths under a path are the ones that start with the path
+	//followed by a slash, so they are contiguous and they are reached without locking in time proportional to their count
+	static class PathIndex {
+		NavigableSet<String> paths;
+
+		PathIndex() {
+			paths = new ConcurrentSkipListSet<>();
+		}
+
+		void add(String path) {
+			paths.add(path);
+		}
+
+		void remove(String path) {
+			paths.remove(path);
+		}
+
+		Collection<String> collect(String path) {
+			Collection<String> collectedPaths = new ArrayList<>();
+			if (paths.contains(path)) {
+				collectedPaths.add(path);
+			}
+			String prefix = path + "/";
+			for (String indexedPath : paths.tailSet(prefix)) {
+				if (!indexedPath.startsWith(prefix)) {
+					break;
+				}
+				collectedPaths.add(indexedPath);
+			}
+			return collectedPaths;
+		}
+
+		Collection<String> detach(String path) {
+			Collection<String> detachedPaths = collect(path);
+			for (String detachedPath : detachedPaths) {
+				paths.remove(detachedPath);
+			}
+			return detachedPaths;
+		}
+
+	}
+
+	static class Loader<R> extends CompletableFuture<R> {
+		final java.lang.Thread owner;
+		final boolean isLoading;
+
+		Loader(boolean isLoading) {
+			this.owner = java.lang.Thread.currentThread();
+			this.isLoading = isLoading;
+		}
+
+		boolean isOwnedByCurrentThread() {
+			return owner == java.lang.Thread.currentThread();
+		}
+
+		R await() {
+			try {
+				R resource = join();
+				return isLoading ? resource : null;
+			} catch (Throwable exc) {
+				//The exception is thrown to the owner of the loader: the waiting threads will retry
+				return null;
+			}
+		}
+
+	}
+
+	public static class Bounds<R> {
+		String name;
+		long maxEntryCount;
+		long maxWeight;
+		ToLongFunction<R> weigher;
+		Set<PathForResources<R>> owners;
+		AtomicLong entryCount;
+		AtomicLong weight;
+		AtomicLong evictedEntryCount;
+		AtomicBoolean evicting;
+		volatile QueuedTaskExecutor.Task evictionTask;
+
+		private Bounds(String name, long maxEntryCount, long maxWeight, ToLongFunction<R> weigher) {
+			this.name = name;
+			this.maxEntryCount = maxEntryCount > 0 ? maxEntryCount : Long.MAX_VALUE;
+			this.maxWeight = maxWeight > 0 ? maxWeight : Long.MAX_VALUE;
+			this.weigher = weigher != null ? weigher : item -> 1L;
+			//The owners are weakly referenced since the ones anchored to a weak key must not be kept alive by the bounds
+			this.owners = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+			this.entryCount = new AtomicLong();
+			this.weight = new AtomicLong();
+			this.evictedEntryCount = new AtomicLong();
+			this.evicting = new AtomicBoolean();
+		}
+
+		public static <R> Bounds<R> create(String name, long maxEntryCount, long maxWeight, ToLongFunction<R> weigher) {
+			if ((maxEntryCount <= 0) && (maxWeight <= 0)) {
+				return null;
+			}
+			return new Bounds<>(name, maxEntryCount, maxWeight, weigher);
+		}
+
+		static <R> Bounds<R> create(String name, Map<?, ?> config) {
+			return create(name, config, null);
+		}
+
+		static <R> Bounds<R> create(String name, Map<?, ?> config, ToLongFunction<R> weigher) {
+			Bounds<R> bounds = create(
+				name,
+				toLong(resolveValue(config, Strings.compile(Configuration.Key.MAX_ENTRY_COUNT, name))),
+				toLong(resolveValue(config, Strings.compile(Configuration.Key.MAX_WEIGHT, name))),
+				weigher
+			);
+			if (bounds != null) {
+				ManagedLoggerRepository.logInfo(
+					Cache.class::getName,
+					"Cache region '{}' bounded to {} entries and {} of weight",
+					name,
+					bounds.maxEntryCount != Long.MAX_VALUE ? bounds.maxEntryCount : "unlimited",
+					bounds.maxWeight != Long.MAX_VALUE ? bounds.maxWeight : "unlimited"
+				);
+			}
+			return bounds;
+		}
+
+		private static String resolveValue(Map<?, ?> config, String key) {
+			return IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(key)
+				.on(config)
+			);
+		}
+
+		private static long toLong(String value) {
+			if ((value == null) || (value = value.trim()).isEmpty() || value.equalsIgnoreCase("unlimited")) {
+				return -1L;
+			}
+			try {
+				return Long.valueOf(value);
+			} catch (NumberFormatException exc) {
+				if (value.length() > 2) {
+					String unit = value.substring(value.length() - 2);
+					String number = value.substring(0, value.length() - 2).trim();
+					try {
+						if (unit.equalsIgnoreCase("KB")) {
+							return new BigDecimal(number).multiply(new BigDecimal(1024)).longValue();
+						} else if (unit.equalsIgnoreCase("MB")) {
+							return new BigDecimal(number).multiply(new BigDecimal(1024 * 1024)).longValue();
+						} else if (unit.equalsIgnoreCase("GB")) {
+							return new BigDecimal(number).multiply(new BigDecimal(1024 * 1024 * 1024)).longValue();
+						}
+					} catch (NumberFormatException numberFormatException) {
+						//The exception below is thrown
+					}
+				}
+				throw new IllegalArgumentException(
+					Strings.compile(
+						"Invalid cache bound '{}': a number optionally followed by KB, MB or GB or the value 'unlimited' is expected",
+						value
+					),
+					exc
+				);
+			}
+		}
+
+		void register(PathForResources<R> owner) {
+			owners.add(owner);
+		}
+
+		void unregister(PathForResources<R> owner) {
+			if (owners.remove(owner)) {
+				onCleared(owner);
+			}
+		}
+
+		void onAdded(PathForResources<R> owner, String path, R item) {
+			Node node = new Node(weigher.applyAsLong(item));
+			Node oldNode = owner.boundedNodes.put(path, node);
+			if (oldNode != null) {
+				weight.addAndGet(node.weight - oldNode.weight);
+			} else {
+				entryCount.incrementAndGet();
+				weight.addAndGet(node.weight);
+			}
+		}
+
+		void onAccessed(PathForResources<R> owner, String path) {
+			Node node = owner.boundedNodes.get(path);
+			if (node != null) {
+				node.lastAccessTime = System.nanoTime();
+			}
+		}
+
+		void onRemoved(PathForResources<R> owner, String path) {
+			Node node = owner.boundedNodes.remove(path);
+			if (node != null) {
+				entryCount.decrementAndGet();
+				weight.addAndGet(-node.weight);
+			}
+		}
+
+		void onCleared(PathForResources<R> owner) {
+			onCleared(owner.boundedNodes);
+		}
+
+		//The nodes are removed one by one instead of replacing the map since it could be referenced by a weak key
+		void onCleared(Map<String, Node> nodes) {
+			for (String path : nodes.keySet()) {
+				Node node = nodes.remove(path);
+				if (node != null) {
+					entryCount.decrementAndGet();
+					weight.addAndGet(-node.weight);
+				}
+			}
+		}
+
+		boolean isExceeded() {
+			return (entryCount.get() > maxEntryCount) || (weight.get() > maxWeight);
+		}
+
+		//The eviction is executed in background so that the loading threads neither pay the cost of sorting the entries
+		//nor execute the item destroyers: the limits can be exceeded until the eviction ends
+		void evictIfNeeded() {
+			if (!isExceeded() || !evicting.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				evictionTask = BackgroundExecutor.createTask(task -> {
+					evict();
+				}).submit();
+			} catch (Throwable exc) {
+				evicting.set(false);
+				ManagedLoggerRepository.logError(Cache.class::getName, "Exception occurred while submitting the eviction of cache region '" + name + "'", exc);
+			}
+		}
+
+		void waitForEviction() {
+			QueuedTaskExecutor.Task evictionTask;
+			while ((evictionTask = this.evictionTask) != null && !evictionTask.hasFinished()) {
+				evictionTask.waitForFinish();
+			}
+		}
+
+		private void evict() {
+			boolean evicted = false;
+			try {
+				//Evicting in batch down to 90% of the limits so that the cost of sorting is shared among the next insertions
+				long targetEntryCount = maxEntryCount - (maxEntryCount / 10);
+				long targetWeight = maxWeight - (maxWeight / 10);
+				List<EvictionCandidate<R>> candidates = new ArrayList<>();
+				Collection<PathForResources<R>> owners;
+				synchronized (this.owners) {
+					owners = new ArrayList<>(this.owners);
+				}
+				for (PathForResources<R> owner : owners) {
+					for (Entry<String, Node> pathAndNode : owner.boundedNodes.entrySet()) {
+						candidates.add(new EvictionCandidate<>(owner, pathAndNode.getKey(), pathAndNode.getValue().lastAccessTime));
+					}
+				}
+				candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccessTime));
+				for (EvictionCandidate<R> candidate : candidates) {
+					if ((entryCount.get() <= targetEntryCount) && (weight.get() <= targetWeight)) {
+						break;
+					}
+					if (candidate.owner.evict(candidate.path) != null) {
+						evicted = true;
+						evictedEntryCount.incrementAndGet();
+						candidate.owner.statistics.evictionCount.increment();
+					}
+				}
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(Cache.class::getName, "Exception occurred while evicting entries from cache region '" + name + "'", exc);
+			} finally {
+				evicting.set(false);
+			}
+			//The entries added during the eviction could have exceeded the limits again: if nothing could be evicted the
+			//next insertion retries
+			if (evicted) {
+				evictIfNeeded();
+			}
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getMaxEntryCount() {
+			return maxEntryCount;
+		}
+
+		public long getMaxWeight() {
+			return maxWeight;
+		}
+
+		public long getEntryCount() {
+			return entryCount.get();
+		}
+
+		public long getWeight() {
+			return weight.get();
+		}
+
+		public long getEvictedEntryCount() {
+			return evictedEntryCount.get();
+		}
+
+		static class Node {
+			final long weight;
+			volatile long lastAccessTime;
+
+			Node(long weight) {
+				this.weight = weight;
+				this.lastAccessTime = System.nanoTime();
+			}
+		}
+
+		static class EvictionCandidate<R> {
+			final PathForResources<R> owner;
+			final String path;
+			final long lastAccessTime;
+
+			EvictionCandidate(PathForResources<R> owner, String path, long lastAccessTime) {
+				this.owner = owner;
+				this.path = path;
+				this.lastAccessTime = lastAccessTime;
+			}
+		}
+	}
+
+
+	//The counters are striped so that recording them on the hot path is cheap even under contention
+	public static class Statistics {
+		final LongAdder hitCount;
+		final LongAdder missCount;
+		final LongAdder loadCount;
+		final LongAdder totalLoadTime;
+		final LongAdder evictionCount;
+
+		Statistics() {
+			this.hitCount = new LongAdder();
+			this.missCount = new LongAdder();
+			this.loadCount = new LongAdder();
+			this.totalLoadTime = new LongAdder();
+			this.evictionCount = new LongAdder();
+		}
+
+		Snapshot snapshot(long size) {
+			return new Snapshot(
+				hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTime.sum(), evictionCount.sum(), size
+			);
+		}
+
+		public static class Snapshot {
+			private final long hitCount;
+			private final long missCount;
+			private final long loadCount;
+			private final long totalLoadTime;
+			private final long evictionCount;
+			private final long size;
+
+			Snapshot(long hitCount, long missCount, long loadCount, long totalLoadTime, long evictionCount, long size) {
+				this.hitCount = hitCount;
+				this.missCount = missCount;
+				this.loadCount = loadCount;
+				this.totalLoadTime = totalLoadTime;
+				this.evictionCount = evictionCount;
+				this.size = size;
+			}
+
+			public long getHitCount() {
+				return hitCount;
+			}
+
+			public long getMissCount() {
+				return missCount;
+			}
+
+			public double getHitRate() {
+				long requestCount = hitCount + missCount;
+				return requestCount > 0 ? (double)hitCount / requestCount : 1D;
+			}
+
+			public long getLoadCount() {
+				return loadCount;
+			}
+
+			//In nanoseconds
+			public long getTotalLoadTime() {
+				return totalLoadTime;
+			}
+
+			//In nanoseconds
+			public long getAverageLoadTime() {
+				return loadCount > 0 ? totalLoadTime / loadCount : 0L;
+			}
+
+			public long getEvictionCount() {
+				return evictionCount;
+			}
+
+			public long getSize() {
+				return size;
+			}
+
+			@Override
+			public String toString() {
+				return Strings.compile(
+					"size: {}, hits: {}, misses: {}, hit rate: {}%, loads: {}, average load time: {} ns, evictions: {}",
+					size, hitCount, missCount, String.format("%.2f", getHitRate() * 100), loadCount,
+					getAverageLoadTime(), evictionCount
+				);
+			}
+
+		}
+
+	}
+
+	public static interface StatisticsMXBean {
+
+		public long getHitCount();
+
+		public long getMissCount();
+
+		public double getHitRate();
+
+		public long getLoadCount();
+
+		public long getTotalLoadTime();
+
+		public long getAverageLoadTime();
+
+		public long getEvictionCount();
+
+		public long getSize();
+
+	}
+
+	static class StatisticsMXBeanImpl implements StatisticsMXBean {
+		private final Supplier<Statistics.Snapshot> statisticsSupplier;
+
+		StatisticsMXBeanImpl(Supplier<Statistics.Snapshot> statisticsSupplier) {
+			this.statisticsSupplier = statisticsSupplier;
+		}
+
+		@Override
+		public long getHitCount() {
+			return statisticsSupplier.get().getHitCount();
+		}
+
+		@Override
+		public long getMissCount() {
+			return statisticsSupplier.get().getMissCount();
+		}
+
+		@Override
+		public double getHitRate() {
+			return statisticsSupplier.get().getHitRate();
+		}
+
+		@Override
+		public long getLoadCount() {
+			return statisticsSupplier.get().getLoadCount();
+		}
+
+		@Override
+		public long getTotalLoadTime() {
+			return statisticsSupplier.get().getTotalLoadTime();
+		}
+
+		@Override
+		public long getAverageLoadTime() {
+			return statisticsSupplier.get().getAverageLoadTime();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return statisticsSupplier.get().getEvictionCount();
+		}
+
+		@Override
+		public long getSize() {
+			return statisticsSupplier.get().getSize();
+		}
+
+	}
+
+	public Map<String, Statistics.Snapshot> getStatistics() {
+		Map<String, Statistics.Snapshot> statistics = new LinkedHashMap<>();
+		for (Entry<String, Supplier<Statistics.Snapshot>> region : regionStatistics.entrySet()) {
+			statistics.put(region.getKey(), region.getValue().get());
+		}
+		return statistics;
+	}
+
+	public void logStatistics() {
+		StringBuilder log = new StringBuilder("Cache statistics:");
+		for (Entry<String, Statistics.Snapshot> regionStatistics : getStatistics().entrySet()) {
+			log.append("\n\t").append(regionStatistics.getKey()).append(" - ").append(regionStatistics.getValue());
+		}
+		ManagedLoggerRepository.logInfo(getClass()::getName, log.toString());
+	}
+
+	private void registerStatisticsMXBeans() {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		for (Entry<String, Supplier<Statistics.Snapshot>> region : regionStatistics.entrySet()) {
+			try {
+				ObjectName objectName = new ObjectName(
+					"org.burningwave.core:type=Cache,id=" + Integer.toHexString(System.identityHashCode(this)) + ",region=" + region.getKey()
+				);
+				if (!mBeanServer.isRegistered(objectName)) {
+					mBeanServer.registerMBean(new StatisticsMXBeanImpl(region.getValue()), objectName);
+				}
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Could not register statistics MXBean of cache region '{}': {}", region.getKey(), exc.getMessage());
+			}
+		}
+	}
+
+	private void startStatisticsLogging(long interval) {
+		BackgroundExecutor.scheduleWithFixedDelay(this::logStatistics, interval, interval, java.lang.Thread.MIN_PRIORITY);
+	}
+
+	//The reference queues are polled also on access: the periodic drain purges the collected keys of the regions that
+	//are no longer accessed
+	private void startWeakKeysPurging(long interval) {
+		BackgroundExecutor.scheduleWithFixedDelay(this::purgeCollectedKeys, interval, interval, java.lang.Thread.MIN_PRIORITY);
+	}
+
+	public long purgeCollectedKeys() {
+		return classLoaderForFields.purge() +
+			classLoaderForMethods.purge() +
+			classLoaderForConstructors.purge() +
+			uniqueKeyForFields.purge() +
+			uniqueKeyForMethods.purge() +
+			uniqueKeyForConstructors.purge() +
+			bindedFunctionalInterfaces.purge() +
+			uniqueKeyForExecutableAndMethodHandle.purge();
+	}
 
 	public void clear(boolean destroyItems, Object... excluded) {
 		Set<Object> toBeExcluded = (excluded != null) && (excluded.length > 0) ?
@@ -63,7 +63,7 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 	private LoggingLevel.Mutable getLoggerEnabledFlag(String clientName) {
 		LoggingLevel.Mutable loggerEnabledFlag = loggers.get(clientName);
 		if (loggerEnabledFlag == null) {
-			loggerEnabledFlag = Synchronizer.execute(instanceId + "_" + clientName, () -> {
+			loggerEnabledFlag = Synchronizer.execute(this, clientName, () -> {
 				LoggingLevel.Mutable loggerEnabledFlagTemp = loggers.get(clientName);
 				if (loggerEnabledFlagTemp == null) {
 					loggers.put(clientName, loggerEnabledFlagTemp = new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED));
@@ -402,7 +402,7 @@ public class ComponentContainer implements ComponentSupplier, Properties.Listene
 			if (component != null) {
 				return component;
 			}
-			return Synchronizer.execute(getMutexForComponentsId() + "_" + cls.getName(), () -> {
+			return Synchronizer.execute(this, cls, () -> {
 				T componentTemp;
 				if ((componentTemp = (T)components.get(cls)) == null) {
 					components.put(cls, componentTemp = (T)componentSupplier.get());
@@ -51,6 +51,7 @@ import java.util.function.Predicate;
 import org.burningwave.core.Component;
 import org.burningwave.core.ManagedLogger;
 import org.burningwave.core.classes.MemoryClassLoader;
+import org.burningwave.core.concurrent.TasksCreationTracker;
 import org.burningwave.core.concurrent.TasksMonitorer;
 import org.burningwave.core.function.Executor;
 import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
@@ -68,17 +69,27 @@ public class StaticComponentContainer {
 			private static final String BANNER_ADDITIONAL_INFORMATIONS_RETRIEVE_FROM_MANIFEST_FILE_WITH_IMPLEMENTATION_TITLE = "banner.additonal-informations.retrieve-from-manifest-file-with-implementation-title";
 			private static final String BANNER_ADDITIONAL_INFORMATIONS = "banner.additonal-informations";
 			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED = "background-executor.task-creation-tracking.enabled";
+			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE = "background-executor.task-creation-tracking.sampling-rate";
+			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MAX_STACK_DEPTH = "background-executor.task-creation-tracking.max-stack-depth";
+			private static final String BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MINIMUM_WAITING_TIME = "background-executor.task-creation-tracking.minimum-waiting-time";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED = "background-executor.all-tasks-monitoring.enabled";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_MINIMUM_ELAPSED_TIME_TO_CONSIDER_A_TASK_AS_PROBABLE_DEAD_LOCKED = "background-executor.all-tasks-monitoring.minimum-elapsed-time-to-consider-a-task-as-probable-dead-locked";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_LOGGER_ENABLED = "background-executor.all-tasks-monitoring.logger.enabled";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_INTERVAL = "background-executor.all-tasks-monitoring.interval";
 			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_PROBABLE_DEAD_LOCKED_TASKS_HANDLING_POLICY = "background-executor.all-tasks-monitoring.probable-dead-locked-tasks-handling.policy";
+			private static final String BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_QUEUED_TASKS_ALERT_THRESHOLD = "background-executor.all-tasks-monitoring.queued-tasks-alert-threshold";
+			private static final String BACKGROUND_EXECUTOR_WORK_STEALING_ENABLED = "background-executor.work-stealing.enabled";
+			private static final String BACKGROUND_EXECUTOR_QUEUE_CAPACITY = "background-executor.queue.capacity";
+			private static final String BACKGROUND_EXECUTOR_QUEUE_OVERFLOW_POLICY = "background-executor.queue.overflow-policy";
 			private static final String JVM_DRIVER_TYPE = "jvm.driver.type";
 			private static final String JVM_DRIVER_INIT = "jvm.driver.init";
 			private static final String MODULES_EXPORT_ALL_TO_ALL = "modules.export-all-to-all";
 			private static final String RESOURCE_RELEASER_ENABLED = "resource-releaser.enabled";
 			private static final String SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED = "synchronizer.all-threads-monitoring.enabled";
 			private static final String SYNCHRONIZER_ALL_THREADS_MONITORING_INTERVAL = "synchronizer.all-threads-monitoring.interval";
+			private static final String SYNCHRONIZER_MUTEXES_STRIPE_COUNT = "synchronizer.mutexes.stripe-count";
+			private static final String SYNCHRONIZER_CONTENTION_TRACKING_ENABLED = "synchronizer.contention-tracking.enabled";
+			private static final String SYNCHRONIZER_REENTRANT_LOCKS_ENABLED = "synchronizer.reentrant-locks.enabled";
 
 		}
 
@@ -110,6 +121,21 @@ public class StaticComponentContainer {
 					90000
 				);
 
+				defaultValues.put(
+					Key.SYNCHRONIZER_MUTEXES_STRIPE_COUNT,
+					0
+				);
+
+				defaultValues.put(
+					Key.SYNCHRONIZER_CONTENTION_TRACKING_ENABLED,
+					false
+				);
+
+				defaultValues.put(
+					Key.SYNCHRONIZER_REENTRANT_LOCKS_ENABLED,
+					false
+				);
+
 				defaultValues.put(
 					Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED,
 					true
@@ -131,16 +157,51 @@ public class StaticComponentContainer {
 					"log only"
 				);
 
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_QUEUED_TASKS_ALERT_THRESHOLD,
+					1000
+				);
+
 				defaultValues.put(
 					Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED,
 					"${" + Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_ENABLED +"}"
 				);
 
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE,
+					1
+				);
+
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MAX_STACK_DEPTH,
+					32
+				);
+
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MINIMUM_WAITING_TIME,
+					0
+				);
+
 				defaultValues.put(
 					Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_LOGGER_ENABLED,
 					false
 				);
 
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_WORK_STEALING_ENABLED,
+					false
+				);
+
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_QUEUE_CAPACITY,
+					2000
+				);
+
+				defaultValues.put(
+					Key.BACKGROUND_EXECUTOR_QUEUE_OVERFLOW_POLICY,
+					"block"
+				);
+
 				defaultValues.put(
 					Key.RESOURCE_RELEASER_ENABLED,
 					true
@@ -248,6 +309,7 @@ public class StaticComponentContainer {
 			properties.putAll(org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.ManagedLogger.Repository.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.concurrent.Thread.Supplier.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.Cache.Configuration.DEFAULT_VALUES);
 			properties.putAll(Configuration.Default.VALUES);
 			Configuration.Default.FILE_NAME = Collections.unmodifiableMap(Configuration.Default.FILE_NAME);
 			String configFileName = Configuration.Default.FILE_NAME.get("file-name");
@@ -301,6 +363,10 @@ public class StaticComponentContainer {
 										)
 									)
 								);
+							} else if (keyAsString.startsWith(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED.substring(0, Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED.lastIndexOf(".")))) {
+								BackgroundExecutor.setTasksCreationTrackingConfig(
+									StaticComponentContainer.retrieveTasksCreationTrackingConfig()
+								);
 							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED)) {
 								if (Objects.toBoolean(config.resolveValue(Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_ENABLED))) {
 									Synchronizer.startAllThreadsMonitoring(
@@ -313,6 +379,22 @@ public class StaticComponentContainer {
 								} else {
 									Synchronizer.stopAllThreadsMonitoring();
 								}
+							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_REENTRANT_LOCKS_ENABLED)) {
+								Synchronizer.setReentrantLocksFlag(
+									Objects.toBoolean(
+										config.resolveValue(
+											Configuration.Key.SYNCHRONIZER_REENTRANT_LOCKS_ENABLED
+										)
+									)
+								);
+							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_CONTENTION_TRACKING_ENABLED)) {
+								Synchronizer.setContentionTrackingFlag(
+									Objects.toBoolean(
+										config.resolveValue(
+											Configuration.Key.SYNCHRONIZER_CONTENTION_TRACKING_ENABLED
+										)
+									)
+								);
 							} else if (keyAsString.equals(Configuration.Key.SYNCHRONIZER_ALL_THREADS_MONITORING_INTERVAL)) {
 								Synchronizer.startAllThreadsMonitoring(
 									Objects.toLong(
@@ -353,8 +435,13 @@ public class StaticComponentContainer {
 			);
 			Synchronizer = org.burningwave.core.concurrent.Synchronizer.create(
 				Optional.ofNullable(IterableObjectHelper.resolveStringValue(onGlobalPropertiesforNamedKey(Configuration.Key.GROUP_NAME_FOR_NAMED_ELEMENTS))).map(nm -> nm + " - ").orElseGet(() -> "") + "Synchronizer",
-				true
+				true,
+				Objects.toInt(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.SYNCHRONIZER_MUTEXES_STRIPE_COUNT))),
+				Objects.toBoolean(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.SYNCHRONIZER_REENTRANT_LOCKS_ENABLED)))
 			);
+			if (Objects.toBoolean(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.SYNCHRONIZER_CONTENTION_TRACKING_ENABLED)))) {
+				Synchronizer.setContentionTrackingFlag(true);
+			}
 			if (Objects.toBoolean(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_ENABLED)))) {
 				BackgroundExecutor.setTasksCreationTrackingFlag(true);
 			}
@@ -374,7 +461,7 @@ public class StaticComponentContainer {
 			BufferHandler = org.burningwave.core.jvm.BufferHandler.create(GlobalProperties);
 			Streams = org.burningwave.core.io.Streams.create();
 			Classes = org.burningwave.core.classes.Classes.create();
-			Cache = org.burningwave.core.Cache.create();
+			Cache = org.burningwave.core.Cache.create(GlobalProperties);
 			Members = org.burningwave.core.classes.Members.create();
 			Fields = org.burningwave.core.classes.Fields.create();
 			Constructors = org.burningwave.core.classes.Constructors.create();
@@ -578,6 +665,18 @@ public class StaticComponentContainer {
 			probablyDeadLockedThreadsHandlingPolicy
 		).setTerminateProbableDeadLockedTasksOperation(
 			probablyDeadLockedThreadsHandlingPolicy
+		).setQueuedTasksAlertThreshold(
+			Objects.toInt(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_ALL_TASKS_MONITORING_QUEUED_TASKS_ALERT_THRESHOLD)))
+		);
+	}
+
+	private static final TasksCreationTracker.Config retrieveTasksCreationTrackingConfig() {
+		return new TasksCreationTracker.Config().setSamplingRate(
+			Objects.toInt(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_SAMPLING_RATE)))
+		).setMaxStackDepth(
+			Objects.toInt(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MAX_STACK_DEPTH)))
+		).setMinimumWaitingTime(
+			Objects.toLong(IterableObjectHelper.resolveValue(onGlobalPropertiesforNamedKey(Configuration.Key.BACKGROUND_EXECUTOR_TASK_CREATION_TRACKING_MINIMUM_WAITING_TIME)))
 		);
 	}
 
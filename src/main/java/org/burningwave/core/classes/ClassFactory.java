@@ -370,19 +370,26 @@ public interface ClassFactory {
 				if (classLoader instanceof MemoryClassLoader) {
 					((MemoryClassLoader)classLoader).unregister(this, true);
 				}
-				if (compilationTask != null && compilationTask.abortOrWaitForFinish().isStarted()) {
-					Compilation.Result compilationResult = compilationTask.join();
-					if (compilationResult != null) {
-						compilationResult.close();
-					}
+				JavaMemoryCompiler oneShotJavaCompiler = useOneShotJavaCompiler ? this.compiler : null;
+				ClassPathHelper oneShotClassPathHelper = useOneShotJavaCompiler ? this.classPathHelper : null;
+				//If the compilation is running the resources are released when it completes without keeping this thread waiting
+				if (compilationTask != null && !compilationTask.abort().isAborted()) {
+					compilationTask.whenComplete((compilationResult, exc) -> {
+						if (compilationResult != null) {
+							compilationResult.close();
+						}
+						if (oneShotJavaCompiler != null) {
+							((Closeable)oneShotJavaCompiler).close();
+							((Closeable)oneShotClassPathHelper).close();
+						}
+					});
+				} else if (oneShotJavaCompiler != null) {
+					((Closeable)oneShotJavaCompiler).close();
+					((Closeable)oneShotClassPathHelper).close();
 				}
 				compilationConfigSupplier = null;
 				compilationConfig = null;
 				compilationTask = null;
-				if (useOneShotJavaCompiler) {
-					((Closeable)compiler).close();
-					((Closeable)classPathHelper).close();
-				}
 				compiler = null;
 				classPathHelper = null;
 				classLoader = null;
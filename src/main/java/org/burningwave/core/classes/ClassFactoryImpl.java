@@ -181,7 +181,7 @@ public class ClassFactoryImpl implements ClassFactory, Component {
 
 	@Override
 	public void closeClassRetrievers() {
-		Synchronizer.execute(getOperationId("closeClassRetrievers"), () -> {
+		Synchronizer.execute(this, "closeClassRetrievers", () -> {
 			Collection<ClassRetriever> classRetrievers = this.classRetrievers;
 			if (classRetrievers != null) {
 				Iterator<ClassRetriever> classRetrieverIterator = classRetrievers.iterator();
@@ -34,7 +34,6 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Synchroniz
 import java.util.function.Supplier;
 
 import org.burningwave.core.Closeable;
-import org.burningwave.core.concurrent.Synchronizer.Mutex;
 
 @SuppressWarnings("unchecked")
 class ClassLoaderManager<C extends ClassLoader> implements Closeable {
@@ -59,56 +58,52 @@ class ClassLoaderManager<C extends ClassLoader> implements Closeable {
 		C classLoaderTemp = null;
 		Supplier<C> defaultClassLoaderSupplier = this.classLoaderSupplier;
 		if (defaultClassLoaderSupplier != null && (classLoaderTemp = defaultClassLoaderSupplier.get()) != classLoader) {
-			try (Mutex mutex = Synchronizer.getMutex(getOperationId("getDefaultClassLoader"));) {
-				synchronized(mutex) {
-					defaultClassLoaderSupplier = this.classLoaderSupplier;
-					if (defaultClassLoaderSupplier != null && (classLoaderTemp = defaultClassLoaderSupplier.get()) != classLoader) {
-						ClassLoader oldClassLoader = this.classLoader;
-						if (oldClassLoader != null && oldClassLoader instanceof MemoryClassLoader) {
-							((MemoryClassLoader)oldClassLoader).unregister(this, true);
-						}
-						if (classLoaderTemp instanceof MemoryClassLoader) {
-							try {
-								((MemoryClassLoader)classLoaderTemp).register(this);
-								((MemoryClassLoader)classLoaderTemp).register(client);
-							} catch (IllegalStateException exc) {
-								ManagedLoggerRepository.logWarn(getClass()::getName, "Could not register {} to {} because it is closed", this, classLoaderTemp);
-								classLoaderTemp = get(client);
-							}
+			C suppliedClassLoader = classLoaderTemp;
+			return Synchronizer.execute(this, "getDefaultClassLoader", () -> {
+				C newClassLoader = suppliedClassLoader;
+				Supplier<C> classLoaderSupplier = this.classLoaderSupplier;
+				if (classLoaderSupplier != null && (newClassLoader = classLoaderSupplier.get()) != classLoader) {
+					ClassLoader oldClassLoader = this.classLoader;
+					if (oldClassLoader != null && oldClassLoader instanceof MemoryClassLoader) {
+						((MemoryClassLoader)oldClassLoader).unregister(this, true);
+					}
+					if (newClassLoader instanceof MemoryClassLoader) {
+						try {
+							((MemoryClassLoader)newClassLoader).register(this);
+							((MemoryClassLoader)newClassLoader).register(client);
+						} catch (IllegalStateException exc) {
+							ManagedLoggerRepository.logWarn(getClass()::getName, "Could not register {} to {} because it is closed", this, newClassLoader);
+							newClassLoader = get(client);
 						}
-						this.classLoader = classLoaderTemp;
 					}
+					this.classLoader = newClassLoader;
 				}
-			}
-			return classLoaderTemp;
+				return newClassLoader;
+			});
 		}
 		if (classLoader == null) {
-			try (Mutex mutex = Synchronizer.getMutex(getOperationId("getDefaultClassLoader"));) {
-				synchronized(mutex) {
-					if (classLoader == null) {
-						Object defaultClassLoaderOrDefaultClassLoaderSupplier =
-							((Supplier<?>)this.classLoaderOrClassLoaderSupplier).get();
-						if (defaultClassLoaderOrDefaultClassLoaderSupplier instanceof PathScannerClassLoader) {
-							this.classLoader = (C)defaultClassLoaderOrDefaultClassLoaderSupplier;
-							((MemoryClassLoader)classLoader).register(this);
-							((MemoryClassLoader)classLoader).register(client);
-							return classLoader;
-						} else if (defaultClassLoaderOrDefaultClassLoaderSupplier instanceof Supplier) {
-							this.classLoaderSupplier = (Supplier<C>) defaultClassLoaderOrDefaultClassLoaderSupplier;
-							return get(client);
-						}
-					} else {
-						return classLoader;
+			return Synchronizer.execute(this, "getDefaultClassLoader", () -> {
+				if (classLoader == null) {
+					Object defaultClassLoaderOrDefaultClassLoaderSupplier =
+						((Supplier<?>)this.classLoaderOrClassLoaderSupplier).get();
+					if (defaultClassLoaderOrDefaultClassLoaderSupplier instanceof PathScannerClassLoader) {
+						this.classLoader = (C)defaultClassLoaderOrDefaultClassLoaderSupplier;
+						((MemoryClassLoader)classLoader).register(this);
+						((MemoryClassLoader)classLoader).register(client);
+					} else if (defaultClassLoaderOrDefaultClassLoaderSupplier instanceof Supplier) {
+						this.classLoaderSupplier = (Supplier<C>) defaultClassLoaderOrDefaultClassLoaderSupplier;
+						return get(client);
 					}
 				}
-			}
+				return classLoader;
+			});
 		}
 		return classLoader;
 	}
 
 
 	void reset() {
-		Synchronizer.execute(getOperationId("getDefaultClassLoader"), () -> {
+		Synchronizer.execute(this, "getDefaultClassLoader", () -> {
 			C classLoader = this.classLoader;
 			if (classLoader != null) {
 				this.classLoaderSupplier = null;
@@ -37,6 +37,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.SourceCodeHandler;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -327,7 +328,7 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 		Map<String, String> classPaths = new HashMap<>();
 		Collection<FileSystemItem> effectiveClassPaths = callRepositoriesSupplier.apply(classRepositories);
 
-		Collection<QueuedTaskExecutor.ProducerTask<String>> pathsCreationTasks = new HashSet<>();
+		Collection<QueuedTaskExecutor.ProducerTask<String>> pathsCreationTasks = new ArrayList<>();
 
 		if (pathsToBeRefreshedPredicate == null) {
 			pathsToBeRefreshedPredicate = fileSystemItem -> false;
@@ -351,7 +352,7 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 									new File(copy.getAbsolutePath()).renameTo(target);
 									return Paths.clean(target.getAbsolutePath());
 								});
-								pathsCreationTasks.add(tsk.submit());
+								pathsCreationTasks.add(tsk);
 							}
 							classPaths.put(
 								fsObject.getAbsolutePath(),
@@ -366,8 +367,10 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 				}
 			}
 		}
+		QueuedTaskExecutor.Batch<QueuedTaskExecutor.ProducerTask<String>> pathsCreationTasksBatch =
+			BackgroundExecutor.submitAll(pathsCreationTasks);
 		return () -> {
-			pathsCreationTasks.stream().forEach(pathsCreationTask -> pathsCreationTask.join());
+			pathsCreationTasksBatch.joinAll();
 			return classPaths;
 		};
 	}
@@ -215,7 +215,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 					searchConfig.getAllFileFilters(currentScannedPath)
 				);
 			} else {
-				return Synchronizer.execute(pathScannerClassLoader.instanceId + "_" + currentScannedPath.getAbsolutePath(), () -> {
+				return Synchronizer.execute(pathScannerClassLoader, currentScannedPath.getAbsolutePath(), () -> {
 					Boolean loadPathCompletely = null;
 					FileSystemItem.Criteria allFileFiltersInternal = allFileFilters;
 					if (searchConfig.getRefreshPathIf().test(currentScannedPath) ||
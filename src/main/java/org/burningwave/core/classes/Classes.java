@@ -61,12 +61,14 @@ import java.security.ProtectionDomain;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -347,7 +349,8 @@ public class Classes implements MembersRetriever {
 			if (builtinClassLoaderClass != null) {
 				this.builtinClassLoaderClassParentField = Fields.findFirstAndMakeItAccessible(builtinClassLoaderClass, "parent", builtinClassLoaderClass);
 			}
-			registeredNotificationListenerOfParentsChange = ConcurrentHashMap.newKeySet();
+			//The listeners are weakly referenced so that the registration doesn't prevent them from being garbage collected
+			registeredNotificationListenerOfParentsChange = Collections.newSetFromMap(new WeakHashMap<>());
 
 			//Preload required for the setAsMaster method
 			@SuppressWarnings("unused")
@@ -366,7 +369,11 @@ public class Classes implements MembersRetriever {
 		}
 
 		private void notifyParentsChange(ChangeParentsContext context) {
-			Iterator<NotificationListenerOfParentsChange> itr = this.registeredNotificationListenerOfParentsChange.iterator();
+			Collection<NotificationListenerOfParentsChange> registeredNotificationListenerOfParentsChange;
+			synchronized (this.registeredNotificationListenerOfParentsChange) {
+				registeredNotificationListenerOfParentsChange = new ArrayList<>(this.registeredNotificationListenerOfParentsChange);
+			}
+			Iterator<NotificationListenerOfParentsChange> itr = registeredNotificationListenerOfParentsChange.iterator();
 			while (itr.hasNext()) {
 				NotificationListenerOfParentsChange listener = itr.next();
 				try {
@@ -847,7 +854,7 @@ public class Classes implements MembersRetriever {
 			    	0, cls.getName().lastIndexOf(".")
 			    );
 			    if (retrieveLoadedPackage(classLoader, pckgName) == null) {
-			    	Synchronizer.execute(classLoader + "_" + pckgName,() -> {
+			    	Synchronizer.execute(classLoader, pckgName, () -> {
 			    		if (retrieveLoadedPackage(classLoader, pckgName) == null) {
 			    			definePackage(classLoader, definePackageMethod, pckgName, null, null, null, null, null, null, null);
 			    		}
@@ -126,6 +126,7 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		String cacheKey = getCacheKey(targetClass, "all constructors by input parameters assignable from", inputParameterTypesOrSubTypes);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		return Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
+			WarmUpPlan.record(WarmUpPlan.Entry.Kind.CONSTRUCTORS, targetClass, null, inputParameterTypesOrSubTypes);
 			ConstructorCriteria criteria = ConstructorCriteria.withoutConsideringParentClasses().parameterTypesAreAssignableFrom(inputParameterTypesOrSubTypes);
 			if (inputParameterTypesOrSubTypes != null && inputParameterTypesOrSubTypes.length == 0) {
 				criteria.or().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs());
@@ -146,6 +147,7 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		Collection<Constructor<?>> members = Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(
 			targetClassClassLoader, cacheKey, () -> {
+				WarmUpPlan.record(WarmUpPlan.Entry.Kind.ALL_CONSTRUCTORS, targetClass, null, (Class<?>[])null);
 				return findAllAndApply(
 					ConstructorCriteria.withoutConsideringParentClasses(), targetClass, (member) ->
 					setAccessible(member, true)
@@ -166,6 +168,7 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		Members.Handler.OfExecutable.Box<Constructor<?>> entry =
 			(Box<Constructor<?>>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
 		if (entry == null) {
+			WarmUpPlan.record(WarmUpPlan.Entry.Kind.CONSTRUCTOR_HANDLE, targetClass, null, inputParameterTypesOrSubTypes);
 			Constructor<?> ctor = findFirstAndMakeItAccessible(targetClass, inputParameterTypesOrSubTypes);
 			entry = findDirectHandleBox(
 				ctor, targetClassClassLoader, cacheKey
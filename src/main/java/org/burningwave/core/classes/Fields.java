@@ -241,8 +241,9 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
 			targetClassClassLoader,
 			cacheKey,
-			() ->
-				findAllAndMakeThemAccessible(
+			() -> {
+				WarmUpPlan.record(WarmUpPlan.Entry.Kind.FIELDS_BY_NAME, targetClass, fieldName, valueType);
+				return findAllAndMakeThemAccessible(
 					FieldCriteria.forEntireClassHierarchy().allThoseThatMatch(field -> {
 						if (valueType == null) {
 							return field.getName().equals(fieldName);
@@ -250,7 +251,8 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 							return field.getName().equals(fieldName) && Classes.isAssignableFrom(field.getType(), valueType);
 						}
 					}), targetClass
-				)
+				);
+			}
 		);
 	}
 
@@ -262,10 +264,12 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
 			targetClassClassLoader,
 			cacheKey,
-			() ->
-				findAllAndMakeThemAccessible(
+			() -> {
+				WarmUpPlan.record(WarmUpPlan.Entry.Kind.ALL_FIELDS, targetClass, null, (Class<?>[])null);
+				return findAllAndMakeThemAccessible(
 					FieldCriteria.forEntireClassHierarchy(), targetClass
-				)
+				);
+			}
 		);
 	}
 
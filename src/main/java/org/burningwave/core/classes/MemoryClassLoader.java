@@ -65,10 +65,11 @@ import org.burningwave.core.io.ByteBufferInputStream;
 
 
 @SuppressWarnings("unchecked")
-public class MemoryClassLoader extends ClassLoader implements Component, org.burningwave.core.classes.Classes.Loaders.NotificationListenerOfParentsChange {
+public class MemoryClassLoader extends ClassLoader implements Component, org.burningwave.core.classes.Classes.Loaders.NotificationListenerOfParentsChange, org.burningwave.core.Cache.Anchor {
 	Map<String, ByteBuffer> notLoadedByteCodes;
 	Map<String, ByteBuffer> loadedByteCodes;
 	Map<Object, Object> clients;
+	Map<Object, Object> anchoredResources;
 	protected boolean isClosed;
 	private boolean markedAsCloseable;
 	String instanceId;
@@ -90,6 +91,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 		this.notLoadedByteCodes = new ConcurrentHashMap<>();
 		this.loadedByteCodes = new ConcurrentHashMap<>();
 		this.clients = new ConcurrentHashMap<>();
+		this.anchoredResources = new ConcurrentHashMap<>();
 		ClassLoaders.registerNotificationListenerOfParentsChange(this);
 		computeAllParents();
 		DebugSupport.register(this);
@@ -232,7 +234,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 		    	0, cls.getName().lastIndexOf(".")
 		    );
 		    if (ClassLoaders.retrieveLoadedPackage(this, pckgName) == null) {
-		    	Synchronizer.execute(instanceId + "_" + pckgName, () -> {
+		    	Synchronizer.execute(this, pckgName, () -> {
 		    		if (ClassLoaders.retrieveLoadedPackage(this, pckgName) == null) {
 		    			definePackage(pckgName, null, null, null, null, null, null, null);
 		    		}
@@ -434,6 +436,11 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 		}, Thread.MIN_PRIORITY).submit();
 	}
 
+	@Override
+	public Map<Object, Object> getAnchoredResources() {
+		return anchoredResources;
+	}
+
 	protected void unregister() {
 		ClassLoaders.unregister(this);
 		ClassLoaders.unregisterNotificationListenerOfParentsChange(this);
@@ -449,7 +456,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 
 	public void register(Object client) {
 		Map<Object, Object> clients = this.clients;
-		if (!Synchronizer.execute(getOperationId("handleClients"), () -> {
+		if (!Synchronizer.execute(this, "handleClients", () -> {
 			if (!isClosed) {
 				clients.put(client, client);
 				return true;
@@ -475,7 +482,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 			markedAsCloseable = markAsCloseable;
 		}
 		Map<Object, Object> clients = this.clients;
-		return Synchronizer.execute(getOperationId("handleClients"), () -> {
+		return Synchronizer.execute(this, "handleClients", () -> {
 			if (!isClosed) {
 				clients.remove(client);
 				if (clients.isEmpty() && (close || markedAsCloseable)) {
@@ -494,7 +501,7 @@ public class MemoryClassLoader extends ClassLoader implements Component, org.bur
 
 	protected QueuedTaskExecutor.Task closeResources() {
 		return closeResources(MemoryClassLoader.class.getName() + "@" + System.identityHashCode(this), () -> isClosed, task -> {
-			if (!Synchronizer.execute(getOperationId("handleClients"), () -> {
+			if (!Synchronizer.execute(this, "handleClients", () -> {
 				Map<Object, Object> clients = this.clients;
 				if (clients != null) {
 					int clientSize = clients.size();
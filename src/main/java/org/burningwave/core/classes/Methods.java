@@ -111,7 +111,12 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		String methodName,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "equals " + methodName, methodName::equals, inputParameterTypesOrSubTypes);
+		return findAllByNamePredicateAndMakeThemAccessible(
+			targetClass, "equals " + methodName,
+			methodName::equals,
+			WarmUpPlan.Entry.Kind.METHODS_BY_NAME, methodName,
+			inputParameterTypesOrSubTypes
+		);
 	}
 
 	public Collection<Method> findAllByMatchedNameAndMakeThemAccessible(
@@ -122,6 +127,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		return findAllByNamePredicateAndMakeThemAccessible(
 			targetClass, "match " + regEx,
 			name -> name.matches(regEx),
+			WarmUpPlan.Entry.Kind.METHODS_BY_REGEX, regEx,
 			inputParameterTypesOrSubTypes
 		);
 	}
@@ -130,11 +136,14 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		Class<?> targetClass,
 		String cacheKeyPrefix,
 		Predicate<String> namePredicate,
+		WarmUpPlan.Entry.Kind warmUpPlanEntryKind,
+		String nameOrRegEx,
 		Class<?>... inputParameterTypesOrSubTypes
 	) {
 		String cacheKey = getCacheKey(targetClass, cacheKeyPrefix, inputParameterTypesOrSubTypes);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
+			WarmUpPlan.record(warmUpPlanEntryKind, targetClass, nameOrRegEx, inputParameterTypesOrSubTypes);
 			MethodCriteria criteria = MethodCriteria.forEntireClassHierarchy()
 				.name(namePredicate)
 				.and().parameterTypesAreAssignableFrom(inputParameterTypesOrSubTypes);
@@ -159,6 +168,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
 		Collection<Method> members = Cache.uniqueKeyForMethods.getOrUploadIfAbsent(
 			targetClassClassLoader, cacheKey, () -> {
+				WarmUpPlan.record(WarmUpPlan.Entry.Kind.ALL_METHODS, targetClass, null, (Class<?>[])null);
 				return findAllAndMakeThemAccessible(
 					MethodCriteria.forEntireClassHierarchy(), targetClass
 				);
@@ -263,6 +273,7 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		Members.Handler.OfExecutable.Box<Method> entry =
 			(Box<Method>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
 		if (entry == null) {
+			WarmUpPlan.record(WarmUpPlan.Entry.Kind.METHOD_HANDLE, targetClass, methodName, inputParameterTypesOrSubTypes);
 			Method method = findFirstAndMakeItAccessible(targetClass, methodName, inputParameterTypesOrSubTypes);
 			if (method == null) {
 				org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(
@@ -29,17 +29,19 @@
 package org.burningwave.core.classes;
 
 
-
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 
 import java.lang.reflect.Member;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.burningwave.core.Closeable;
 import org.burningwave.core.Criteria;
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.burningwave.core.iterable.IterableObjectHelper.IterationConfig;
 
 
 public class SearchResult<E> implements Closeable {
@@ -99,8 +101,23 @@ public class SearchResult<E> implements Closeable {
 		}
 	}
 
+	//The iteration is terminated, and the items still to be tested are skipped, as soon as a second item is found
 	public <C extends CriteriaWithClassElementsSupplyingSupport<E, C, T>, T extends Criteria.TestContext<E, C>> Map.Entry<String, E> getUnique(C criteria) {
-		Map<String, E> itemsFound = getClasses(criteria);
+		Map<String, E> itemsFound = new ConcurrentHashMap<>();
+		try (C criteriaCopy = createCriteriaCopy(criteria)) {
+			IterableObjectHelper.iterateAndGet(
+				IterationConfig.of(getItemsFoundFlatMap())
+				.withOutput(itemsFound)
+				.withAction((pathAndJavaClass, outputHandler) -> {
+					if (criteriaCopy.testWithFalseResultForNullEntityOrTrueResultForNullPredicate(pathAndJavaClass.getValue()).getResult()) {
+						outputHandler.accept(output -> output.put(pathAndJavaClass.getKey(), pathAndJavaClass.getValue()));
+						if (itemsFound.size() > 1) {
+							IterableObjectHelper.terminateIteration();
+						}
+					}
+				})
+			);
+		}
 		if (itemsFound.size() > 1) {
 			org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException("Found more than one element");
 		}
@@ -0,0 +1,303 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.burningwave.core.concurrent.QueuedTaskExecutor;
+
+//Records the member lookups that populate the caches of Methods, Fields and Constructors so that they can be
+//stored and replayed in parallel at the next startup, before the lookups are made on the hot path
+public class WarmUpPlan {
+	private static final String NULL_ARRAY = "*";
+	private static final Map<String, Class<?>> PRIMITIVE_CLASSES;
+	private static volatile WarmUpPlan recordingPlan;
+
+	static {
+		PRIMITIVE_CLASSES = new HashMap<>();
+		for (Class<?> cls : new Class<?>[] {
+			boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class
+		}) {
+			PRIMITIVE_CLASSES.put(cls.getName(), cls);
+		}
+	}
+
+	Set<Entry> entries;
+
+	WarmUpPlan() {
+		this.entries = ConcurrentHashMap.newKeySet();
+	}
+
+	public static WarmUpPlan create() {
+		return new WarmUpPlan();
+	}
+
+	public static WarmUpPlan load(Path file) throws IOException {
+		WarmUpPlan warmUpPlan = create();
+		for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+			if (!line.trim().isEmpty()) {
+				warmUpPlan.entries.add(Entry.parse(line));
+			}
+		}
+		return warmUpPlan;
+	}
+
+	public WarmUpPlan store(Path file) throws IOException {
+		List<String> lines = new ArrayList<>();
+		for (Entry entry : entries) {
+			lines.add(entry.toString());
+		}
+		Files.write(file, lines, StandardCharsets.UTF_8);
+		return this;
+	}
+
+	//Only one plan at a time can record the lookups
+	public WarmUpPlan startRecording() {
+		recordingPlan = this;
+		return this;
+	}
+
+	public WarmUpPlan stopRecording() {
+		if (recordingPlan == this) {
+			recordingPlan = null;
+		}
+		return this;
+	}
+
+	public int getSize() {
+		return entries.size();
+	}
+
+	//Called by the member handlers only when a lookup is not found in the cache
+	static void record(Entry.Kind kind, Class<?> targetClass, String name, Class<?>... argumentTypes) {
+		WarmUpPlan recordingPlan = WarmUpPlan.recordingPlan;
+		if (recordingPlan != null) {
+			recordingPlan.entries.add(new Entry(kind, targetClass, name, argumentTypes));
+		}
+	}
+
+	//The entries are replayed in batches, one for each available processor: the classes that cannot be
+	//loaded by the class loader, such as the ones defined at runtime, are skipped
+	public Collection<QueuedTaskExecutor.Task> replayInBackground(ClassLoader classLoader) {
+		int batchCount = Math.max(1, Runtime.getRuntime().availableProcessors());
+		List<List<Entry>> batches = new ArrayList<>();
+		for (int i = 0; i < batchCount; i++) {
+			batches.add(new ArrayList<>());
+		}
+		int index = 0;
+		for (Entry entry : entries) {
+			batches.get(index++ % batchCount).add(entry);
+		}
+		AtomicInteger skippedEntryCount = new AtomicInteger();
+		Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>();
+		for (List<Entry> batch : batches) {
+			if (!batch.isEmpty()) {
+				tasks.add(
+					BackgroundExecutor.createTask(task -> {
+						for (Entry entry : batch) {
+							try {
+								entry.replay(classLoader);
+							} catch (Throwable exc) {
+								skippedEntryCount.incrementAndGet();
+								ManagedLoggerRepository.logDebug(getClass()::getName, "Could not replay {}: {}", entry, exc.getMessage());
+							}
+						}
+					}, Thread.MIN_PRIORITY)
+				);
+			}
+		}
+		return BackgroundExecutor.submitAll(tasks).getTasks();
+	}
+
+	public void replay(ClassLoader classLoader) {
+		for (QueuedTaskExecutor.Task task : replayInBackground(classLoader)) {
+			task.waitForFinish();
+		}
+	}
+
+	static class Entry {
+		enum Kind {
+			METHODS_BY_NAME,
+			METHODS_BY_REGEX,
+			ALL_METHODS,
+			METHOD_HANDLE,
+			FIELDS_BY_NAME,
+			ALL_FIELDS,
+			CONSTRUCTORS,
+			ALL_CONSTRUCTORS,
+			CONSTRUCTOR_HANDLE
+		}
+
+		final Kind kind;
+		final String className;
+		final String name;
+		final String[] argumentTypeNames;
+
+		Entry(Kind kind, String className, String name, String[] argumentTypeNames) {
+			this.kind = kind;
+			this.className = className;
+			this.name = name;
+			this.argumentTypeNames = argumentTypeNames;
+		}
+
+		Entry(Kind kind, Class<?> targetClass, String name, Class<?>... argumentTypes) {
+			this(kind, targetClass.getName(), name, toNames(argumentTypes));
+		}
+
+		static String[] toNames(Class<?>... classes) {
+			if (classes == null) {
+				return null;
+			}
+			String[] names = new String[classes.length];
+			for (int i = 0; i < classes.length; i++) {
+				names[i] = classes[i] != null ? classes[i].getName() : null;
+			}
+			return names;
+		}
+
+		static Entry parse(String line) {
+			String[] fields = line.split("\t", -1);
+			String[] argumentTypeNames = null;
+			if (!fields[3].equals(NULL_ARRAY)) {
+				argumentTypeNames = fields[3].isEmpty() ? new String[0] : fields[3].split(",", -1);
+				for (int i = 0; i < argumentTypeNames.length; i++) {
+					if (argumentTypeNames[i].equals("null")) {
+						argumentTypeNames[i] = null;
+					}
+				}
+			}
+			return new Entry(Kind.valueOf(fields[0]), fields[1], fields[2].isEmpty() ? null : fields[2], argumentTypeNames);
+		}
+
+		Class<?> loadClass(String className, ClassLoader classLoader) throws ClassNotFoundException {
+			if (className == null) {
+				return null;
+			}
+			Class<?> cls = PRIMITIVE_CLASSES.get(className);
+			return cls != null ? cls : Class.forName(className, false, classLoader);
+		}
+
+		void replay(ClassLoader classLoader) throws ClassNotFoundException {
+			Class<?> targetClass = loadClass(className, classLoader);
+			Class<?>[] argumentTypes = null;
+			if (argumentTypeNames != null) {
+				argumentTypes = new Class<?>[argumentTypeNames.length];
+				for (int i = 0; i < argumentTypeNames.length; i++) {
+					argumentTypes[i] = loadClass(argumentTypeNames[i], classLoader);
+				}
+			}
+			switch (kind) {
+				case METHODS_BY_NAME :
+					Methods.findAllByExactNameAndMakeThemAccessible(targetClass, name, argumentTypes);
+					break;
+				case METHODS_BY_REGEX :
+					Methods.findAllByMatchedNameAndMakeThemAccessible(targetClass, name, argumentTypes);
+					break;
+				case ALL_METHODS :
+					Methods.findAllAndMakeThemAccessible(targetClass);
+					break;
+				case METHOD_HANDLE :
+					Methods.findDirectHandle(targetClass, name, argumentTypes);
+					break;
+				case FIELDS_BY_NAME :
+					Fields.findAllByExactNameAndMakeThemAccessible(
+						targetClass, name, argumentTypes != null ? argumentTypes[0] : null
+					);
+					break;
+				case ALL_FIELDS :
+					Fields.findAllAndMakeThemAccessible(targetClass);
+					break;
+				case CONSTRUCTORS :
+					Constructors.findAllAndMakeThemAccessible(targetClass, argumentTypes);
+					break;
+				case ALL_CONSTRUCTORS :
+					Constructors.findAllAndMakeThemAccessible(targetClass);
+					break;
+				case CONSTRUCTOR_HANDLE :
+					Constructors.findDirectHandle(targetClass, argumentTypes);
+					break;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(kind, className, name) * 31 + Arrays.hashCode(argumentTypeNames);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Entry)) {
+				return false;
+			}
+			Entry entry = (Entry)object;
+			return kind == entry.kind && className.equals(entry.className) && Objects.equals(name, entry.name) &&
+				Arrays.equals(argumentTypeNames, entry.argumentTypeNames);
+		}
+
+		@Override
+		public String toString() {
+			String argumentTypeNames = NULL_ARRAY;
+			if (this.argumentTypeNames != null) {
+				StringBuilder argumentTypeNamesBuilder = new StringBuilder();
+				for (int i = 0; i < this.argumentTypeNames.length; i++) {
+					if (i > 0) {
+						argumentTypeNamesBuilder.append(",");
+					}
+					argumentTypeNamesBuilder.append(this.argumentTypeNames[i] != null ? this.argumentTypeNames[i] : "null");
+				}
+				argumentTypeNames = argumentTypeNamesBuilder.toString();
+			}
+			return kind + "\t" + className + "\t" + (name != null ? name : "") + "\t" + argumentTypeNames;
+		}
+
+	}
+
+}
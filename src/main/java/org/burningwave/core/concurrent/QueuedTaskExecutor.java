@@ -36,18 +36,38 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.util.AbstractQueue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -57,6 +77,7 @@ import java.util.stream.Collectors;
 import org.burningwave.core.Closeable;
 import org.burningwave.core.Identifiable;
 import org.burningwave.core.function.Executor;
+import org.burningwave.core.function.ThrowingBiConsumer;
 import org.burningwave.core.function.ThrowingBiPredicate;
 import org.burningwave.core.function.ThrowingConsumer;
 import org.burningwave.core.function.ThrowingFunction;
@@ -66,13 +87,17 @@ import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 
 @SuppressWarnings({"unchecked", "resource"})
 public class QueuedTaskExecutor implements Closeable {
+	static final int DEFAULT_QUEUE_CAPACITY = 2000;
 	private final static Map<String, TaskAbst<?,?>> runOnlyOnceTasks;
 	private final static Map<java.lang.Thread, Collection<TaskAbst<?,?>>> taskCreatorThreadsForChildTasks;
 	Map<TaskAbst<?, ?>, TaskAbst<?, ?>> tasksInExecution;
 	Thread.Supplier threadSupplier;
 	String name;
 	java.lang.Thread tasksLauncher;
-	List<TaskAbst<?, ?>> tasksQueue;
+	TasksQueue tasksQueue;
+	QueueOverflowPolicy queueOverflowPolicy;
+	Metrics metrics;
+	ForkJoinPool forkJoinPool;
 	Boolean supended;
 	volatile int defaultPriority;
 	long executedTasksCount;
@@ -81,6 +106,7 @@ public class QueuedTaskExecutor implements Closeable {
 	Boolean terminated;
 	Runnable initializer;
 	boolean taskCreationTrackingEnabled;
+	TasksCreationTracker tasksCreationTracker;
 	Object resumeCallerMutex;
 	Object executingFinishedWaiterMutex;
 	Object suspensionCallerMutex;
@@ -93,43 +119,47 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	QueuedTaskExecutor(String name, Thread.Supplier threadSupplier, int defaultPriority, boolean isDaemon) {
-		initializer = () -> {
-			this.threadSupplier = threadSupplier;
-			tasksQueue = new CopyOnWriteArrayList<TaskAbst<?, ?>>() {
-				private static final long serialVersionUID = -176528742161426076L;
-				int min = 1500;
-				int max = 2000;
-
-				@Override
-				public boolean add(TaskAbst<?, ?> e) {
-					while (size() > max) {
-						synchronized(this) {
-							try {
-								wait();
-							} catch (Throwable exc) {
-								org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
-							}
-						}
-					}
-					return super.add(e);
-				}
-
-				@Override
-				public boolean remove(Object task) {
-					boolean removed;
-					int size;
-					if ((removed = super.remove(task)) && ((size = size()) > min) && (size < max)) {
-						//ManagedLoggerRepository.logInfo(getClass()::getName, "Collection size: {}", size);
-						synchronized(this) {
-							this.notifyAll();
-						}
-					}
-					return removed;
-				}
+		this(name, threadSupplier, defaultPriority, isDaemon, 0);
+	}
 
-			};
+	QueuedTaskExecutor(String name, Thread.Supplier threadSupplier, int defaultPriority, boolean isDaemon, int workStealingParallelism) {
+		this(name, threadSupplier, defaultPriority, isDaemon, workStealingParallelism, DEFAULT_QUEUE_CAPACITY, QueueOverflowPolicy.BLOCK);
+	}
 
+	QueuedTaskExecutor(
+		String name,
+		Thread.Supplier threadSupplier,
+		int defaultPriority,
+		boolean isDaemon,
+		int workStealingParallelism,
+		int queueCapacity,
+		QueueOverflowPolicy queueOverflowPolicy
+	) {
+		tasksCreationTracker = TasksCreationTracker.DEFAULT;
+		initializer = () -> {
+			this.threadSupplier = threadSupplier;
+			this.queueOverflowPolicy = queueOverflowPolicy;
+			if (workStealingParallelism > 0) {
+				//In work stealing mode the queue only tracks the tasks not yet claimed by a worker and it is unordered
+				//because the order is given by the deques of the pool: the producers can be the workers themselves so
+				//with the blocking policy the queue is unbounded
+				tasksQueue = new TasksQueue(
+					ConcurrentHashMap.newKeySet(),
+					queueOverflowPolicy == QueueOverflowPolicy.BLOCK ? Integer.MAX_VALUE : queueCapacity,
+					false
+				);
+				forkJoinPool = new ForkJoinPool(workStealingParallelism, pool -> {
+					ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					worker.setName(name + " worker " + worker.getPoolIndex());
+					worker.setPriority(defaultPriority);
+					worker.setDaemon(isDaemon);
+					return worker;
+				}, null, false);
+			} else {
+				tasksQueue = new TasksQueue(queueCapacity, queueOverflowPolicy == QueueOverflowPolicy.BLOCK);
+			}
 			tasksInExecution = new ConcurrentHashMap<TaskAbst<?, ?>, TaskAbst<?, ?>>() ;
+			metrics = new Metrics(true);
 			this.resumeCallerMutex = new Object();
 			this.executingFinishedWaiterMutex = new Object();
 			this.suspensionCallerMutex = new Object();
@@ -156,26 +186,21 @@ public class QueuedTaskExecutor implements Closeable {
 				if (checkAndNotifySuspension()) {
 					continue;
 				}
-				if (!tasksQueue.isEmpty()) {
-					Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-					while (taskIterator.hasNext()) {
-						if (checkAndNotifySuspension() || terminated) {
-							break;
-						}
-						TaskAbst<?, ?> task = taskIterator.next();
-						synchronized (task) {
-							if (!tasksQueue.remove(task)) {
-								continue;
-							}
-						}
+				if (forkJoinPool == null && !tasksQueue.isEmpty()) {
+					TaskAbst<?, ?> task;
+					while (!(checkAndNotifySuspension() || terminated) && (task = tasksQueue.poll()) != null) {
 						task.setExecutor(threadSupplier.getOrCreateThread()).start();
 					}
 				} else {
+					//In work stealing mode the tasks are launched by the workers of the pool and this thread only
+					//handles the suspension and the termination of the executor
 					synchronized(executableCollectionFillerMutex) {
-						if (tasksQueue.isEmpty()) {
+						if (forkJoinPool != null || tasksQueue.isEmpty()) {
 							try {
-								synchronized(executingFinishedWaiterMutex) {
-									executingFinishedWaiterMutex.notifyAll();
+								if (tasksQueue.isEmpty()) {
+									synchronized(executingFinishedWaiterMutex) {
+										executingFinishedWaiterMutex.notifyAll();
+									}
 								}
 								if (!supended) {
 									executableCollectionFillerMutex.wait();
@@ -242,6 +267,15 @@ public class QueuedTaskExecutor implements Closeable {
 		return this;
 	}
 
+	public QueuedTaskExecutor setTasksCreationTrackingConfig(TasksCreationTracker.Config config) {
+		this.tasksCreationTracker = TasksCreationTracker.create(config);
+		return this;
+	}
+
+	TasksCreationTracker getTasksCreationTracker() {
+		return taskCreationTrackingEnabled ? tasksCreationTracker : null;
+	}
+
 	public <T> ProducerTask<T> createProducerTask(ThrowingSupplier<T, ? extends Throwable> executable) {
 		return createProducerTask(task -> executable.get());
 	}
@@ -254,7 +288,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<T> Function<ThrowingFunction<ProducerTask<T>, T, ? extends Throwable>, ProducerTask<T>> getProducerTaskSupplier() {
-		return executable -> new ProducerTask<T>(executable, taskCreationTrackingEnabled) {
+		return executable -> new ProducerTask<T>(executable, getTasksCreationTracker()) {
 
 			@Override
 			QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -280,7 +314,7 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<T> Function<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>, Task> getTaskSupplier() {
-		return executable -> new Task(executable, taskCreationTrackingEnabled) {
+		return executable -> new Task(executable, getTasksCreationTracker()) {
 
 			@Override
 			QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -296,17 +330,36 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<E, T extends TaskAbst<E, T>> T addToQueue(T task, boolean skipCheck) {
+		return addToQueue(task, skipCheck, false);
+	}
+
+	//With abortOnOverflow the task is aborted when the queue is full instead of being handled by the overflow policy,
+	//so the submitter never blocks and never executes the task
+	<E, T extends TaskAbst<E, T>> T addToQueue(T task, boolean skipCheck, boolean abortOnOverflow) {
 		Object[] canBeExecutedBag = null;
 		if (skipCheck || (Boolean)(canBeExecutedBag = canBeExecuted(task))[1]) {
+			boolean slotReserved = !skipCheck && (abortOnOverflow || queueOverflowPolicy != QueueOverflowPolicy.BLOCK);
+			if (slotReserved && !reserveQueueSlot(task, abortOnOverflow)) {
+				return task;
+			}
 			try {
 				task.creator = java.lang.Thread.currentThread();
-				Synchronizer.execute(Objects.getId(task.creator), () -> {
+				Synchronizer.execute(task.creator, "childTasks", () -> {
 					Collection<TaskAbst<?,?>> childrenTask = taskCreatorThreadsForChildTasks.computeIfAbsent(task.creator, key -> ConcurrentHashMap.newKeySet());
 					childrenTask.add(task);
 				});
-				tasksQueue.add(task);
-				synchronized(executableCollectionFillerMutex) {
-					executableCollectionFillerMutex.notifyAll();
+				metrics.onSubmitted(task);
+				if (slotReserved) {
+					tasksQueue.addToReservedSlot(task);
+				} else {
+					tasksQueue.add(task);
+				}
+				if (forkJoinPool != null) {
+					fork(task);
+				} else {
+					synchronized(executableCollectionFillerMutex) {
+						executableCollectionFillerMutex.notifyAll();
+					}
 				}
 			} catch (Throwable exc) {
 				ManagedLoggerRepository.logError(getClass()::getName, exc);
@@ -315,7 +368,190 @@ public class QueuedTaskExecutor implements Closeable {
 		return canBeExecutedBag != null ? (T)canBeExecutedBag[0] : task;
 	}
 
-	<E, T extends TaskAbst<E, T>> Object[] canBeExecuted(T task) {
+	//The tasks are registered as children of the current thread with a single lock acquisition and the tasks
+	//launcher is woken up only once for the whole batch
+	<T extends TaskAbst<?, ?>> List<T> addAllToQueue(List<T> tasks) {
+		int rejectedTasksCount = 0;
+		List<T> effectiveTasks = new ArrayList<>(tasks.size());
+		List<T> tasksToBeQueued = new ArrayList<>(tasks.size());
+		for (T task : tasks) {
+			Object[] canBeExecutedBag = canBeExecuted(task);
+			effectiveTasks.add((T)canBeExecutedBag[0]);
+			if ((Boolean)canBeExecutedBag[1]) {
+				tasksToBeQueued.add(task);
+			}
+		}
+		if (tasksToBeQueued.isEmpty()) {
+			return effectiveTasks;
+		}
+		try {
+			java.lang.Thread creator = java.lang.Thread.currentThread();
+			for (T task : tasksToBeQueued) {
+				task.creator = creator;
+			}
+			Synchronizer.execute(creator, "childTasks", () -> {
+				Collection<TaskAbst<?,?>> childrenTask = taskCreatorThreadsForChildTasks.computeIfAbsent(creator, key -> ConcurrentHashMap.newKeySet());
+				childrenTask.addAll(tasksToBeQueued);
+			});
+			boolean slotReserved = queueOverflowPolicy != QueueOverflowPolicy.BLOCK;
+			for (T task : tasksToBeQueued) {
+				try {
+					if (slotReserved && !reserveQueueSlot(task, false)) {
+						continue;
+					}
+				} catch (TaskRejectedException exc) {
+					++rejectedTasksCount;
+					continue;
+				}
+				metrics.onSubmitted(task);
+				if (slotReserved) {
+					tasksQueue.addToReservedSlot(task);
+				} else {
+					tasksQueue.add(task);
+				}
+				if (forkJoinPool != null) {
+					fork(task);
+				}
+			}
+			if (forkJoinPool == null) {
+				synchronized(executableCollectionFillerMutex) {
+					executableCollectionFillerMutex.notifyAll();
+				}
+			}
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logError(getClass()::getName, exc);
+		}
+		//The tasks that fit in the queue have been queued anyway: the rejected ones are aborted
+		if (rejectedTasksCount > 0) {
+			throw new TaskRejectedException(
+				Strings.compile("{} of {} tasks have been rejected because the queue of {} is full", rejectedTasksCount, tasks.size(), name)
+			);
+		}
+		return effectiveTasks;
+	}
+
+	//Returns false if the task must not be queued because it has already been handled by the policy. The slot is
+	//reserved atomically, so the concurrent submitters can't exceed the capacity of the queue: the task must then be
+	//added to the reserved slot
+	boolean reserveQueueSlot(TaskAbst<?, ?> task, boolean abortOnOverflow) {
+		if (tasksQueue.tryReserveSlot()) {
+			return true;
+		}
+		if (abortOnOverflow) {
+			abortRejectedTask(task);
+			return false;
+		} else if (queueOverflowPolicy == QueueOverflowPolicy.RUN_IN_CALLER_THREAD) {
+			metrics.onSubmitted(task);
+			//The caller thread is registered as the executing thread of the task only while it executes it, so it
+			//is the thread that can be interrupted and that must not wait for the task
+			task.execute();
+			return false;
+		} else if (queueOverflowPolicy == QueueOverflowPolicy.DISCARD_OLDEST) {
+			//The slot freed by the discarded task can be taken by another submitter in the meantime: if no task can
+			//be discarded anymore the task is rejected
+			while (discardOldestQueuedTask()) {
+				if (tasksQueue.tryReserveSlot()) {
+					return true;
+				}
+			}
+		}
+		abortRejectedTask(task);
+		throw new TaskRejectedException(
+			Strings.compile("{} has been rejected because the queue of {} is full", task, name)
+		);
+	}
+
+	private void abortRejectedTask(TaskAbst<?, ?> task) {
+		metrics.onEvent(task, metrics -> metrics.rejectedTasksCount);
+		synchronized (task) {
+			task.aborted = true;
+			task.clear();
+			task.notifyAll();
+			task.unparkWaiters();
+		}
+	}
+
+	boolean discardOldestQueuedTask() {
+		TaskAbst<?, ?> previousOldestTask = null;
+		TaskAbst<?, ?> oldestTask;
+		//If the abort fails the task has been launched in the meantime and the next one is tried
+		while ((oldestTask = tasksQueue.peek()) != null && oldestTask != previousOldestTask) {
+			if (abort((TaskAbst)oldestTask)) {
+				metrics.onEvent(oldestTask, metrics -> metrics.discardedTasksCount);
+				return true;
+			}
+			previousOldestTask = oldestTask;
+		}
+		return false;
+	}
+
+	public <T extends TaskAbst<?, ?>> Batch<T> submitAll(Collection<T> tasks) {
+		return new Batch<>(addAllToQueue(markAllAsSubmitted(tasks)));
+	}
+
+	//All the tasks are checked before marking any of them, so a task that can't be submitted doesn't leave the
+	//previous ones marked as submitted without being queued: if another thread submits or aborts one of them in the
+	//meantime, the tasks already marked are unmarked
+	static <T extends TaskAbst<?, ?>> List<T> markAllAsSubmitted(Collection<T> tasks) {
+		Set<T> checkedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (T task : tasks) {
+			task.checkSubmittable();
+			if (!checkedTasks.add(task)) {
+				throw new TaskStateException(task, "is submitted more than once");
+			}
+		}
+		List<T> markedTasks = new ArrayList<>(tasks.size());
+		try {
+			for (T task : tasks) {
+				task.markAsSubmitted();
+				markedTasks.add(task);
+			}
+		} catch (TaskStateException exc) {
+			for (T markedTask : markedTasks) {
+				markedTask.unmarkAsSubmitted();
+			}
+			throw exc;
+		}
+		return markedTasks;
+	}
+
+	//A task submitted by a worker of the pool is pushed on the deque of that worker, the others are pushed on the
+	//submission queues of the pool: the task is executed only by the worker that removes it from the tasks queue, so
+	//the abort, the priority change and the redispatching after a suspension keep working as in the queued mode
+	void fork(TaskAbst<?, ?> task) {
+		ForkJoinTask<?> forkJoinTask = ForkJoinTask.adapt(() -> {
+			TasksQueue tasksQueue = this.tasksQueue;
+			if (Boolean.TRUE.equals(supended) || tasksQueue == null || !tasksQueue.remove(task)) {
+				return;
+			}
+			if (tasksQueue.isEmpty()) {
+				synchronized(executingFinishedWaiterMutex) {
+					executingFinishedWaiterMutex.notifyAll();
+				}
+			}
+			task.forkJoinWorker = java.lang.Thread.currentThread();
+			task.execute();
+			task.releaseForkJoinWorker();
+			if (Boolean.TRUE.equals(supended)) {
+				synchronized(executableCollectionFillerMutex) {
+					executableCollectionFillerMutex.notifyAll();
+				}
+			}
+		});
+		task.forkJoinTask = forkJoinTask;
+		java.lang.Thread currentThread = java.lang.Thread.currentThread();
+		if (currentThread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread)currentThread).getPool() == forkJoinPool) {
+			forkJoinTask.fork();
+		} else {
+			forkJoinPool.execute(forkJoinTask);
+		}
+	}
+
+	public boolean isWorkStealingEnabled() {
+		return forkJoinPool != null;
+	}
+
+	Object[] canBeExecuted(TaskAbst<?, ?> task) {
 		Object[] bag = {task, true};
 		if (task.runOnlyOnce) {
 			bag[1] =(!task.hasBeenExecutedChecker.get() &&
@@ -363,11 +599,14 @@ public class QueuedTaskExecutor implements Closeable {
 							if (tasksQueue.remove(queuedTask)) {
 								if (!queuedTask.isStarted()) {
 									task.aborted = queuedTask.aborted = true;
+									metrics.onEvent(queuedTask, metrics -> metrics.abortedTasksCount);
 									queuedTask.clear();
 									task.clear();
 									queuedTask.notifyAll();
+									queuedTask.unparkWaiters();
 									synchronized(task) {
 										task.notifyAll();
+										task.unparkWaiters();
 									}
 									return task.aborted;
 								}
@@ -379,7 +618,9 @@ public class QueuedTaskExecutor implements Closeable {
 			}
 			synchronized (task) {
 				if (task.aborted = tasksQueue.remove(task)) {
+					metrics.onEvent(task, metrics -> metrics.abortedTasksCount);
 					task.notifyAll();
+					task.unparkWaiters();
 					task.clear();
 					return task.aborted;
 				}
@@ -389,27 +630,28 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	public <E, T extends TaskAbst<E, T>> boolean interrupt(T task) {
-		return terminate(task, Thread::interrupt, TaskAbst::interrupt, true);
+		return terminate(task, Thread::interrupt, TaskAbst::interrupt, metrics -> metrics.interruptedTasksCount, true);
 	}
 
 	@Deprecated/*(since="12.60.0")*/
 	public <E, T extends TaskAbst<E, T>> boolean kill(T task) {
-		return terminate(task, Thread::kill, TaskAbst::kill, true);
+		return terminate(task, Thread::kill, TaskAbst::kill, metrics -> metrics.killedTasksCount, true);
 	}
 
 	public <E, T extends TaskAbst<E, T>> boolean interrupt(T task, boolean terminateChildren) {
-		return terminate(task, Thread::interrupt, TaskAbst::interrupt, terminateChildren);
+		return terminate(task, Thread::interrupt, TaskAbst::interrupt, metrics -> metrics.interruptedTasksCount, terminateChildren);
 	}
 
 	@Deprecated/*(since="12.60.0")*/
 	public <E, T extends TaskAbst<E, T>> boolean kill(T task, boolean terminateChildren) {
-		return terminate(task, Thread::kill, TaskAbst::kill, terminateChildren);
+		return terminate(task, Thread::kill, TaskAbst::kill, metrics -> metrics.killedTasksCount, terminateChildren);
 	}
 
 	private <E, T extends TaskAbst<E, T>> boolean terminate(
 		T task,
 		Consumer<Thread> terminateOperation,
 		Consumer<TaskAbst<?,?>> childTerminateOperation,
+		Function<Metrics, LongAdder> terminatedTasksCounterSupplier,
 		boolean terminateChildren
 	) {
 		if (abort(task)) {
@@ -418,6 +660,7 @@ public class QueuedTaskExecutor implements Closeable {
 		if (!task.runOnlyOnce) {
 			if (tasksInExecution.remove(task) != null) {
 				task.aborted = true;
+				metrics.onEvent(task, terminatedTasksCounterSupplier);
 				Thread taskThread = task.executor;
 				if (taskThread != null) {
 					terminateOperation.accept(taskThread);
@@ -427,10 +670,13 @@ public class QueuedTaskExecutor implements Closeable {
 						terminateChildren(childTerminateOperation, taskThread);
 					}
 					task.aborted = !task.executed;
+				} else {
+					interruptWorker(task);
 				}
 				task.clear();
 				synchronized(task) {
 					task.notifyAll();
+					task.unparkWaiters();
 				}
 			}
 		} else {
@@ -439,6 +685,7 @@ public class QueuedTaskExecutor implements Closeable {
 					synchronized (queuedTask) {
 						if (tasksInExecution.remove(queuedTask) != null) {
 							task.aborted = queuedTask.aborted = true;
+							metrics.onEvent(queuedTask, terminatedTasksCounterSupplier);
 							Thread queuedTaskThread = queuedTask.executor;
 							if (queuedTaskThread != null) {
 								terminateOperation.accept(queuedTaskThread);
@@ -449,12 +696,16 @@ public class QueuedTaskExecutor implements Closeable {
 									terminateChildren(childTerminateOperation, queuedTaskThread);
 								}
 								task.aborted = queuedTask.aborted = !task.executed;
+							} else {
+								interruptWorker(queuedTask);
 							}
 							queuedTask.clear();
 							task.clear();
 							queuedTask.notifyAll();
+							queuedTask.unparkWaiters();
 							synchronized(task) {
 								task.notifyAll();
+								task.unparkWaiters();
 							}
 							return task.aborted;
 						}
@@ -465,8 +716,33 @@ public class QueuedTaskExecutor implements Closeable {
 		return task.aborted;
 	}
 
+	//The workers of the pool and the caller threads that execute the tasks rejected by a full queue can only be
+	//interrupted since they are not owned by the task: the interrupt status is cleared by the interrupted thread
+	//itself when the task ends, so it can't leak to the next task or to the code of the caller
+	private void interruptWorker(TaskAbst<?, ?> task) {
+		synchronized (task) {
+			java.lang.Thread worker = task.forkJoinWorker != null ? task.forkJoinWorker : task.executingThread;
+			if (worker != null) {
+				task.workerInterrupted = true;
+				interruptWithoutTerminating(worker);
+				task.aborted = !task.executed;
+			}
+		}
+	}
+
+	//The interrupt method of the threads of this library terminates them and removes them from their pool, so they
+	//are interrupted through the executing thread
+	static void interruptWithoutTerminating(java.lang.Thread thread) {
+		if (thread instanceof Thread) {
+			((Thread)thread).interruptExecutingThread();
+		} else {
+			thread.interrupt();
+		}
+	}
+
 	private void terminateChildren(Consumer<TaskAbst<?, ?>> childTerminateOperation, Thread taskThread) {
-		Collection<TaskAbst<?,?>> childTasks = taskCreatorThreadsForChildTasks.get(taskThread);
+		java.lang.Thread executingThread = taskThread.getExecutingThread();
+		Collection<TaskAbst<?,?>> childTasks = executingThread != null ? taskCreatorThreadsForChildTasks.get(executingThread) : null;
 		if (childTasks != null) {
 			for (TaskAbst<?,?> childTask : childTasks) {
 				childTerminateOperation.accept(childTask);
@@ -566,21 +842,15 @@ public class QueuedTaskExecutor implements Closeable {
 	}
 
 	<E, T extends TaskAbst<E, T>> void changePriorityToAllTaskBeforeAndWaitThem(T task, int priority, boolean ignoreDeadLocked) {
-		int taskIndex = tasksQueue.indexOf(task);
-		if (taskIndex != -1) {
-			Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-			int idx = 0;
-			while (taskIterator.hasNext()) {
-				TaskAbst<?, ?> currentIterated = taskIterator.next();
-				if (idx < taskIndex) {
-					if (currentIterated != task) {
-						task.changePriority(priority);
-					} else {
-						break;
-					}
+		boolean isFirst = true;
+		for (TaskAbst<?, ?> queuedTask : tasksQueue) {
+			if (queuedTask == task) {
+				if (!isFirst) {
+					task.changePriority(priority);
 				}
-				idx++;
+				break;
 			}
+			isFirst = false;
 		}
 		waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
 	}
@@ -594,6 +864,13 @@ public class QueuedTaskExecutor implements Closeable {
 				ManagedLoggerRepository.logError(getClass()::getName, exc);
 			}
 		}
+		TasksQueue tasksQueue = this.tasksQueue;
+		if (forkJoinPool != null && tasksQueue != null) {
+			//The tasks skipped by the workers during the suspension are forked again
+			for (TaskAbst<?, ?> task : tasksQueue) {
+				fork(task);
+			}
+		}
 		return this;
 	}
 
@@ -609,6 +886,9 @@ public class QueuedTaskExecutor implements Closeable {
 		executables.clear();
 		tasksInExecution.clear();
 		resumeFromSuspension();
+		synchronized(executableCollectionFillerMutex) {
+			executableCollectionFillerMutex.notifyAll();
+		}
 		if (tasksLauncher != null) {
 			synchronized (terminatingMutex) {
 				if (tasksLauncher != null) {
@@ -649,6 +929,10 @@ public class QueuedTaskExecutor implements Closeable {
 		ManagedLoggerRepository.logInfo(getClass()::getName, log.toString());
 	}
 
+	public Metrics.Snapshot getMetrics() {
+		return metrics.createSnapshot(name, tasksQueue.size(), tasksInExecution.size());
+	}
+
 	public String getInfoAsString() {
 		StringBuffer log = new StringBuffer("");
 		Collection<TaskAbst<?, ?>> tasksQueue = this.tasksQueue;
@@ -684,6 +968,11 @@ public class QueuedTaskExecutor implements Closeable {
 
 	void closeResources() {
 		//queueConsumer = null;
+		ForkJoinPool forkJoinPool = this.forkJoinPool;
+		if (forkJoinPool != null) {
+			forkJoinPool.shutdownNow();
+			this.forkJoinPool = null;
+		}
 		threadSupplier = null;
 		tasksQueue = null;
 		tasksInExecution = null;
@@ -698,10 +987,563 @@ public class QueuedTaskExecutor implements Closeable {
 		name = null;
 	}
 
+	//Unbounded lock-free queue with O(1) enqueue and dequeue: the producers are blocked when the queue exceeds the
+	//max size and they are resumed by the consumers when it returns under the max size. In work stealing mode it is
+	//backed by a concurrent set so that also the removal of a task claimed by a worker is O(1)
+	public static enum QueueOverflowPolicy {
+		BLOCK, RUN_IN_CALLER_THREAD, REJECT, DISCARD_OLDEST;
+
+		//Accepts the names used in the configuration files, e.g. 'run in caller thread'
+		public static QueueOverflowPolicy forName(String name) {
+			String normalizedName = name.trim().replaceAll("[\\s\\-]+", "_").toUpperCase();
+			for (QueueOverflowPolicy policy : values()) {
+				if (policy.name().equals(normalizedName)) {
+					return policy;
+				}
+			}
+			throw new IllegalArgumentException(
+				Strings.compile(
+					"Queue overflow policy '{}' is not valid: it must be one of 'block', 'run in caller thread', 'reject', 'discard oldest'",
+					name
+				)
+			);
+		}
+	}
+
+	static class TasksQueue extends AbstractQueue<TaskAbst<?, ?>> {
+		final Collection<TaskAbst<?, ?>> tasks;
+		final AtomicInteger size;
+		final AtomicInteger blockedProducersCount;
+		final ReentrantLock producersLock;
+		final Condition notFull;
+		final int maxSize;
+		final boolean producersBlockingEnabled;
+
+		TasksQueue(int maxSize, boolean producersBlockingEnabled) {
+			this(new ConcurrentLinkedQueue<>(), maxSize, producersBlockingEnabled);
+		}
+
+		TasksQueue(Collection<TaskAbst<?, ?>> tasks, int maxSize, boolean producersBlockingEnabled) {
+			this.tasks = tasks;
+			this.size = new AtomicInteger();
+			this.blockedProducersCount = new AtomicInteger();
+			this.producersLock = new ReentrantLock();
+			this.notFull = producersLock.newCondition();
+			this.maxSize = maxSize;
+			this.producersBlockingEnabled = producersBlockingEnabled;
+		}
+
+		boolean isFull() {
+			return size.get() >= maxSize;
+		}
+
+		boolean tryReserveSlot() {
+			int currentSize;
+			while ((currentSize = size.get()) < maxSize) {
+				if (size.compareAndSet(currentSize, currentSize + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void addToReservedSlot(TaskAbst<?, ?> task) {
+			tasks.add(task);
+		}
+
+		//The blocked producers compete for the freed slots, so each of them adds its task only after having reserved
+		//a slot: the other producers add their tasks anyway
+		@Override
+		public boolean offer(TaskAbst<?, ?> task) {
+			if (producersBlockingEnabled) {
+				while (!tryReserveSlot()) {
+					awaitNotFull();
+				}
+			} else {
+				size.incrementAndGet();
+			}
+			tasks.add(task);
+			return true;
+		}
+
+		private void awaitNotFull() {
+			blockedProducersCount.incrementAndGet();
+			producersLock.lock();
+			try {
+				while (isFull()) {
+					notFull.await();
+				}
+			} catch (Throwable exc) {
+				org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exc);
+			} finally {
+				producersLock.unlock();
+				blockedProducersCount.decrementAndGet();
+			}
+		}
+
+		@Override
+		public TaskAbst<?, ?> poll() {
+			if (tasks instanceof Queue) {
+				TaskAbst<?, ?> task = ((Queue<TaskAbst<?, ?>>)tasks).poll();
+				if (task != null) {
+					onRemoved();
+				}
+				return task;
+			}
+			for (TaskAbst<?, ?> task : tasks) {
+				if (remove(task)) {
+					return task;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public TaskAbst<?, ?> peek() {
+			if (tasks instanceof Queue) {
+				return ((Queue<TaskAbst<?, ?>>)tasks).peek();
+			}
+			//The set used in work-stealing mode is not ordered: the head is the task submitted first
+			TaskAbst<?, ?> oldestTask = null;
+			for (TaskAbst<?, ?> task : tasks) {
+				if (oldestTask == null || (task.submissionTime != 0 &&
+					(oldestTask.submissionTime == 0 || task.submissionTime - oldestTask.submissionTime < 0))
+				) {
+					oldestTask = task;
+				}
+			}
+			return oldestTask;
+		}
+
+		@Override
+		public boolean remove(Object task) {
+			if (tasks.remove(task)) {
+				onRemoved();
+				return true;
+			}
+			return false;
+		}
+
+		private void onRemoved() {
+			if (size.decrementAndGet() < maxSize && blockedProducersCount.get() > 0) {
+				producersLock.lock();
+				try {
+					notFull.signalAll();
+				} finally {
+					producersLock.unlock();
+				}
+			}
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return tasks.isEmpty();
+		}
+
+		@Override
+		public int size() {
+			return size.get();
+		}
+
+		@Override
+		public Iterator<TaskAbst<?, ?>> iterator() {
+			Iterator<TaskAbst<?, ?>> iterator = tasks.iterator();
+			return new Iterator<TaskAbst<?, ?>>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public TaskAbst<?, ?> next() {
+					return iterator.next();
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+					onRemoved();
+				}
+
+			};
+		}
+
+	}
+
+	public static class Metrics {
+		//Upper bound of the task names tracked separately so that the names built dynamically cannot fill the memory
+		private static final int MAX_TRACKED_TASK_NAMES_COUNT = 256;
+
+		final long creationTime;
+		final LongAdder submittedTasksCount;
+		final LongAdder startedTasksCount;
+		final LongAdder executedTasksCount;
+		final LongAdder failedTasksCount;
+		final LongAdder abortedTasksCount;
+		final LongAdder interruptedTasksCount;
+		final LongAdder killedTasksCount;
+		final LongAdder probablyDeadLockedTasksCount;
+		final LongAdder deadLocksCount;
+		final LongAdder rejectedTasksCount;
+		final LongAdder discardedTasksCount;
+		final Histogram waitingTimes;
+		final Histogram executionTimes;
+		final Map<String, Metrics> metricsForTaskName;
+
+		Metrics(boolean taskNamesTrackingEnabled) {
+			this.creationTime = System.nanoTime();
+			this.submittedTasksCount = new LongAdder();
+			this.startedTasksCount = new LongAdder();
+			this.executedTasksCount = new LongAdder();
+			this.failedTasksCount = new LongAdder();
+			this.abortedTasksCount = new LongAdder();
+			this.interruptedTasksCount = new LongAdder();
+			this.killedTasksCount = new LongAdder();
+			this.probablyDeadLockedTasksCount = new LongAdder();
+			this.deadLocksCount = new LongAdder();
+			this.rejectedTasksCount = new LongAdder();
+			this.discardedTasksCount = new LongAdder();
+			this.waitingTimes = new Histogram();
+			this.executionTimes = new Histogram();
+			this.metricsForTaskName = taskNamesTrackingEnabled ? new ConcurrentHashMap<>() : null;
+		}
+
+		Metrics getForTaskNameOf(TaskAbst<?, ?> task) {
+			String taskName = task.name;
+			if (taskName == null || metricsForTaskName == null) {
+				return null;
+			}
+			Metrics metrics = metricsForTaskName.get(taskName);
+			if (metrics == null && metricsForTaskName.size() < MAX_TRACKED_TASK_NAMES_COUNT) {
+				metrics = metricsForTaskName.computeIfAbsent(taskName, key -> new Metrics(false));
+			}
+			return metrics;
+		}
+
+		void onSubmitted(TaskAbst<?, ?> task) {
+			//A task moved to another executor by a priority change keeps its first submission time
+			if (task.submissionTime == 0) {
+				task.submissionTime = System.nanoTime();
+				submittedTasksCount.increment();
+				Metrics metrics = getForTaskNameOf(task);
+				if (metrics != null) {
+					metrics.submittedTasksCount.increment();
+				}
+			}
+		}
+
+		void onStarted(TaskAbst<?, ?> task, long startTime) {
+			startedTasksCount.increment();
+			waitingTimes.record(startTime - task.submissionTime);
+			Metrics metrics = getForTaskNameOf(task);
+			if (metrics != null) {
+				metrics.onStarted(task, startTime);
+			}
+		}
+
+		void onFinished(TaskAbst<?, ?> task, long executionTime) {
+			if (task.executed) {
+				executedTasksCount.increment();
+			} else {
+				failedTasksCount.increment();
+			}
+			executionTimes.record(executionTime);
+			Metrics metrics = getForTaskNameOf(task);
+			if (metrics != null) {
+				metrics.onFinished(task, executionTime);
+			}
+		}
+
+		void onEvent(TaskAbst<?, ?> task, Function<Metrics, LongAdder> counterSupplier) {
+			counterSupplier.apply(this).increment();
+			Metrics metrics = getForTaskNameOf(task);
+			if (metrics != null) {
+				counterSupplier.apply(metrics).increment();
+			}
+		}
+
+		Snapshot createSnapshot(String name, int queuedTasksCount, int tasksInExecutionCount) {
+			Map<String, Snapshot> snapshotsForTaskName = new TreeMap<>();
+			if (metricsForTaskName != null) {
+				for (Entry<String, Metrics> metricsForTaskName : this.metricsForTaskName.entrySet()) {
+					snapshotsForTaskName.put(
+						metricsForTaskName.getKey(),
+						metricsForTaskName.getValue().createSnapshot(metricsForTaskName.getKey(), 0, 0)
+					);
+				}
+			}
+			return new Snapshot(this, name, queuedTasksCount, tasksInExecutionCount, snapshotsForTaskName);
+		}
+
+		public static class Snapshot {
+			final String name;
+			final long creationTime;
+			final int queuedTasksCount;
+			final int tasksInExecutionCount;
+			final long submittedTasksCount;
+			final long startedTasksCount;
+			final long executedTasksCount;
+			final long failedTasksCount;
+			final long abortedTasksCount;
+			final long interruptedTasksCount;
+			final long killedTasksCount;
+			final long probablyDeadLockedTasksCount;
+			final long deadLocksCount;
+			final long rejectedTasksCount;
+			final long discardedTasksCount;
+			final Histogram waitingTimes;
+			final Histogram executionTimes;
+			final Map<String, Snapshot> snapshotsForTaskName;
+
+			Snapshot(Metrics metrics, String name, int queuedTasksCount, int tasksInExecutionCount, Map<String, Snapshot> snapshotsForTaskName) {
+				this.name = name;
+				this.creationTime = System.nanoTime();
+				this.queuedTasksCount = queuedTasksCount;
+				this.tasksInExecutionCount = tasksInExecutionCount;
+				this.submittedTasksCount = metrics.submittedTasksCount.sum();
+				this.startedTasksCount = metrics.startedTasksCount.sum();
+				this.executedTasksCount = metrics.executedTasksCount.sum();
+				this.failedTasksCount = metrics.failedTasksCount.sum();
+				this.abortedTasksCount = metrics.abortedTasksCount.sum();
+				this.interruptedTasksCount = metrics.interruptedTasksCount.sum();
+				this.killedTasksCount = metrics.killedTasksCount.sum();
+				this.probablyDeadLockedTasksCount = metrics.probablyDeadLockedTasksCount.sum();
+				this.deadLocksCount = metrics.deadLocksCount.sum();
+				this.rejectedTasksCount = metrics.rejectedTasksCount.sum();
+				this.discardedTasksCount = metrics.discardedTasksCount.sum();
+				this.waitingTimes = metrics.waitingTimes.copy();
+				this.executionTimes = metrics.executionTimes.copy();
+				this.snapshotsForTaskName = Collections.unmodifiableMap(snapshotsForTaskName);
+			}
+
+			public String getName() {
+				return name;
+			}
+
+			//The queue depth is tracked only by the snapshots of the executors: for the snapshots of the task names
+			//these values are always 0
+			public int getQueuedTasksCount() {
+				return queuedTasksCount;
+			}
+
+			public int getTasksInExecutionCount() {
+				return tasksInExecutionCount;
+			}
+
+			public long getSubmittedTasksCount() {
+				return submittedTasksCount;
+			}
+
+			public long getStartedTasksCount() {
+				return startedTasksCount;
+			}
+
+			public long getExecutedTasksCount() {
+				return executedTasksCount;
+			}
+
+			public long getFailedTasksCount() {
+				return failedTasksCount;
+			}
+
+			public long getAbortedTasksCount() {
+				return abortedTasksCount;
+			}
+
+			public long getInterruptedTasksCount() {
+				return interruptedTasksCount;
+			}
+
+			public long getKilledTasksCount() {
+				return killedTasksCount;
+			}
+
+			public long getProbablyDeadLockedTasksCount() {
+				return probablyDeadLockedTasksCount;
+			}
+
+			//Number of waits refused because they would have closed a cycle in the graph of the waiting tasks
+			public long getDeadLocksCount() {
+				return deadLocksCount;
+			}
+
+			public long getRejectedTasksCount() {
+				return rejectedTasksCount;
+			}
+
+			//The discarded tasks are also counted as aborted
+			public long getDiscardedTasksCount() {
+				return discardedTasksCount;
+			}
+
+			//Time elapsed between the submission and the start of the tasks
+			public Histogram getWaitingTimes() {
+				return waitingTimes;
+			}
+
+			public Histogram getExecutionTimes() {
+				return executionTimes;
+			}
+
+			public Map<String, Snapshot> getSnapshotsForTaskName() {
+				return snapshotsForTaskName;
+			}
+
+			//Tasks completed per second in the interval between the previous snapshot and this one
+			public double getThroughputSince(Snapshot previous) {
+				long elapsedTime = creationTime - previous.creationTime;
+				if (elapsedTime <= 0) {
+					return 0;
+				}
+				return ((executedTasksCount + failedTasksCount) - (previous.executedTasksCount + previous.failedTasksCount)) * 1_000_000_000D / elapsedTime;
+			}
+
+			@Override
+			public String toString() {
+				StringBuffer log = new StringBuffer(
+					Strings.compile(
+						"{}: {} queued, {} in execution, {} submitted, {} executed, {} failed, {} aborted, {} interrupted, {} killed, {} probably dead locked, " +
+						"{} dead locks, {} rejected, {} discarded" +
+						"\n\twaiting times: {}\n\texecution times: {}",
+						name,
+						queuedTasksCount,
+						tasksInExecutionCount,
+						submittedTasksCount,
+						executedTasksCount,
+						failedTasksCount,
+						abortedTasksCount,
+						interruptedTasksCount,
+						killedTasksCount,
+						probablyDeadLockedTasksCount,
+						deadLocksCount,
+						rejectedTasksCount,
+						discardedTasksCount,
+						waitingTimes,
+						executionTimes
+					)
+				);
+				for (Snapshot snapshotForTaskName : snapshotsForTaskName.values()) {
+					log.append("\n\t").append(snapshotForTaskName.toString().replace("\n", "\n\t"));
+				}
+				return log.toString();
+			}
+		}
+
+		//A lock free histogram with logarithmic buckets: each power of two is split in 8 linear sub buckets so the
+		//values returned by the percentiles differ from the recorded ones of at most 12.5%
+		public static class Histogram {
+			private static final int SUB_BUCKET_BITS = 3;
+			private static final int SUB_BUCKETS_COUNT = 1 << SUB_BUCKET_BITS;
+
+			final AtomicLongArray counts;
+			final LongAdder total;
+			final AtomicLong max;
+
+			Histogram() {
+				this.counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS_COUNT);
+				this.total = new LongAdder();
+				this.max = new AtomicLong();
+			}
+
+			static int indexOf(long value) {
+				if (value < SUB_BUCKETS_COUNT) {
+					return (int)value;
+				}
+				int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+				return ((shift + 1) << SUB_BUCKET_BITS) + (int)((value >>> shift) & (SUB_BUCKETS_COUNT - 1));
+			}
+
+			static long highestValueOf(int index) {
+				if (index < SUB_BUCKETS_COUNT) {
+					return index;
+				}
+				int shift = (index >> SUB_BUCKET_BITS) - 1;
+				return (((long)(SUB_BUCKETS_COUNT + (index & (SUB_BUCKETS_COUNT - 1)))) << shift) + (1L << shift) - 1;
+			}
+
+			void record(long value) {
+				if (value < 0) {
+					value = 0;
+				}
+				counts.incrementAndGet(indexOf(value));
+				total.add(value);
+				long max;
+				while (value > (max = this.max.get()) && !this.max.compareAndSet(max, value)) {}
+			}
+
+			Histogram copy() {
+				Histogram histogram = new Histogram();
+				for (int i = 0; i < counts.length(); i++) {
+					histogram.counts.set(i, counts.get(i));
+				}
+				histogram.total.add(total.sum());
+				histogram.max.set(max.get());
+				return histogram;
+			}
+
+			public long getCount() {
+				long count = 0;
+				for (int i = 0; i < counts.length(); i++) {
+					count += counts.get(i);
+				}
+				return count;
+			}
+
+			//The values are expressed in nanoseconds
+			public long getMax() {
+				return max.get();
+			}
+
+			public long getMean() {
+				long count = getCount();
+				return count > 0 ? total.sum() / count : 0;
+			}
+
+			public long getValueAtPercentile(double percentile) {
+				long count = getCount();
+				if (count == 0) {
+					return 0;
+				}
+				long rank = Math.max((long)Math.ceil((percentile / 100D) * count), 1);
+				long max = this.max.get();
+				for (int i = 0; i < counts.length(); i++) {
+					if ((rank -= counts.get(i)) <= 0) {
+						return Math.min(highestValueOf(i), max);
+					}
+				}
+				return max;
+			}
+
+			@Override
+			public String toString() {
+				return Strings.compile(
+					"{} samples, {} ms mean, {} ms p50, {} ms p90, {} ms p99, {} ms max",
+					getCount(),
+					toMillis(getMean()),
+					toMillis(getValueAtPercentile(50)),
+					toMillis(getValueAtPercentile(90)),
+					toMillis(getValueAtPercentile(99)),
+					toMillis(getMax())
+				);
+			}
+
+			private double toMillis(long nanos) {
+				return Math.round(nanos / 1_000D) / 1_000D;
+			}
+		}
+	}
+
 	public static abstract class TaskAbst<E, T extends TaskAbst<E, T>> {
+		@SuppressWarnings("rawtypes")
+		private static final AtomicReferenceFieldUpdater<TaskAbst, Collection> PARKED_WAITERS_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(TaskAbst.class, Collection.class, "parkedWaiters");
+		//Upper bound of a single parking so that a missed unpark can only delay a waiter
+		private static final long MAX_PARKING_TIME = 250;
 
 		String name;
-		StackTraceElement[] stackTraceOnCreation;
+		TasksCreationTracker creationTracker;
+		volatile Supplier<List<StackTraceElement>> creatorInfosSupplier;
 		List<StackTraceElement> creatorInfos;
 		Supplier<Boolean> hasBeenExecutedChecker;
 		volatile boolean probablyDeadLocked;
@@ -709,6 +1551,7 @@ public class QueuedTaskExecutor implements Closeable {
 		volatile String id;
 		volatile int priority;
 		volatile Long startTime;
+		volatile long submissionTime;
 		volatile boolean submitted;
 		volatile boolean aborted;
 		volatile boolean finished;
@@ -717,18 +1560,34 @@ public class QueuedTaskExecutor implements Closeable {
 		volatile E executable;
 		java.lang.Thread creator;
 		Thread executor;
+		ForkJoinTask<?> forkJoinTask;
+		volatile java.lang.Thread forkJoinWorker;
+		boolean workerInterrupted;
 		Object executorOrTerminatedExecutorFlag;
+		volatile Collection<java.lang.Thread> parkedWaiters;
+		volatile TaskAbst<?, ?> awaitedTask;
+		volatile boolean cancelled;
+		java.lang.Thread executingThread;
 		Throwable exc;
 		ThrowingBiPredicate<T, Throwable, Throwable> exceptionHandler;
 		QueuedTaskExecutor queuedTasksExecutor;
+		Collection<Runnable> completionListeners;
+		boolean completionNotified;
 
 		public TaskAbst(E executable, boolean creationTracking) {
+			this(executable, creationTracking ? TasksCreationTracker.DEFAULT : null);
+		}
+
+		TaskAbst(E executable, TasksCreationTracker creationTracker) {
 			if (executable == null) {
 				throw new NullExecutableException("executable could not be null");
 			}
 			this.executable = executable;
-			if (creationTracking) {
-				stackTraceOnCreation = java.lang.Thread.currentThread().getStackTrace();
+			if (creationTracker != null) {
+				this.creationTracker = creationTracker;
+				if (creationTracker.isToBeTracked()) {
+					creatorInfosSupplier = creationTracker.capture();
+				}
 			}
 		}
 
@@ -737,17 +1596,15 @@ public class QueuedTaskExecutor implements Closeable {
 			return (T)this;
 		}
 
+		//Returns null if the creation of this task was not sampled or if its creator infos were released when it
+		//started because it waited in the queue less than the configured minimum waiting time
 		public List<StackTraceElement> getCreatorInfos() {
 			if (this.creatorInfos == null) {
-				if (stackTraceOnCreation != null) {
-					this.creatorInfos = Collections.unmodifiableList(
-						Methods.retrieveExternalCallersInfo(
-							this.stackTraceOnCreation,
-							(clientMethodSTE, currentIteratedSTE) -> !currentIteratedSTE.getClassName().startsWith(QueuedTaskExecutor.class.getName()),
-							-1
-						)
-					);
-				} else {
+				Supplier<List<StackTraceElement>> creatorInfosSupplier = this.creatorInfosSupplier;
+				if (creatorInfosSupplier != null) {
+					this.creatorInfos = Collections.unmodifiableList(creatorInfosSupplier.get());
+					this.creatorInfosSupplier = null;
+				} else if (creationTracker == null) {
 					ManagedLoggerRepository.logWarn(getClass()::getName, "Tasks creation tracking was disabled when {} was created", this);
 				}
 			}
@@ -788,7 +1645,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public boolean isAborted() {
 			Thread executor = this.executor;
-			return aborted && !executed && ((executor == null) || !executor.isAlive());
+			return aborted && !executed && ((executor == null) || !executor.isExecutingThreadAlive());
 		}
 
 		private boolean isExecutorTerminated() {
@@ -797,7 +1654,7 @@ public class QueuedTaskExecutor implements Closeable {
 				return(Boolean)executorOrTerminatedExecutorFlag;
 			}
 			if (executorOrTerminatedExecutorFlag != null) {
-				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).isAlive();
+				boolean isAlive = ((Thread)executorOrTerminatedExecutorFlag).isExecutingThreadAlive();
 				if (!isAlive) {
 					return (Boolean)(this.executorOrTerminatedExecutorFlag = !isAlive);
 				}
@@ -867,9 +1724,22 @@ public class QueuedTaskExecutor implements Closeable {
 			return probablyDeadLocked;
 		}
 
+		//The executor could be a handle of a virtual thread so the thread that is actually running the task is compared
+		boolean isExecutedBy(java.lang.Thread thread) {
+			Thread executor = this.executor;
+			return (executor != null && executor.getExecutingThread() == thread) || thread == this.forkJoinWorker ||
+				(executor == null && thread == this.executingThread);
+		}
+
 		synchronized void markAsProbablyDeadLocked() {
+			if (!probablyDeadLocked) {
+				getQueuedTasksExecutor().metrics.onEvent(this, metrics -> metrics.probablyDeadLockedTasksCount);
+			}
 			probablyDeadLocked = true;
-			executor.setName("PROBABLE DEAD-LOCKED THREAD -> " + executor.getName());
+			Thread executor = this.executor;
+			if (executor != null) {
+				executor.setName("PROBABLE DEAD-LOCKED THREAD -> " + executor.getName());
+			}
 		}
 
 		public T waitForStarting() {
@@ -885,6 +1755,13 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public T waitForStarting(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
+			if (java.lang.Thread.currentThread() instanceof ForkJoinWorkerThread) {
+				return waitInForkJoinPool(this::isStarted, () -> waitForStarting2(ignoreDeadLocked, ignoreSubmittedCheck, timeout));
+			}
+			return waitForStarting2(ignoreDeadLocked, ignoreSubmittedCheck, timeout);
+		}
+
+		private T waitForStarting2(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
 			if (timeout <= 0) {
 				while(waitForStarting0(ignoreDeadLocked, ignoreSubmittedCheck, 0));
 				return (T)this;
@@ -898,30 +1775,41 @@ public class QueuedTaskExecutor implements Closeable {
 
 		private boolean waitForStarting0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
 			java.lang.Thread currentThread = java.lang.Thread.currentThread();
-			if (currentThread == this.executor) {
+			if (isExecutedBy(currentThread)) {
 				return false;
 			}
 			if (ignoreSubmittedCheck || checkSubmitted()) {
 				if (!isStarted()) {
+					if (Synchronizer.areReentrantLocksEnabled()) {
+						return waitForStarting1(ignoreDeadLocked, timeout);
+					}
 					synchronized (this) {
-						if (!isStarted()) {
-							try {
-								if (probablyDeadLocked) {
-									if (ignoreDeadLocked) {
-										return false;
-									}
-									throw new TaskStateException(this, "could be dead locked");
-								}
-								if (isAborted()) {
-									throw new TaskStateException(this, "is aborted");
-								}
-								wait(timeout);
-								return true;
-							} catch (InterruptedException exc) {
-								throw new TaskStateException(this, "has been interrupted", exc);
-							}
+						return waitForStarting1(ignoreDeadLocked, timeout);
+					}
+				}
+			}
+			return false;
+		}
+
+		private boolean waitForStarting1(boolean ignoreDeadLocked, long timeout) {
+			if (!isStarted()) {
+				try {
+					if (probablyDeadLocked) {
+						if (ignoreDeadLocked) {
+							return false;
 						}
+						throw new TaskStateException(this, "could be dead locked");
 					}
+					if (isAborted()) {
+						throw new TaskStateException(this, "is aborted");
+					}
+					if (Synchronizer.areReentrantLocksEnabled()) {
+						return park(() -> !isStarted(), timeout);
+					}
+					wait(timeout);
+					return true;
+				} catch (InterruptedException exc) {
+					throw new TaskStateException(this, "has been interrupted", exc);
 				}
 			}
 			return false;
@@ -947,6 +1835,35 @@ public class QueuedTaskExecutor implements Closeable {
 		}
 
 		public T waitForFinish(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
+			TaskAbst<?, ?> waitingTask = WaitForGraph.getTaskInExecution();
+			if (waitingTask == null || waitingTask == this || hasFinished()) {
+				return waitForFinish3(ignoreDeadLocked, ignoreSubmittedCheck, timeout);
+			}
+			TaskAbst<?, ?> previousAwaitedTask = waitingTask.awaitedTask;
+			List<TaskAbst<?, ?>> deadLockedTasks = WaitForGraph.addEdge(waitingTask, this);
+			try {
+				if (deadLockedTasks != null) {
+					WaitForGraph.logDeadLock(deadLockedTasks);
+					getQueuedTasksExecutor().metrics.onEvent(this, metrics -> metrics.deadLocksCount);
+					if (ignoreDeadLocked) {
+						return (T)this;
+					}
+					throw new TaskStateException(this, "cannot be waited for because it is waiting, directly or through other tasks, for the waiting task");
+				}
+				return waitForFinish3(ignoreDeadLocked, ignoreSubmittedCheck, timeout);
+			} finally {
+				waitingTask.awaitedTask = previousAwaitedTask;
+			}
+		}
+
+		private T waitForFinish3(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
+			if (java.lang.Thread.currentThread() instanceof ForkJoinWorkerThread) {
+				return waitInForkJoinPool(this::hasFinished, () -> waitForFinish2(ignoreDeadLocked, ignoreSubmittedCheck, timeout));
+			}
+			return waitForFinish2(ignoreDeadLocked, ignoreSubmittedCheck, timeout);
+		}
+
+		private T waitForFinish2(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
 			if (timeout <= 0) {
 				while(waitForFinish0(ignoreDeadLocked, ignoreSubmittedCheck, 0));
 				return (T)this;
@@ -960,50 +1877,139 @@ public class QueuedTaskExecutor implements Closeable {
 
 		private boolean waitForFinish0(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
 			java.lang.Thread currentThread = java.lang.Thread.currentThread();
-			if (currentThread == this.executor) {
+			if (isExecutedBy(currentThread)) {
 				return false;
 			}
 			if (ignoreSubmittedCheck || checkSubmitted()) {
 				if (!hasFinished()) {
+					if (Synchronizer.areReentrantLocksEnabled()) {
+						return waitForFinish1(ignoreDeadLocked, timeout);
+					}
 					synchronized (this) {
-						if (!hasFinished()) {
-							try {
-								if (probablyDeadLocked) {
-									if (ignoreDeadLocked) {
-										return false;
-									}
-									throw new TaskStateException(this, "could be dead locked");
-								}
-								if (isAborted()) {
-									ManagedLoggerRepository.logWarn(getClass()::getName, "Task is aborted:{} ", getInfoAsString());
-									return false;
-								}
-								wait(timeout);
-								return true;
-							} catch (InterruptedException exc) {
-								throw new TaskStateException(this, "has been interrupted", exc);
-							}
+						return waitForFinish1(ignoreDeadLocked, timeout);
+					}
+				}
+			}
+			return false;
+		}
+
+		private boolean waitForFinish1(boolean ignoreDeadLocked, long timeout) {
+			if (!hasFinished()) {
+				try {
+					if (probablyDeadLocked) {
+						if (ignoreDeadLocked) {
+							return false;
 						}
+						throw new TaskStateException(this, "could be dead locked");
+					}
+					if (isAborted()) {
+						ManagedLoggerRepository.logWarn(getClass()::getName, "Task is aborted:{} ", getInfoAsString());
+						return false;
+					}
+					if (Synchronizer.areReentrantLocksEnabled()) {
+						return park(() -> !hasFinished(), timeout);
 					}
+					wait(timeout);
+					return true;
+				} catch (InterruptedException exc) {
+					throw new TaskStateException(this, "has been interrupted", exc);
 				}
 			}
 			return false;
 		}
 
+		//If the waiting worker has forked this task and no other worker has stolen it yet, the task is executed by the
+		//waiting worker (like ForkJoinTask.join does), otherwise the pool is allowed to activate a spare worker while
+		//the waiting worker is blocked, so that the tasks in its deque can still be stolen
+		private T waitInForkJoinPool(BooleanSupplier releasableChecker, Runnable waiter) {
+			ForkJoinTask<?> forkJoinTask = this.forkJoinTask;
+			if (forkJoinTask != null && forkJoinTask.tryUnfork()) {
+				forkJoinTask.invoke();
+			}
+			try {
+				ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+					@Override
+					public boolean block() {
+						waiter.run();
+						return true;
+					}
+
+					@Override
+					public boolean isReleasable() {
+						return releasableChecker.getAsBoolean();
+					}
+
+				});
+			} catch (InterruptedException exc) {
+				throw new TaskStateException(this, "has been interrupted", exc);
+			}
+			return (T)this;
+		}
+
+		//Used instead of the monitor of the task when the reentrant locks of the Synchronizer are enabled, so
+		//that a waiting virtual thread doesn't pin its carrier: the waiter is unparked by the task state changes
+		private boolean park(BooleanSupplier waitingCondition, long timeout) throws InterruptedException {
+			java.lang.Thread currentThread = java.lang.Thread.currentThread();
+			Collection<java.lang.Thread> parkedWaiters = this.parkedWaiters;
+			if (parkedWaiters == null) {
+				PARKED_WAITERS_UPDATER.compareAndSet(this, null, new ConcurrentLinkedQueue<>());
+				parkedWaiters = this.parkedWaiters;
+			}
+			parkedWaiters.add(currentThread);
+			try {
+				if (waitingCondition.getAsBoolean()) {
+					LockSupport.parkNanos(
+						this,
+						TimeUnit.MILLISECONDS.toNanos(timeout > 0 ? Math.min(timeout, MAX_PARKING_TIME) : MAX_PARKING_TIME)
+					);
+					if (java.lang.Thread.interrupted()) {
+						throw new InterruptedException();
+					}
+				}
+				return true;
+			} finally {
+				parkedWaiters.remove(currentThread);
+			}
+		}
+
+		void unparkWaiters() {
+			Collection<java.lang.Thread> parkedWaiters = this.parkedWaiters;
+			if (parkedWaiters != null) {
+				for (java.lang.Thread parkedWaiter : parkedWaiters) {
+					LockSupport.unpark(parkedWaiter);
+				}
+			}
+		}
+
 		void execute() {
+			Metrics metrics = null;
+			long executionStartTime = 0;
 			try {
 				try {
 					synchronized (this) {
-						if (aborted) {
+						if (aborted || cancelled) {
+							if (!aborted) {
+								aborted = true;
+								getQueuedTasksExecutor().metrics.onEvent(this, taskMetrics -> taskMetrics.abortedTasksCount);
+							}
 							notifyAll();
+							unparkWaiters();
 							clear();
 							return;
 						}
+						executingThread = java.lang.Thread.currentThread();
 					}
 					startTime = System.currentTimeMillis();
+					metrics = getQueuedTasksExecutor().metrics;
+					metrics.onStarted(this, executionStartTime = System.nanoTime());
+					if (creatorInfosSupplier != null && !creationTracker.isToBeRetained(executionStartTime - submissionTime)) {
+						creatorInfosSupplier = null;
+					}
 					getQueuedTasksExecutor().tasksInExecution.put(this, this);
 					synchronized (this) {
 						notifyAll();
+						unparkWaiters();
 					}
 				} catch (Throwable exc) {
 					this.exc = exc;
@@ -1014,6 +2020,7 @@ public class QueuedTaskExecutor implements Closeable {
 					forceAbort();
 					return;
 				}
+				TaskAbst<?, ?> previousTaskInExecution = WaitForGraph.setTaskInExecution(this);
 				try {
 					execute0();
 					executed = true;
@@ -1023,19 +2030,79 @@ public class QueuedTaskExecutor implements Closeable {
 					if ((exceptionHandler == null) || !(exceptionHandled = exceptionHandler.test((T)this, exc))) {
 						throw exc;
 					}
+				} finally {
+					WaitForGraph.setTaskInExecution(previousTaskInExecution);
+				}
+			} catch (Throwable exc) {
+				logException(exc);
+				//The failure is recorded before the waiters are woken up by the abort
+				if (metrics != null) {
+					metrics.onFinished(this, System.nanoTime() - executionStartTime);
+					metrics = null;
+				}
+				forceAbort();
+				return;
+			} finally {
+				releaseExecutingThread();
+				if (metrics != null) {
+					metrics.onFinished(this, System.nanoTime() - executionStartTime);
+				}
+				markAsFinished();
+			}
+		}
+
+		//Aborts this task if it is still queued, otherwise, if so requested, interrupts the thread that is executing it
+		//without removing the thread from its pool (unlike the interrupt method): the interrupt status is cleared by the
+		//executing thread itself when the task ends, so it can't leak to the next task executed by the same thread
+		void cancel(boolean mayInterruptIfRunning) {
+			java.lang.Thread executingThread;
+			synchronized (this) {
+				if (cancelled || finished) {
+					return;
+				}
+				executingThread = this.executingThread;
+				if (executingThread != null && !mayInterruptIfRunning) {
+					return;
+				}
+				cancelled = true;
+				if (executingThread != null) {
+					interruptWithoutTerminating(executingThread);
+				}
+			}
+			if (executingThread == null && submitted) {
+				abort();
+			}
+		}
+
+		private void releaseExecutingThread() {
+			boolean workerInterrupted;
+			synchronized (this) {
+				if (executingThread == null) {
+					return;
 				}
-			} catch (Throwable exc) {
-				logException(exc);
-				forceAbort();
-				return;
-			} finally {
-				markAsFinished();
+				executingThread = null;
+				workerInterrupted = this.workerInterrupted;
+			}
+			if (cancelled || workerInterrupted) {
+				java.lang.Thread.interrupted();
+			}
+		}
+
+		void releaseForkJoinWorker() {
+			boolean workerInterrupted;
+			synchronized (this) {
+				workerInterrupted = this.workerInterrupted;
+				forkJoinWorker = null;
+			}
+			if (workerInterrupted) {
+				java.lang.Thread.interrupted();
 			}
 		}
 
 		private synchronized void forceAbort() {
 			aborted = true;
 			notifyAll();
+			unparkWaiters();
 			clear();
 		}
 
@@ -1098,7 +2165,7 @@ public class QueuedTaskExecutor implements Closeable {
 			executable = null;
 			java.lang.Thread creator = this.creator;
 			if (creator != null) {
-				Synchronizer.execute(Objects.getId(creator), () -> {
+				Synchronizer.execute(creator, "childTasks", () -> {
 					Collection<TaskAbst<?, ?>> creatorChildTasks = taskCreatorThreadsForChildTasks.get(creator);
 					if (creatorChildTasks != null) {
 						creatorChildTasks.remove(this);
@@ -1110,7 +2177,112 @@ public class QueuedTaskExecutor implements Closeable {
 			}
 			this.creator = null;
 			executor = null;
+			forkJoinTask = null;
+			forkJoinWorker = null;
 			this.queuedTasksExecutor = null;
+			notifyCompletion();
+		}
+
+		//The listeners are called only once by the thread that brings the task to its final state (finished,
+		//aborted or interrupted) or, if the task has already reached it, by the thread that registers them
+		void onCompletion(Runnable listener) {
+			synchronized (this) {
+				if (!completionNotified) {
+					if (completionListeners == null) {
+						completionListeners = new ArrayList<>();
+					}
+					completionListeners.add(listener);
+					return;
+				}
+			}
+			listener.run();
+		}
+
+		private void notifyCompletion() {
+			Collection<Runnable> completionListeners;
+			synchronized (this) {
+				if (completionNotified) {
+					return;
+				}
+				completionNotified = true;
+				completionListeners = this.completionListeners;
+				this.completionListeners = null;
+			}
+			if (completionListeners != null) {
+				for (Runnable listener : completionListeners) {
+					try {
+						listener.run();
+					} catch (Throwable exc) {
+						ManagedLoggerRepository.logError(getClass()::getName, "Exception occurred while notifying the completion of {}", exc, this);
+					}
+				}
+			}
+		}
+
+		//The continuation is submitted only when this task completes so that no thread is held while waiting:
+		//it is created on the same executor (and therefore in the same group and with the same priority) of this task
+		<R> ProducerTask<R> createContinuation(ThrowingSupplier<R, ? extends Throwable> executable) {
+			ProducerTask<R> continuation = getQueuedTasksExecutor().createProducerTask(executable);
+			submitOnCompletion(continuation);
+			return continuation;
+		}
+
+		Task createContinuation(ThrowingRunnable<? extends Throwable> executable) {
+			Task continuation = getQueuedTasksExecutor().createTask(executable);
+			submitOnCompletion(continuation);
+			return continuation;
+		}
+
+		void submitOnCompletion(TaskAbst<?, ?> continuation) {
+			onCompletion(() -> {
+				if (!continuation.isAborted()) {
+					continuation.submit();
+				}
+			});
+		}
+
+		<R> ProducerTask<R> createComposedContinuation(ThrowingSupplier<ProducerTask<R>, ? extends Throwable> innerTaskSupplier) {
+			ProducerTask<ProducerTask<R>> innerTaskRetriever = createContinuation(() -> {
+				ProducerTask<R> innerTask = innerTaskSupplier.get();
+				if (!innerTask.isSubmitted()) {
+					innerTask.submit();
+				}
+				return innerTask;
+			});
+			ProducerTask<R> continuation = getQueuedTasksExecutor().createProducerTask(() ->
+				innerTaskRetriever.getResult().getResult()
+			);
+			innerTaskRetriever.onCompletion(() -> {
+				ProducerTask<R> innerTask = innerTaskRetriever.get();
+				if (innerTask != null) {
+					innerTask.submitOnCompletion(continuation);
+				} else if (!continuation.isAborted()) {
+					continuation.submit();
+				}
+			});
+			return continuation;
+		}
+
+		<R> CompletableFuture<R> toCompletableFuture(Supplier<R> resultSupplier) {
+			CompletableFuture<R> completableFuture = new CompletableFuture<>();
+			onCompletion(() -> {
+				Throwable exception = getCompletionException();
+				if (exception == null) {
+					completableFuture.complete(resultSupplier.get());
+				} else {
+					completableFuture.completeExceptionally(exception);
+				}
+			});
+			return completableFuture;
+		}
+
+		Throwable getCompletionException() {
+			try {
+				checkCompletion();
+				return null;
+			} catch (Throwable exc) {
+				return exc;
+			}
 		}
 
 		void markAsFinished() {
@@ -1119,6 +2291,7 @@ public class QueuedTaskExecutor implements Closeable {
 			} finally {
 				synchronized(this) {
 					notifyAll();
+					unparkWaiters();
 				}
 				clear();
 			}
@@ -1159,28 +2332,56 @@ public class QueuedTaskExecutor implements Closeable {
 			return exc;
 		}
 
+		void checkCompletion() {
+			Throwable exception = getException();
+			if ((exception != null) && !exceptionHandled) {
+				org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exception);
+			}
+			if (!wasExecuted()) {
+				throw new TaskStateException(this, "is not completed");
+			}
+		}
+
 		public final T submit() {
+			markAsSubmitted();
+			return addToQueue();
+		}
+
+		void markAsSubmitted() {
+			checkSubmittable();
+			synchronized(this) {
+				if (!submitted) {
+					submitted = true;
+				} else {
+					throw new TaskStateException(this, "is already submitted");
+				}
+			}
+		}
+
+		void checkSubmittable() {
 			if (isAborted()) {
 				throw new TaskStateException(this, "is aborted");
 			}
-			if (!submitted) {
-				synchronized(this) {
-					if (!submitted) {
-						submitted = true;
-					} else {
-						throw new TaskStateException(this, "is already submitted");
-					}
-				}
-			} else {
+			if (submitted) {
 				throw new TaskStateException(this, "is already submitted");
 			}
-			return addToQueue();
+		}
+
+		synchronized void unmarkAsSubmitted() {
+			submitted = false;
 		}
 
 		T addToQueue() {
 			return getQueuedTasksExecutor().addToQueue((T)this, false);
 		}
 
+		//The task is aborted if its queue is full: the submitter is never blocked and never executes the task,
+		//whatever the overflow policy of the queue
+		final T trySubmit() {
+			markAsSubmitted();
+			return getQueuedTasksExecutor().addToQueue((T)this, false, true);
+		}
+
 		public T abortOrWaitForFinish() {
 			return abortOrWaitForFinish(false, false);
 		}
@@ -1224,8 +2425,8 @@ public class QueuedTaskExecutor implements Closeable {
 
 	public static abstract class Task extends TaskAbst<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>, Task> {
 
-		Task(ThrowingConsumer<Task, ? extends Throwable> executable, boolean creationTracking) {
-			super(executable, creationTracking);
+		Task(ThrowingConsumer<Task, ? extends Throwable> executable, TasksCreationTracker creationTracker) {
+			super(executable, creationTracker);
 		}
 
 		@Override
@@ -1243,13 +2444,32 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public void join(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
 			waitForFinish(ignoreDeadLocked, ignoreSubmittedCheck, timeout);
-			Throwable exception = getException();
-			if ((exception != null) && !exceptionHandled) {
-				org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exception);
-			}
-			if (!wasExecuted()) {
-				throw new TaskStateException(this, "is not completed");
-			}
+			checkCompletion();
+		}
+
+		public <R> ProducerTask<R> thenApply(ThrowingSupplier<R, ? extends Throwable> supplier) {
+			return createContinuation(() -> {
+				checkCompletion();
+				return supplier.get();
+			});
+		}
+
+		public <R> ProducerTask<R> thenCompose(ThrowingSupplier<ProducerTask<R>, ? extends Throwable> supplier) {
+			return createComposedContinuation(() -> {
+				checkCompletion();
+				return supplier.get();
+			});
+		}
+
+		public Task whenComplete(ThrowingConsumer<Throwable, ? extends Throwable> action) {
+			return createContinuation(() -> {
+				action.accept(getCompletionException());
+				checkCompletion();
+			});
+		}
+
+		public CompletableFuture<Void> toCompletableFuture() {
+			return toCompletableFuture(() -> null);
 		}
 
 	}
@@ -1257,8 +2477,8 @@ public class QueuedTaskExecutor implements Closeable {
 	public static abstract class ProducerTask<T> extends TaskAbst<ThrowingFunction<QueuedTaskExecutor.ProducerTask<T>, T, ? extends Throwable>, ProducerTask<T>> {
 		private T result;
 
-		ProducerTask(ThrowingFunction<QueuedTaskExecutor.ProducerTask<T>, T, ? extends Throwable> executable, boolean creationTracking) {
-			super(executable, creationTracking);
+		ProducerTask(ThrowingFunction<QueuedTaskExecutor.ProducerTask<T>, T, ? extends Throwable> executable, TasksCreationTracker creationTracker) {
+			super(executable, creationTracker);
 		}
 
 		@Override
@@ -1276,13 +2496,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public T join(boolean ignoreDeadLocked, boolean ignoreSubmittedCheck, long timeout) {
 			waitForFinish(ignoreDeadLocked, ignoreSubmittedCheck, timeout);
-			Throwable exception = getException();
-			if ((exception != null) && !exceptionHandled) {
-				return org.burningwave.core.assembler.StaticComponentContainer.Driver.throwException(exception);
-			}
-			if (!wasExecuted()) {
-				throw new TaskStateException(this, "is not completed");
-			}
+			checkCompletion();
 			return result;
 		}
 
@@ -1290,12 +2504,155 @@ public class QueuedTaskExecutor implements Closeable {
 			return result;
 		}
 
+		T getResult() {
+			checkCompletion();
+			return result;
+		}
+
+		public <R> ProducerTask<R> thenApply(ThrowingFunction<T, R, ? extends Throwable> function) {
+			return createContinuation(() -> function.apply(getResult()));
+		}
+
+		public <R> ProducerTask<R> thenCompose(ThrowingFunction<T, ProducerTask<R>, ? extends Throwable> function) {
+			return createComposedContinuation(() -> function.apply(getResult()));
+		}
+
+		public ProducerTask<T> whenComplete(ThrowingBiConsumer<T, Throwable, ? extends Throwable> action) {
+			return createContinuation(() -> {
+				Throwable exception = getCompletionException();
+				action.accept(exception == null ? result : null, exception);
+				return getResult();
+			});
+		}
+
+		public CompletableFuture<T> toCompletableFuture() {
+			return toCompletableFuture(() -> result);
+		}
+
+	}
+
+	//The nodes of the graph are the tasks and each edge links the task executed by a waiting thread to the task it is
+	//waiting for: since a thread waits for one task at a time each node has at most one outgoing edge, so a new edge
+	//closes a cycle only if following the edges from the awaited task leads back to the waiting task
+	static class WaitForGraph {
+		private static final ThreadLocal<TaskAbst<?, ?>> TASK_IN_EXECUTION = new ThreadLocal<>();
+		//Upper bound of the visited edges: a longer path can only be made of edges that are changing while visited
+		private static final int MAX_PATH_LENGTH = 1024;
+
+		static TaskAbst<?, ?> getTaskInExecution() {
+			return TASK_IN_EXECUTION.get();
+		}
+
+		static TaskAbst<?, ?> setTaskInExecution(TaskAbst<?, ?> task) {
+			TaskAbst<?, ?> previousTask = TASK_IN_EXECUTION.get();
+			if (task != null) {
+				TASK_IN_EXECUTION.set(task);
+			} else {
+				TASK_IN_EXECUTION.remove();
+			}
+			return previousTask;
+		}
+
+		//Returns the tasks of the cycle, starting from the waiting one, or null if the edge doesn't close a cycle.
+		//The edge is published before the path is visited so when two threads close the same cycle at the same
+		//time at least one of them finds it
+		static List<TaskAbst<?, ?>> addEdge(TaskAbst<?, ?> waitingTask, TaskAbst<?, ?> awaitedTask) {
+			waitingTask.awaitedTask = awaitedTask;
+			TaskAbst<?, ?> task = awaitedTask;
+			for (int i = 0; task != null && i < MAX_PATH_LENGTH; i++) {
+				if (task == waitingTask) {
+					List<TaskAbst<?, ?>> cycle = new ArrayList<>();
+					TaskAbst<?, ?> cycleTask = waitingTask;
+					do {
+						cycle.add(cycleTask);
+						cycleTask = cycleTask.awaitedTask;
+					} while (cycleTask != null && cycleTask != waitingTask && cycle.size() <= i);
+					return cycle;
+				}
+				task = task.awaitedTask;
+			}
+			return null;
+		}
+
+		//Returns the last task of the chain of waits that starts from the task or null if the chain is changing
+		//while visited
+		static TaskAbst<?, ?> getLastAwaitedTask(TaskAbst<?, ?> waitingTask) {
+			TaskAbst<?, ?> task = waitingTask;
+			for (int i = 0; i < MAX_PATH_LENGTH; i++) {
+				TaskAbst<?, ?> awaitedTask = task.awaitedTask;
+				if (awaitedTask == null) {
+					return task;
+				}
+				task = awaitedTask;
+			}
+			return null;
+		}
+
+		static void logDeadLock(List<TaskAbst<?, ?>> deadLockedTasks) {
+			StringBuffer log = new StringBuffer();
+			for (TaskAbst<?, ?> task : deadLockedTasks) {
+				log.append(task.getInfoAsString()).append("\n\twaiting for task ").append(
+					Optional.ofNullable(task.awaitedTask).map(TaskAbst::hashCode).map(String::valueOf).orElseGet(() -> "none")
+				);
+			}
+			ManagedLoggerRepository.logError(
+				WaitForGraph.class::getName,
+				"Dead lock detected between the tasks:{}",
+				log
+			);
+		}
+	}
+
+	public static class Batch<T extends TaskAbst<?, ?>> {
+		List<T> tasks;
+
+		Batch(List<T> tasks) {
+			this.tasks = tasks;
+		}
+
+		public List<T> getTasks() {
+			return Collections.unmodifiableList(tasks);
+		}
+
+		public Batch<T> waitForAll() {
+			for (T task : tasks) {
+				task.waitForFinish();
+			}
+			return this;
+		}
+
+		public Batch<T> joinAll() {
+			waitForAll();
+			for (T task : tasks) {
+				task.checkCompletion();
+			}
+			return this;
+		}
+
+		public boolean anyFailed() {
+			for (T task : tasks) {
+				if (task.getException() != null) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public Batch<T> abortAll() {
+			for (T task : tasks) {
+				task.abort();
+			}
+			return this;
+		}
+
 	}
 
 	public static class Group implements Identifiable {
 		String name;
 		Map<Integer, QueuedTaskExecutor> queuedTasksExecutors;
 		TasksMonitorer allTasksMonitorer;
+		Thread.Supplier threadSupplier;
+		TimerWheel timerWheel;
 		Consumer<Group> initializator;
 		Integer[] definedPriorites;
 
@@ -1313,7 +2670,33 @@ public class QueuedTaskExecutor implements Closeable {
 						.on(configuration)
 					)
 				);
+				Object isWorkStealingEnabledAsObject = IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey("work-stealing.enabled")
+					.on(configuration)
+				);
+				int workStealingParallelism = 0;
+				if (isWorkStealingEnabledAsObject != null && Objects.toBoolean(isWorkStealingEnabledAsObject)) {
+					Object workStealingParallelismAsObject = IterableObjectHelper.resolveValue(
+						ResolveConfig.forNamedKey("work-stealing.parallelism")
+						.on(configuration)
+					);
+					workStealingParallelism = workStealingParallelismAsObject != null ?
+						Objects.toInt(workStealingParallelismAsObject) :
+						Runtime.getRuntime().availableProcessors();
+					if (workStealingParallelism < 1) {
+						throw new IllegalArgumentException(
+							Strings.compile(
+								"Value of '{}' is not correct: it must be greater than 0",
+								"work-stealing.parallelism"
+							)
+						);
+					}
+				}
+				int queueCapacity = resolveQueueCapacity(configuration, "queue.capacity", DEFAULT_QUEUE_CAPACITY);
+				QueueOverflowPolicy queueOverflowPolicy = resolveQueueOverflowPolicy(configuration, "queue.overflow-policy", QueueOverflowPolicy.BLOCK);
+				TasksCreationTracker.Config tasksCreationTrackingConfig = resolveTasksCreationTrackingConfig(configuration);
 				queuedTasksExecutorGroup.name = name;
+				queuedTasksExecutorGroup.threadSupplier = mainThreadSupplier;
 				Map<Integer, QueuedTaskExecutor> queuedTasksExecutors = new HashMap<>();
 				for (int i = 0;  i < java.lang.Thread.MAX_PRIORITY; i++) {
 					Object priorityAsObject = IterableObjectHelper.resolveValue(
@@ -1361,8 +2744,11 @@ public class QueuedTaskExecutor implements Closeable {
 								name + " - " + queuedTasksExecutorName,
 								queuedTasksExecutorThreadSupplier,
 								priority,
-								isQueuedTasksExecutorDaemon
-							)
+								isQueuedTasksExecutorDaemon,
+								workStealingParallelism,
+								resolveQueueCapacity(configuration, "queued-task-executor[" + i + "].queue.capacity", queueCapacity),
+								resolveQueueOverflowPolicy(configuration, "queued-task-executor[" + i + "].queue.overflow-policy", queueOverflowPolicy)
+							).setTasksCreationTrackingConfig(tasksCreationTrackingConfig)
 						);
 					}
 				}
@@ -1373,6 +2759,69 @@ public class QueuedTaskExecutor implements Closeable {
 			};
 		}
 
+		private int resolveQueueCapacity(Map<String, Object> configuration, String key, int defaultValue) {
+			Object queueCapacityAsObject = IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey(key)
+				.on(configuration)
+			);
+			if (queueCapacityAsObject == null) {
+				return defaultValue;
+			}
+			int queueCapacity = Objects.toInt(queueCapacityAsObject);
+			if (queueCapacity < 1) {
+				throw new IllegalArgumentException(
+					Strings.compile(
+						"Value of '{}' is not correct: it must be greater than 0",
+						key
+					)
+				);
+			}
+			return queueCapacity;
+		}
+
+		private TasksCreationTracker.Config resolveTasksCreationTrackingConfig(Map<String, Object> configuration) {
+			TasksCreationTracker.Config tasksCreationTrackingConfig = new TasksCreationTracker.Config();
+			Object samplingRateAsObject = IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey("task-creation-tracking.sampling-rate")
+				.on(configuration)
+			);
+			if (samplingRateAsObject != null) {
+				int samplingRate = Objects.toInt(samplingRateAsObject);
+				if (samplingRate < 1) {
+					throw new IllegalArgumentException(
+						Strings.compile(
+							"Value of '{}' is not correct: it must be greater than 0",
+							"task-creation-tracking.sampling-rate"
+						)
+					);
+				}
+				tasksCreationTrackingConfig.setSamplingRate(samplingRate);
+			}
+			Object maxStackDepthAsObject = IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey("task-creation-tracking.max-stack-depth")
+				.on(configuration)
+			);
+			if (maxStackDepthAsObject != null) {
+				tasksCreationTrackingConfig.setMaxStackDepth(Objects.toInt(maxStackDepthAsObject));
+			}
+			Object minimumWaitingTimeAsObject = IterableObjectHelper.resolveValue(
+				ResolveConfig.forNamedKey("task-creation-tracking.minimum-waiting-time")
+				.on(configuration)
+			);
+			if (minimumWaitingTimeAsObject != null) {
+				tasksCreationTrackingConfig.setMinimumWaitingTime(Objects.toLong(minimumWaitingTimeAsObject));
+			}
+			return tasksCreationTrackingConfig;
+		}
+
+		private QueueOverflowPolicy resolveQueueOverflowPolicy(Map<String, Object> configuration, String key, QueueOverflowPolicy defaultValue) {
+			String queueOverflowPolicy = IterableObjectHelper.resolveStringValue(
+				ResolveConfig.forNamedKey(key)
+				.on(configuration)
+			);
+			return queueOverflowPolicy != null ? QueueOverflowPolicy.forName(queueOverflowPolicy) : defaultValue;
+		}
+
 		public Group setTasksCreationTrackingFlag(boolean flag) {
 			if (initializator == null) {
 				setTasksCreationTrackingFlag(this, flag);
@@ -1390,11 +2839,28 @@ public class QueuedTaskExecutor implements Closeable {
 			}
 		}
 
+		public Group setTasksCreationTrackingConfig(TasksCreationTracker.Config config) {
+			if (initializator == null) {
+				setTasksCreationTrackingConfig(this, config);
+			} else {
+				initializator = initializator.andThen(queuedTasksExecutorGroup -> {
+					setTasksCreationTrackingConfig(queuedTasksExecutorGroup, config);
+				});
+			}
+			return this;
+		}
+
+		private void setTasksCreationTrackingConfig(Group queuedTasksExecutorGroup, TasksCreationTracker.Config config) {
+			for (Entry<Integer, QueuedTaskExecutor> queuedTasksExecutorBox : queuedTasksExecutorGroup.queuedTasksExecutors.entrySet()) {
+				queuedTasksExecutorBox.getValue().setTasksCreationTrackingConfig(config);
+			}
+		}
+
 		public Group startAllTasksMonitoring(TasksMonitorer.Config config) {
 			if (initializator == null) {
 				startAllTasksMonitoring(this, config);
 			} else {
-				Synchronizer.execute(getOperationId("initialization"), () -> {
+				Synchronizer.execute(this, "initialization", () -> {
 					if (initializator != null) {
 						initializator = initializator.andThen(queuedTasksExecutorGroup -> {
 							startAllTasksMonitoring(this, config);
@@ -1483,7 +2949,7 @@ public class QueuedTaskExecutor implements Closeable {
 			} catch (NullPointerException exc) {
 				if (queuedTasksExecutors == null) {
 					if (initializator != null) {
-						Synchronizer.execute(getOperationId("initialization"), () -> {
+						Synchronizer.execute(this, "initialization", () -> {
 							if (initializator != null) {
 								initializator.accept(this);
 								initializator = null;
@@ -1539,12 +3005,130 @@ public class QueuedTaskExecutor implements Closeable {
 			return getByPriority(priority).createTask(executable);
 		}
 
-		QueuedTaskExecutor createQueuedTasksExecutor(String executorName, Thread.Supplier threadSupplier, int priority, boolean isDaemon) {
-			return new QueuedTaskExecutor(executorName, threadSupplier, priority, isDaemon) {
+		public List<Task> createTasks(Collection<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>> executables) {
+			return createTasks(executables, java.lang.Thread.currentThread().getPriority());
+		}
+
+		public List<Task> createTasks(Collection<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>> executables, int priority) {
+			QueuedTaskExecutor queuedTasksExecutor = getByPriority(priority);
+			List<Task> tasks = new ArrayList<>(executables.size());
+			for (ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> executable : executables) {
+				tasks.add(queuedTasksExecutor.createTask(executable));
+			}
+			return tasks;
+		}
+
+		//The times are expressed in milliseconds and the timed tasks are executed by the pooled threads of this group
+		public TimerWheel.ScheduledTask schedule(ThrowingRunnable<? extends Throwable> executable, long delay) {
+			return schedule(executable, delay, java.lang.Thread.currentThread().getPriority());
+		}
+
+		public TimerWheel.ScheduledTask schedule(ThrowingRunnable<? extends Throwable> executable, long delay, int priority) {
+			return getTimerWheel().schedule(executable, delay, 0, priority);
+		}
+
+		public TimerWheel.ScheduledTask scheduleAtFixedRate(ThrowingRunnable<? extends Throwable> executable, long initialDelay, long period) {
+			return scheduleAtFixedRate(executable, initialDelay, period, java.lang.Thread.currentThread().getPriority());
+		}
+
+		public TimerWheel.ScheduledTask scheduleAtFixedRate(ThrowingRunnable<? extends Throwable> executable, long initialDelay, long period, int priority) {
+			if (period <= 0) {
+				throw new IllegalArgumentException("The period must be greater than 0");
+			}
+			return getTimerWheel().schedule(executable, initialDelay, period, priority);
+		}
+
+		public TimerWheel.ScheduledTask scheduleWithFixedDelay(ThrowingRunnable<? extends Throwable> executable, long initialDelay, long delay) {
+			return scheduleWithFixedDelay(executable, initialDelay, delay, java.lang.Thread.currentThread().getPriority());
+		}
+
+		public TimerWheel.ScheduledTask scheduleWithFixedDelay(ThrowingRunnable<? extends Throwable> executable, long initialDelay, long delay, int priority) {
+			if (delay <= 0) {
+				throw new IllegalArgumentException("The delay must be greater than 0");
+			}
+			return getTimerWheel().schedule(executable, initialDelay, -delay, priority);
+		}
+
+		//The wheel and its thread are created only when the first task is scheduled
+		TimerWheel getTimerWheel() {
+			TimerWheel timerWheel = this.timerWheel;
+			if (timerWheel != null) {
+				return timerWheel;
+			}
+			return Synchronizer.execute(this, "initialization", () -> {
+				//The executors could be already created if the initializator is starting the all tasks monitorer
+				if (queuedTasksExecutors == null && initializator != null) {
+					initializator.accept(this);
+					initializator = null;
+				}
+				if (this.timerWheel == null) {
+					this.timerWheel = new TimerWheel(this, Optional.ofNullable(name).map(nm -> nm + " - ").orElseGet(() -> "") + "Timer wheel", threadSupplier);
+				}
+				return this.timerWheel;
+			});
+		}
+
+		public TaskScope createScope() {
+			return new TaskScope(this, 0);
+		}
+
+		//The timeout is expressed in milliseconds and the deadline of the scope is computed from its creation
+		public TaskScope createScope(long timeout) {
+			if (timeout <= 0) {
+				throw new IllegalArgumentException("The timeout must be greater than 0");
+			}
+			return new TaskScope(this, timeout);
+		}
+
+		//The executors are fed in the order in which their first task appears and the tasks of the batch keep the order
+		//of the submitted ones. The tasks rejected by a full queue don't prevent the others from being queued
+		public <T extends TaskAbst<?, ?>> Batch<T> submitAll(Collection<T> tasks) {
+			List<T> markedTasks = markAllAsSubmitted(tasks);
+			Map<QueuedTaskExecutor, List<Integer>> taskIndexesForExecutor = new LinkedHashMap<>();
+			for (int taskIndex = 0; taskIndex < markedTasks.size(); taskIndex++) {
+				taskIndexesForExecutor.computeIfAbsent(
+					markedTasks.get(taskIndex).getQueuedTasksExecutor(), queuedTasksExecutor -> new ArrayList<>()
+				).add(taskIndex);
+			}
+			List<T> submittedTasks = new ArrayList<>(markedTasks);
+			TaskRejectedException rejectedTasksException = null;
+			for (Entry<QueuedTaskExecutor, List<Integer>> queuedTasksExecutorAndTaskIndexes : taskIndexesForExecutor.entrySet()) {
+				List<Integer> taskIndexes = queuedTasksExecutorAndTaskIndexes.getValue();
+				List<T> tasksOfExecutor = new ArrayList<>(taskIndexes.size());
+				for (Integer taskIndex : taskIndexes) {
+					tasksOfExecutor.add(markedTasks.get(taskIndex));
+				}
+				try {
+					List<T> effectiveTasks = queuedTasksExecutorAndTaskIndexes.getKey().addAllToQueue(tasksOfExecutor);
+					for (int i = 0; i < taskIndexes.size(); i++) {
+						submittedTasks.set(taskIndexes.get(i), effectiveTasks.get(i));
+					}
+				} catch (TaskRejectedException exc) {
+					if (rejectedTasksException == null) {
+						rejectedTasksException = exc;
+					}
+				}
+			}
+			if (rejectedTasksException != null) {
+				throw rejectedTasksException;
+			}
+			return new Batch<>(submittedTasks);
+		}
+
+		QueuedTaskExecutor createQueuedTasksExecutor(
+			String executorName,
+			Thread.Supplier threadSupplier,
+			int priority,
+			boolean isDaemon,
+			int workStealingParallelism,
+			int queueCapacity,
+			QueueOverflowPolicy queueOverflowPolicy
+		) {
+			return new QueuedTaskExecutor(executorName, threadSupplier, priority, isDaemon, workStealingParallelism, queueCapacity, queueOverflowPolicy) {
 
 				@Override
 				<T> Function<ThrowingFunction<QueuedTaskExecutor.ProducerTask<T>, T, ? extends Throwable>, QueuedTaskExecutor.ProducerTask<T>> getProducerTaskSupplier() {
-					return executable -> new QueuedTaskExecutor.ProducerTask<T>(executable, taskCreationTrackingEnabled) {
+					return executable -> new QueuedTaskExecutor.ProducerTask<T>(executable, getTasksCreationTracker()) {
 
 						@Override
 						QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -1567,7 +3151,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 				@Override
 				<T> Function<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> , QueuedTaskExecutor.Task> getTaskSupplier() {
-					return executable -> new QueuedTaskExecutor.Task(executable, taskCreationTrackingEnabled) {
+					return executable -> new QueuedTaskExecutor.Task(executable, getTasksCreationTracker()) {
 
 						@Override
 						QueuedTaskExecutor getQueuedTasksExecutor() {
@@ -1667,7 +3251,7 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public Group waitForTasksEnding(int priority, boolean waitForNewAddedTasks, boolean ignoreDeadLocked) {
 			//Implemented deferred initialization (since 10.0.0, the previous version is 9.5.2)
-			Synchronizer.execute(getOperationId("initialization"), () -> {
+			Synchronizer.execute(this, "initialization", () -> {
 				if (initializator != null) {
 					return;
 				}
@@ -1711,6 +3295,14 @@ public class QueuedTaskExecutor implements Closeable {
 			return this;
 		}
 
+		public Map<Integer, Metrics.Snapshot> getMetrics() {
+			Map<Integer, Metrics.Snapshot> metrics = new TreeMap<>();
+			for (Entry<Integer, QueuedTaskExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
+				metrics.put(queuedTasksExecutorBox.getKey(), queuedTasksExecutorBox.getValue().getMetrics());
+			}
+			return metrics;
+		}
+
 		public String getInfoAsString() {
 			StringBuffer loggableMessage = new StringBuffer("");
 			for (Entry<Integer, QueuedTaskExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
@@ -1767,11 +3359,16 @@ public class QueuedTaskExecutor implements Closeable {
 
 		public boolean shutDown(boolean waitForTasksTermination) {
 			//Implemented deferred initialization (since 10.0.0, the previous version is 9.5.2)
-			Synchronizer.execute(getOperationId("initialization"), () -> {
+			Synchronizer.execute(this, "initialization", () -> {
 				if (initializator != null) {
 					initializator = null;
 					return;
 				}
+				TimerWheel timerWheel = this.timerWheel;
+				if (timerWheel != null) {
+					timerWheel.close();
+					this.timerWheel = null;
+				}
 				QueuedTaskExecutor lastToBeWaitedFor = getByPriority(java.lang.Thread.currentThread().getPriority());
 				for (Entry<Integer, QueuedTaskExecutor> queuedTasksExecutorBox : queuedTasksExecutors.entrySet()) {
 					QueuedTaskExecutor queuedTasksExecutor = queuedTasksExecutorBox.getValue();
@@ -1780,8 +3377,10 @@ public class QueuedTaskExecutor implements Closeable {
 					}
 				}
 				lastToBeWaitedFor.shutDown(waitForTasksTermination);
-				allTasksMonitorer.close(waitForTasksTermination);
-				allTasksMonitorer = null;
+				if (allTasksMonitorer != null) {
+					allTasksMonitorer.close(waitForTasksTermination);
+					allTasksMonitorer = null;
+				}
 				queuedTasksExecutors.clear();
 				queuedTasksExecutors = null;
 			});
@@ -28,20 +28,32 @@
  */
 package org.burningwave.core.concurrent;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
-import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.burningwave.core.Closeable;
 import org.burningwave.core.function.ThrowingConsumer;
@@ -51,18 +63,53 @@ import org.burningwave.core.function.ThrowingSupplier;
 
 
 public class Synchronizer implements Closeable {
-	Map<String, Mutex> mutexes;
+	private static final AtomicIntegerFieldUpdater<Mutex> CLIENTS_COUNT_UPDATER =
+		AtomicIntegerFieldUpdater.newUpdater(Mutex.class, "clientsCount");
+	private static final AtomicIntegerFieldUpdater<Mutex> WAITERS_COUNT_UPDATER =
+		AtomicIntegerFieldUpdater.newUpdater(Mutex.class, "waitersCount");
+	private static final AtomicReferenceFieldUpdater<Mutex, ReentrantReadWriteLock> READ_WRITE_LOCK_UPDATER =
+		AtomicReferenceFieldUpdater.newUpdater(Mutex.class, ReentrantReadWriteLock.class, "readWriteLock");
+	private static final AtomicReferenceFieldUpdater<Mutex, StampedLock> STAMPED_LOCK_UPDATER =
+		AtomicReferenceFieldUpdater.newUpdater(Mutex.class, StampedLock.class, "stampedLock");
+
+	Map<Object, Mutex> mutexes;
+	Mutex[] stripes;
 	String name;
 	ThreadsMonitorer allThreadsMonitorer;
+	volatile Map<String, ContentionStats> contentionStats;
+	Function<Object, String> contentionKeyClassifier;
+	volatile boolean reentrantLocksEnabled;
 
-	private Synchronizer(String name) {
+	private Synchronizer(String name, int stripeCount, boolean reentrantLocksEnabled) {
 		this.name = name;
+		this.reentrantLocksEnabled = reentrantLocksEnabled;
 		mutexes = new ConcurrentHashMap<>();
+		contentionKeyClassifier = Synchronizer::getDefaultContentionKey;
+		if (stripeCount > 0) {
+			//The stripe count is rounded up to a power of two so that the stripe can be selected by masking the hash
+			stripes = new Mutex[stripeCount > 1 ? Integer.highestOneBit(stripeCount - 1) << 1 : 1];
+			for (int i = 0; i < stripes.length; i++) {
+				stripes[i] = this.new Mutex("stripe-" + i, true);
+			}
+		}
 	}
 
 	public static Synchronizer create(String name, boolean undestroyable) {
+		return create(name, undestroyable, 0);
+	}
+
+	public static Synchronizer create(String name, boolean undestroyable, int stripeCount) {
+		return create(name, undestroyable, stripeCount, false);
+	}
+
+	//If the stripe count is greater than 0 the ids are mapped on a fixed number of mutexes: different ids can share
+	//the same mutex, so this mode must be used only if the callers don't acquire nested mutexes in different orders
+	//If the reentrant locks are enabled the mutexes are locked through a ReentrantLock instead of being used as
+	//monitors, so the waiting virtual threads don't pin their carriers: the callers that retrieve a mutex directly
+	//must then use the execute methods to lock it
+	public static Synchronizer create(String name, boolean undestroyable, int stripeCount, boolean reentrantLocksEnabled) {
 		if (undestroyable) {
-			return new Synchronizer(name) {
+			return new Synchronizer(name, stripeCount, reentrantLocksEnabled) {
 				StackTraceElement[] stackTraceOnCreation = Thread.currentThread().getStackTrace();
 				@Override
 				public void close() {
@@ -72,79 +119,404 @@ public class Synchronizer implements Closeable {
 				}
 			};
 		} else {
-			return new Synchronizer(name);
+			return new Synchronizer(name, stripeCount, reentrantLocksEnabled);
 		}
 	}
 
 	public Mutex getMutex(String id) {
-		Mutex newMutex = this.new Mutex(id);
+		return retrieveMutex(id);
+	}
+
+	//The composite keys avoid building the id by concatenating strings: the owner is compared by identity and the
+	//key parts through their equals method
+	public Mutex getMutex(Object owner, Object key) {
+		return retrieveMutex(new CompositeKey(owner, key, null));
+	}
+
+	public Mutex getMutex(Object owner, Object key, Object secondKey) {
+		return retrieveMutex(new CompositeKey(owner, key, secondKey));
+	}
+
+	//A mutex is reused without allocations while it has clients: once its clients count drops to 0 it can no
+	//longer be acquired and it is replaced by a new one
+	Mutex retrieveMutex(Object id) {
+		Mutex[] stripes = this.stripes;
+		if (stripes != null) {
+			int hashCode = id.hashCode();
+			return stripes[(hashCode ^ (hashCode >>> 16)) & (stripes.length - 1)];
+		}
+		Map<Object, Mutex> mutexes = this.mutexes;
+		Mutex mutex = mutexes.get(id);
 		while (true) {
-			Mutex oldMutex = mutexes.putIfAbsent(id, newMutex);
-	        if (oldMutex == null) {
-		        return newMutex;
-	        }
-	        if (++oldMutex.clientsCount > 1 && mutexes.get(id) == oldMutex) {
-	        	return oldMutex;
-        	}
-        	//logWarn("Unvalid mutex with id \"{}\": a new mutex will be created", id);
-        	continue;
-		}
-    }
+			if (mutex == null) {
+				Mutex newMutex = this.new Mutex(id, false);
+				if ((mutex = mutexes.putIfAbsent(id, newMutex)) == null) {
+					return newMutex;
+				}
+			}
+			if (mutex.acquire()) {
+				return mutex;
+			}
+			mutexes.remove(id, mutex);
+			mutex = mutexes.get(id);
+		}
+	}
+
+	public boolean isStriped() {
+		return stripes != null;
+	}
+
+	public boolean areReentrantLocksEnabled() {
+		return reentrantLocksEnabled;
+	}
+
+	//The lock type is fixed when a mutex is created, so the flag can be changed while the mutexes are in use: it
+	//applies to the mutexes created after the change
+	public void setReentrantLocksFlag(boolean flag) {
+		this.reentrantLocksEnabled = flag;
+	}
+
+	//When the contention tracking is enabled the statistics are grouped by the key returned by the contention key
+	//classifier: by default it is the owner for the composite keys and the part of the id that precedes the
+	//first '_' character for the other ids. In striped mode the statistics are grouped by stripe
+	public void setContentionTrackingFlag(boolean flag) {
+		if (flag) {
+			if (this.contentionStats == null) {
+				this.contentionStats = new ConcurrentHashMap<>();
+			}
+		} else {
+			this.contentionStats = null;
+		}
+	}
+
+	public boolean isContentionTrackingEnabled() {
+		return contentionStats != null;
+	}
+
+	public void setContentionKeyClassifier(Function<Object, String> contentionKeyClassifier) {
+		this.contentionKeyClassifier = contentionKeyClassifier != null ?
+			contentionKeyClassifier :
+			Synchronizer::getDefaultContentionKey;
+	}
+
+	public void resetContentionStats() {
+		if (this.contentionStats != null) {
+			this.contentionStats = new ConcurrentHashMap<>();
+		}
+	}
+
+	public Collection<ContentionStats> getMostContended(int count) {
+		Map<String, ContentionStats> contentionStats = this.contentionStats;
+		if (contentionStats == null) {
+			return Collections.emptyList();
+		}
+		return contentionStats.values().stream().sorted(
+			Comparator.comparingLong(ContentionStats::getWaitingTime).reversed()
+		).limit(count).collect(Collectors.toList());
+	}
+
+	public String getContentionReportAsString(int count) {
+		Collection<ContentionStats> mostContended = getMostContended(count);
+		if (mostContended.isEmpty()) {
+			return "No contention recorded";
+		}
+		return Strings.compile(
+			"Most contended mutexes:\n\n{}",
+			mostContended.stream().map(stats -> "\t" + stats).collect(Collectors.joining("\n"))
+		);
+	}
+
+	ContentionStats getContentionStats(Map<String, ContentionStats> contentionStats, Object id) {
+		String key = contentionKeyClassifier.apply(id);
+		ContentionStats stats = contentionStats.get(key);
+		if (stats == null) {
+			ContentionStats newStats = new ContentionStats(key);
+			if ((stats = contentionStats.putIfAbsent(key, newStats)) == null) {
+				stats = newStats;
+			}
+		}
+		return stats;
+	}
+
+	static String getDefaultContentionKey(Object id) {
+		if (id instanceof CompositeKey) {
+			return ((CompositeKey)id).getOwnerId();
+		}
+		String idAsString = id.toString();
+		int separatorIndex = idAsString.indexOf('_', 1);
+		return separatorIndex > 0 ? idAsString.substring(0, separatorIndex) : idAsString;
+	}
 
 	public void execute(String id, Runnable executable) {
 		try (Mutex mutex = getMutex(id);) {
-			synchronized (mutex) {
+			execute0(mutex, mtx -> {
 				executable.run();
-			}
+				return null;
+			});
 		}
 	}
 
 	public <E extends Throwable> void execute(String id, Consumer<Mutex> executable) throws E {
 		try (Mutex mutex = getMutex(id);) {
-			synchronized (mutex) {
-				executable.accept(mutex);
-			}
+			execute0(mutex, mtx -> {
+				executable.accept(mtx);
+				return null;
+			});
 		}
 	}
 
 	public <E extends Throwable> void executeThrower(String id, ThrowingRunnable<E> executable) throws E {
 		try (Mutex mutex = getMutex(id);) {
-			synchronized (mutex) {
+			execute0(mutex, mtx -> {
 				executable.run();
-			}
+				return null;
+			});
 		}
 	}
 
 	public <E extends Throwable> void executeThrower(String id, ThrowingConsumer<Mutex, E> executable) throws E {
 		try (Mutex mutex = getMutex(id);) {
-			synchronized (mutex) {
-				executable.accept(mutex);
-			}
+			execute0(mutex, mtx -> {
+				executable.accept(mtx);
+				return null;
+			});
 		}
 	}
 
 	public <T> T execute(String id, Supplier<T> executable) {
 		try (Mutex mutex = getMutex(id);) {
-			synchronized (mutex) {
-				return executable.get();
-			}
+			return execute0(mutex, mtx -> executable.get());
 		}
 	}
 
 	public <T, E extends Throwable> T executeThrower(String id, ThrowingSupplier<T, E> executable) throws E {
 		try (Mutex mutex = getMutex(id);) {
-			synchronized (mutex) {
-				return executable.get();
-			}
+			return execute0(mutex, mtx -> executable.get());
 		}
 	}
 
 	public <T, E extends Throwable> T executeThrower(String id, ThrowingFunction<Mutex, T, E> executable) throws E {
 		try (Mutex mutex = getMutex(id);) {
+			return execute0(mutex, executable);
+		}
+	}
+
+	public void execute(Object owner, Object key, Runnable executable) {
+		try (Mutex mutex = getMutex(owner, key);) {
+			execute0(mutex, mtx -> {
+				executable.run();
+				return null;
+			});
+		}
+	}
+
+	public void execute(Object owner, Object key, Object secondKey, Runnable executable) {
+		try (Mutex mutex = getMutex(owner, key, secondKey);) {
+			execute0(mutex, mtx -> {
+				executable.run();
+				return null;
+			});
+		}
+	}
+
+	public <E extends Throwable> void executeThrower(Object owner, Object key, ThrowingRunnable<E> executable) throws E {
+		try (Mutex mutex = getMutex(owner, key);) {
+			execute0(mutex, mtx -> {
+				executable.run();
+				return null;
+			});
+		}
+	}
+
+	public <E extends Throwable> void executeThrower(Object owner, Object key, Object secondKey, ThrowingRunnable<E> executable) throws E {
+		try (Mutex mutex = getMutex(owner, key, secondKey);) {
+			execute0(mutex, mtx -> {
+				executable.run();
+				return null;
+			});
+		}
+	}
+
+	public <T> T execute(Object owner, Object key, Supplier<T> executable) {
+		try (Mutex mutex = getMutex(owner, key);) {
+			return execute0(mutex, mtx -> executable.get());
+		}
+	}
+
+	public <T> T execute(Object owner, Object key, Object secondKey, Supplier<T> executable) {
+		try (Mutex mutex = getMutex(owner, key, secondKey);) {
+			return execute0(mutex, mtx -> executable.get());
+		}
+	}
+
+	public <T, E extends Throwable> T executeThrower(Object owner, Object key, ThrowingSupplier<T, E> executable) throws E {
+		try (Mutex mutex = getMutex(owner, key);) {
+			return execute0(mutex, mtx -> executable.get());
+		}
+	}
+
+	public <T, E extends Throwable> T executeThrower(Object owner, Object key, Object secondKey, ThrowingSupplier<T, E> executable) throws E {
+		try (Mutex mutex = getMutex(owner, key, secondKey);) {
+			return execute0(mutex, mtx -> executable.get());
+		}
+	}
+
+	//In the reentrant lock mode the mutexes are never used as monitors, so the threads waiting for them can be
+	//unmounted from their carriers when they are virtual threads
+	<T, E extends Throwable> T execute0(Mutex mutex, ThrowingFunction<Mutex, T, E> executable) throws E {
+		long startTime = mutex.startWaiting();
+		ReentrantLock lock = mutex.lock;
+		if (lock == null) {
 			synchronized (mutex) {
-				return executable.apply(mutex);
+				return execute0(mutex, startTime, executable);
 			}
 		}
+		lock.lock();
+		try {
+			return execute0(mutex, startTime, executable);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private <T, E extends Throwable> T execute0(Mutex mutex, long startTime, ThrowingFunction<Mutex, T, E> executable) throws E {
+		startTime = mutex.acquired(startTime);
+		try {
+			return executable.apply(mutex);
+		} finally {
+			mutex.released(startTime);
+		}
+	}
+
+	//The read/write and the stamped locks are bound to the mutex of the id, so they are shared by the threads
+	//that use the same id at the same time. The exclusive mutex, the read/write lock and the stamped lock of an id
+	//don't exclude each other: all the callers of an id must use the same kind of lock
+	public <T> T executeRead(String id, Supplier<T> executable) {
+		try (Mutex mutex = getMutex(id);) {
+			return executeRead(mutex, executable);
+		}
+	}
+
+	public <T> T executeRead(Object owner, Object key, Supplier<T> executable) {
+		try (Mutex mutex = getMutex(owner, key);) {
+			return executeRead(mutex, executable);
+		}
+	}
+
+	<T> T executeRead(Mutex mutex, Supplier<T> executable) {
+		ReentrantReadWriteLock.ReadLock readLock = mutex.getReadWriteLock().readLock();
+		long startTime = mutex.startWaiting();
+		readLock.lock();
+		startTime = mutex.acquired(startTime);
+		try {
+			return executable.get();
+		} finally {
+			mutex.released(startTime);
+			readLock.unlock();
+		}
+	}
+
+	public void executeWrite(String id, Runnable executable) {
+		try (Mutex mutex = getMutex(id);) {
+			executeWrite(mutex, () -> {
+				executable.run();
+				return null;
+			});
+		}
+	}
+
+	public <T> T executeWrite(String id, Supplier<T> executable) {
+		try (Mutex mutex = getMutex(id);) {
+			return executeWrite(mutex, executable);
+		}
+	}
+
+	public void executeWrite(Object owner, Object key, Runnable executable) {
+		try (Mutex mutex = getMutex(owner, key);) {
+			executeWrite(mutex, () -> {
+				executable.run();
+				return null;
+			});
+		}
+	}
+
+	public <T> T executeWrite(Object owner, Object key, Supplier<T> executable) {
+		try (Mutex mutex = getMutex(owner, key);) {
+			return executeWrite(mutex, executable);
+		}
+	}
+
+	<T> T executeWrite(Mutex mutex, Supplier<T> executable) {
+		ReentrantReadWriteLock.WriteLock writeLock = mutex.getReadWriteLock().writeLock();
+		long startTime = mutex.startWaiting();
+		writeLock.lock();
+		startTime = mutex.acquired(startTime);
+		try {
+			return executable.get();
+		} finally {
+			mutex.released(startTime);
+			writeLock.unlock();
+		}
+	}
+
+	//The reader is executed without locking and it is executed again under the read lock if a stamped write has
+	//been performed in the meantime: it must not have side effects and it must tolerate inconsistent values.
+	//Only the locked reads are recorded by the contention tracking. The stamped locks are not reentrant
+	public <T> T executeOptimisticRead(String id, Supplier<T> reader) {
+		try (Mutex mutex = getMutex(id);) {
+			return executeOptimisticRead(mutex, reader);
+		}
+	}
+
+	public <T> T executeOptimisticRead(Object owner, Object key, Supplier<T> reader) {
+		try (Mutex mutex = getMutex(owner, key);) {
+			return executeOptimisticRead(mutex, reader);
+		}
+	}
+
+	<T> T executeOptimisticRead(Mutex mutex, Supplier<T> reader) {
+		StampedLock stampedLock = mutex.getStampedLock();
+		long stamp = stampedLock.tryOptimisticRead();
+		if (stamp != 0) {
+			T value = reader.get();
+			if (stampedLock.validate(stamp)) {
+				return value;
+			}
+		}
+		long startTime = mutex.startWaiting();
+		stamp = stampedLock.readLock();
+		startTime = mutex.acquired(startTime);
+		try {
+			return reader.get();
+		} finally {
+			mutex.released(startTime);
+			stampedLock.unlockRead(stamp);
+		}
+	}
+
+	public <T> T executeStampedWrite(String id, Supplier<T> writer) {
+		try (Mutex mutex = getMutex(id);) {
+			return executeStampedWrite(mutex, writer);
+		}
+	}
+
+	public <T> T executeStampedWrite(Object owner, Object key, Supplier<T> writer) {
+		try (Mutex mutex = getMutex(owner, key);) {
+			return executeStampedWrite(mutex, writer);
+		}
+	}
+
+	<T> T executeStampedWrite(Mutex mutex, Supplier<T> writer) {
+		StampedLock stampedLock = mutex.getStampedLock();
+		long startTime = mutex.startWaiting();
+		long stamp = stampedLock.writeLock();
+		startTime = mutex.acquired(startTime);
+		try {
+			return writer.get();
+		} finally {
+			mutex.released(startTime);
+			stampedLock.unlockWrite(stamp);
+		}
 	}
 
 	public void clear() {
@@ -190,10 +562,15 @@ public class Synchronizer implements Closeable {
 		if (getMutexesInfo) {
 			log.append(
 				":\n" +
-				IterableObjectHelper.toString(mutexes, key -> key, value -> "" + value.clientsCount + " clients", 1)
+				IterableObjectHelper.toString(mutexes, key -> key.toString(), value -> "" + value.getClientsCount() + " clients", 1)
 			);
 		}
 		log.append("\n");
+		if (isContentionTrackingEnabled()) {
+			log.append("\n");
+			log.append(getContentionReportAsString(10));
+			log.append("\n");
+		}
 		return log.toString();
 	}
 
@@ -226,43 +603,229 @@ public class Synchronizer implements Closeable {
 	}
 
 	public class Mutex implements java.io.Closeable {
-		Mutex(String id) {
+		volatile int clientsCount;
+		final Object id;
+		final boolean striped;
+		final ReentrantLock lock;
+		volatile int waitersCount;
+		volatile ReentrantReadWriteLock readWriteLock;
+		volatile StampedLock stampedLock;
+		Map<String, ContentionStats> allContentionStats;
+		ContentionStats contentionStats;
+
+		Mutex(Object id, boolean striped) {
 			this.id = id;
+			this.striped = striped;
+			this.lock = reentrantLocksEnabled ? new ReentrantLock() : null;
+			this.clientsCount = 1;
+		}
+
+		//The contention statistics are bound to the mutex the first time that it is used after the tracking has
+		//been enabled or reset: the times are returned in nanoseconds or -1 if the tracking is disabled
+		long startWaiting() {
+			Map<String, ContentionStats> allContentionStats = Synchronizer.this.contentionStats;
+			if (allContentionStats == null) {
+				return -1;
+			}
+			ContentionStats contentionStats = this.contentionStats;
+			if (contentionStats == null || this.allContentionStats != allContentionStats) {
+				this.contentionStats = contentionStats = getContentionStats(allContentionStats, id);
+				this.allContentionStats = allContentionStats;
+			}
+			contentionStats.updateMaxWaitersCount(WAITERS_COUNT_UPDATER.incrementAndGet(this));
+			return System.nanoTime();
+		}
+
+		long acquired(long waitingStartTime) {
+			if (waitingStartTime < 0) {
+				return -1;
+			}
+			WAITERS_COUNT_UPDATER.decrementAndGet(this);
+			long acquisitionTime = System.nanoTime();
+			contentionStats.acquired(acquisitionTime - waitingStartTime);
+			return acquisitionTime;
+		}
+
+		void released(long acquisitionTime) {
+			if (acquisitionTime >= 0) {
+				contentionStats.released(System.nanoTime() - acquisitionTime);
+			}
+		}
+
+		ReentrantReadWriteLock getReadWriteLock() {
+			ReentrantReadWriteLock readWriteLock = this.readWriteLock;
+			if (readWriteLock == null) {
+				READ_WRITE_LOCK_UPDATER.compareAndSet(this, null, new ReentrantReadWriteLock());
+				readWriteLock = this.readWriteLock;
+			}
+			return readWriteLock;
+		}
+
+		StampedLock getStampedLock() {
+			StampedLock stampedLock = this.stampedLock;
+			if (stampedLock == null) {
+				STAMPED_LOCK_UPDATER.compareAndSet(this, null, new StampedLock());
+				stampedLock = this.stampedLock;
+			}
+			return stampedLock;
+		}
+
+		boolean acquire() {
+			int clientsCount;
+			while ((clientsCount = this.clientsCount) > 0) {
+				if (CLIENTS_COUNT_UPDATER.compareAndSet(this, clientsCount, clientsCount + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public int getClientsCount() {
+			return clientsCount;
 		}
-		String id;
-		int clientsCount = 1;
 
 		@Override
 		public void close() {
-			if (--clientsCount < 1) {
-				Synchronizer.this.mutexes.remove(id);
+			if (!striped && (CLIENTS_COUNT_UPDATER.decrementAndGet(this) == 0)) {
+				Map<Object, Mutex> mutexes = Synchronizer.this.mutexes;
+				if (mutexes != null) {
+					mutexes.remove(id, this);
+				}
+			}
+		}
+	}
+
+	static final class CompositeKey {
+		final Object owner;
+		final Object key;
+		final Object secondKey;
+		final int hashCode;
+
+		CompositeKey(Object owner, Object key, Object secondKey) {
+			this.owner = owner;
+			this.key = key;
+			this.secondKey = secondKey;
+			this.hashCode = (31 * (31 * System.identityHashCode(owner) + Objects.hashCode(key))) + Objects.hashCode(secondKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
 			}
+			if (!(object instanceof CompositeKey)) {
+				return false;
+			}
+			CompositeKey other = (CompositeKey)object;
+			return owner == other.owner && hashCode == other.hashCode &&
+				Objects.equals(key, other.key) && Objects.equals(secondKey, other.secondKey);
+		}
+
+		String getOwnerId() {
+			return owner instanceof Class ?
+				((Class<?>)owner).getName() :
+				owner.getClass().getName() + "@" + System.identityHashCode(owner);
+		}
+
+		@Override
+		public String toString() {
+			return getOwnerId() + "_" + key + (secondKey != null ? "_" + secondKey : "");
+		}
+	}
+
+	public static class ContentionStats {
+		final String key;
+		final LongAdder acquisitionsCount;
+		final LongAdder waitingTime;
+		final LongAdder heldTime;
+		final AtomicInteger maxWaitersCount;
+
+		ContentionStats(String key) {
+			this.key = key;
+			this.acquisitionsCount = new LongAdder();
+			this.waitingTime = new LongAdder();
+			this.heldTime = new LongAdder();
+			this.maxWaitersCount = new AtomicInteger();
+		}
+
+		void updateMaxWaitersCount(int waitersCount) {
+			int maxWaitersCount;
+			while (waitersCount > (maxWaitersCount = this.maxWaitersCount.get()) &&
+				!this.maxWaitersCount.compareAndSet(maxWaitersCount, waitersCount)) {}
+		}
+
+		void acquired(long waitingTime) {
+			acquisitionsCount.increment();
+			this.waitingTime.add(waitingTime);
+		}
+
+		void released(long heldTime) {
+			this.heldTime.add(heldTime);
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		public long getAcquisitionsCount() {
+			return acquisitionsCount.sum();
+		}
+
+		//The times are expressed in nanoseconds
+		public long getWaitingTime() {
+			return waitingTime.sum();
+		}
+
+		public long getHeldTime() {
+			return heldTime.sum();
+		}
+
+		public int getMaxWaitersCount() {
+			return maxWaitersCount.get();
+		}
+
+		@Override
+		public String toString() {
+			return Strings.compile(
+				"{}: {} acquisitions, {} ms waiting, {} ms held, {} max waiters",
+				key,
+				getAcquisitionsCount(),
+				getWaitingTime() / 1_000_000,
+				getHeldTime() / 1_000_000,
+				getMaxWaitersCount()
+			);
 		}
 	}
 
 	static class ThreadsMonitorer implements Closeable {
 		Synchronizer synchronizer;
+		TimerWheel.ScheduledTask scheduledTask;
 
 		ThreadsMonitorer(Synchronizer synchronizer) {
 			this.synchronizer = synchronizer;
 		}
 
-		public ThreadsMonitorer start(Long interval) {
-			ThreadHolder.startLooping(getName(), true, java.lang.Thread.MIN_PRIORITY, thread -> {
-				Thread.waitFor(interval);
-				if (thread.isLooping()) {
-					synchronizer.logAllThreadsState(false);
-				}
-			});
+		//A restart replaces the previous schedule
+		public synchronized ThreadsMonitorer start(Long interval) {
+			stop(false);
+			Synchronizer synchronizer = this.synchronizer;
+			scheduledTask = BackgroundExecutor.scheduleWithFixedDelay(
+				() -> synchronizer.logAllThreadsState(false), interval, interval, java.lang.Thread.MIN_PRIORITY
+			);
 			return this;
 		}
 
-		private String getName() {
-			return Optional.ofNullable(synchronizer.name).map(nm -> nm + " - ").orElseGet(() -> "") + "All threads state logger";
-		}
-
-		public void stop(boolean waitThreadToFinish) {
-			ThreadHolder.stop(getName());
+		public synchronized void stop(boolean waitThreadToFinish) {
+			TimerWheel.ScheduledTask scheduledTask = this.scheduledTask;
+			if (scheduledTask != null) {
+				scheduledTask.cancel();
+				this.scheduledTask = null;
+			}
 		}
 
 		@Override
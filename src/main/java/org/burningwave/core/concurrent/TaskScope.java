@@ -0,0 +1,284 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.Closeable;
+import org.burningwave.core.function.ThrowingConsumer;
+import org.burningwave.core.function.ThrowingRunnable;
+import org.burningwave.core.function.ThrowingSupplier;
+
+//A scope for the tasks forked by the thread that creates it, that is the only one allowed to fork and join them.
+//As soon as the outcome of the scope is known (the first failure for joinAll, the first success for
+//joinUntilFirstSuccess, the expiration of the deadline or an explicit shut down) the scope is shut down: the queued
+//tasks are aborted while the running ones are left to end on their own, unless the interruption of the running tasks
+//has been enabled, in which case they are interrupted without discarding their threads. The failures of the tasks
+//that end after the shut down are neither logged nor reported
+public class TaskScope implements Closeable {
+	QueuedTaskExecutor.Group queuedTasksExecutorGroup;
+	Collection<QueuedTaskExecutor.TaskAbst<?, ?>> tasks;
+	BlockingQueue<QueuedTaskExecutor.TaskAbst<?, ?>> completedTasks;
+	//The counters are modified only by the thread that owns the scope
+	volatile int forkedTasksCount;
+	volatile int joinedTasksCount;
+	Long deadline;
+	TimerWheel.ScheduledTask deadlineEnforcer;
+	volatile boolean shutDown;
+	volatile boolean deadlineExpired;
+	volatile boolean runningTasksInterruptionFlag;
+
+	TaskScope(QueuedTaskExecutor.Group queuedTasksExecutorGroup, long timeout) {
+		this.queuedTasksExecutorGroup = queuedTasksExecutorGroup;
+		this.tasks = new ConcurrentLinkedQueue<>();
+		this.completedTasks = new LinkedBlockingQueue<>();
+		if (timeout > 0) {
+			this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+			//The tasks are cancelled when the deadline expires even if the owner of the scope is not joining
+			this.deadlineEnforcer = queuedTasksExecutorGroup.schedule(() -> {
+				if (joinedTasksCount < forkedTasksCount) {
+					shutDown(true);
+				}
+			}, timeout, java.lang.Thread.MAX_PRIORITY);
+		}
+	}
+
+	public TaskScope setRunningTasksInterruptionFlag(boolean flag) {
+		this.runningTasksInterruptionFlag = flag;
+		return this;
+	}
+
+	public <T> QueuedTaskExecutor.ProducerTask<T> fork(ThrowingSupplier<T, ? extends Throwable> executable) {
+		return fork(executable, java.lang.Thread.currentThread().getPriority());
+	}
+
+	public <T> QueuedTaskExecutor.ProducerTask<T> fork(ThrowingSupplier<T, ? extends Throwable> executable, int priority) {
+		return submit(register(queuedTasksExecutorGroup.createProducerTask(executable, priority).setExceptionHandler((task, exc) -> shutDown)));
+	}
+
+	public QueuedTaskExecutor.Task fork(ThrowingRunnable<? extends Throwable> executable) {
+		return fork(executable, java.lang.Thread.currentThread().getPriority());
+	}
+
+	public QueuedTaskExecutor.Task fork(ThrowingRunnable<? extends Throwable> executable, int priority) {
+		return submit(register(queuedTasksExecutorGroup.createTask(executable, priority).setExceptionHandler((task, exc) -> shutDown)));
+	}
+
+	public QueuedTaskExecutor.Task fork(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> executable) {
+		return fork(executable, java.lang.Thread.currentThread().getPriority());
+	}
+
+	public QueuedTaskExecutor.Task fork(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> executable, int priority) {
+		return submit(register(queuedTasksExecutorGroup.createTask(executable, priority).setExceptionHandler((task, exc) -> shutDown)));
+	}
+
+	//The tasks are submitted all together like in QueuedTaskExecutor.Group.submitAll
+	public List<QueuedTaskExecutor.Task> forkAll(Collection<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>> executables, int priority) {
+		List<QueuedTaskExecutor.Task> tasks = queuedTasksExecutorGroup.createTasks(executables, priority);
+		for (QueuedTaskExecutor.Task task : tasks) {
+			register(task.setExceptionHandler((tsk, exc) -> shutDown));
+		}
+		if (shutDown) {
+			for (QueuedTaskExecutor.Task task : tasks) {
+				task.abort();
+			}
+			return tasks;
+		}
+		queuedTasksExecutorGroup.submitAll(tasks);
+		return tasks;
+	}
+
+	<T extends QueuedTaskExecutor.TaskAbst<?, ?>> T register(T task) {
+		tasks.add(task);
+		++forkedTasksCount;
+		task.onCompletion(() -> completedTasks.add(task));
+		return task;
+	}
+
+	//A task registered after the shut down is aborted without being submitted: if the shut down happens while the task
+	//is being submitted the task has already been registered, so it is cancelled by the shut down
+	<T extends QueuedTaskExecutor.TaskAbst<?, ?>> T submit(T task) {
+		if (shutDown) {
+			task.abort();
+			return task;
+		}
+		task.submit();
+		return task;
+	}
+
+	//Waits for all the tasks and throws the exception of the first one that fails, shutting down the scope
+	public TaskScope joinAll() {
+		Throwable exception = null;
+		for (QueuedTaskExecutor.TaskAbst<?, ?> task; (task = nextCompletedTask()) != null;) {
+			if (!shutDown && (exception = task.getCompletionException()) != null) {
+				shutDown();
+			}
+		}
+		if (exception != null) {
+			Driver.throwException(exception);
+		}
+		checkDeadline();
+		return this;
+	}
+
+	//Returns the result of the first task that completes successfully, shutting down the scope: the success of a
+	//ProducerTask requires a result that is not null. If no task succeeds the exception of the first failed task
+	//is thrown or, if no task failed, null is returned
+	@SuppressWarnings("unchecked")
+	public <T> T joinUntilFirstSuccess() {
+		Throwable exception = null;
+		T result = null;
+		boolean succeeded = false;
+		for (QueuedTaskExecutor.TaskAbst<?, ?> task; (task = nextCompletedTask()) != null;) {
+			if (!shutDown) {
+				Throwable taskException = task.getCompletionException();
+				if (taskException == null) {
+					if (task instanceof QueuedTaskExecutor.ProducerTask) {
+						result = ((QueuedTaskExecutor.ProducerTask<T>)task).get();
+						succeeded = result != null;
+					} else {
+						succeeded = true;
+					}
+					if (succeeded) {
+						shutDown();
+					}
+				} else if (exception == null) {
+					exception = taskException;
+				}
+			}
+		}
+		if (succeeded) {
+			return result;
+		}
+		checkDeadline();
+		if (exception != null) {
+			Driver.throwException(exception);
+		}
+		return null;
+	}
+
+	//After the shut down the completion of the cancelled tasks is still awaited, so that none of them outlives the
+	//join, unless the deadline expires
+	private QueuedTaskExecutor.TaskAbst<?, ?> nextCompletedTask() {
+		if (joinedTasksCount == forkedTasksCount || deadlineExpired) {
+			return null;
+		}
+		CompletedTaskRetriever completedTaskRetriever = new CompletedTaskRetriever();
+		try {
+			ForkJoinPool.managedBlock(completedTaskRetriever);
+		} catch (InterruptedException exc) {
+			shutDown();
+			return Driver.throwException(exc);
+		}
+		QueuedTaskExecutor.TaskAbst<?, ?> completedTask = completedTaskRetriever.completedTask;
+		if (completedTask == null) {
+			shutDown(true);
+			return null;
+		}
+		++joinedTasksCount;
+		return completedTask;
+	}
+
+	private void checkDeadline() {
+		if (deadlineExpired) {
+			for (QueuedTaskExecutor.TaskAbst<?, ?> task : tasks) {
+				if (!task.wasExecuted()) {
+					throw new TaskStateException(task, "has not been completed before the deadline of its scope");
+				}
+			}
+		}
+	}
+
+	public boolean isShutDown() {
+		return shutDown;
+	}
+
+	public void shutDown() {
+		shutDown(false);
+	}
+
+	void shutDown(boolean deadlineExpired) {
+		synchronized (this) {
+			if (shutDown) {
+				return;
+			}
+			this.deadlineExpired = deadlineExpired;
+			shutDown = true;
+		}
+		TimerWheel.ScheduledTask deadlineEnforcer = this.deadlineEnforcer;
+		if (deadlineEnforcer != null) {
+			deadlineEnforcer.cancel();
+		}
+		//A task that shuts down its own scope is not interrupted
+		QueuedTaskExecutor.TaskAbst<?, ?> taskInExecution = QueuedTaskExecutor.WaitForGraph.getTaskInExecution();
+		boolean runningTasksInterruptionFlag = this.runningTasksInterruptionFlag;
+		for (QueuedTaskExecutor.TaskAbst<?, ?> task : tasks) {
+			if (task != taskInExecution) {
+				task.cancel(runningTasksInterruptionFlag);
+			}
+		}
+	}
+
+	//The tasks still running are not awaited
+	@Override
+	public void close() {
+		shutDown();
+	}
+
+	//The pool of the work stealing mode is allowed to activate a spare worker while one of its workers is joining
+	class CompletedTaskRetriever implements ForkJoinPool.ManagedBlocker {
+		QueuedTaskExecutor.TaskAbst<?, ?> completedTask;
+
+		@Override
+		public boolean block() throws InterruptedException {
+			Long deadline = TaskScope.this.deadline;
+			if (deadline == null) {
+				completedTask = completedTasks.take();
+			} else {
+				completedTask = completedTasks.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return completedTask != null || (completedTask = completedTasks.poll()) != null;
+		}
+
+	}
+
+}
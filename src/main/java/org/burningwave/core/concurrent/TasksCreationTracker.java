@@ -0,0 +1,225 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class TasksCreationTracker {
+	private static final MethodHandle STACK_WALKER;
+	private static final MethodHandle STACK_FRAME_CLASS_NAME_RETRIEVER;
+	private static final MethodHandle STACK_TRACE_ELEMENT_CONVERTER;
+
+	static {
+		MethodHandle stackWalker = null;
+		MethodHandle stackFrameClassNameRetriever = null;
+		MethodHandle stackTraceElementConverter = null;
+		//StackWalker is not available on JDK 8 where the stack trace is captured through a throwable
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+			Class<?> stackFrameClass = Class.forName("java.lang.StackWalker$StackFrame");
+			stackWalker = lookup.findVirtual(
+				stackWalkerClass, "walk", MethodType.methodType(Object.class, Function.class)
+			).bindTo(
+				lookup.findStatic(stackWalkerClass, "getInstance", MethodType.methodType(stackWalkerClass)).invoke()
+			);
+			stackFrameClassNameRetriever = lookup.findVirtual(stackFrameClass, "getClassName", MethodType.methodType(String.class));
+			stackTraceElementConverter = lookup.findVirtual(stackFrameClass, "toStackTraceElement", MethodType.methodType(StackTraceElement.class));
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logDebug(TasksCreationTracker.class::getName, "StackWalker is not available: the stack traces of the tasks creators will be fully captured");
+			stackWalker = null;
+		}
+		STACK_WALKER = stackWalker;
+		STACK_FRAME_CLASS_NAME_RETRIEVER = stackFrameClassNameRetriever;
+		STACK_TRACE_ELEMENT_CONVERTER = stackTraceElementConverter;
+	}
+
+	static final TasksCreationTracker DEFAULT = new TasksCreationTracker(new Config());
+
+	private final int samplingRate;
+	private final int maxStackDepth;
+	private final long minimumWaitingTime;
+
+	TasksCreationTracker(Config config) {
+		if (config.samplingRate < 1) {
+			throw new IllegalArgumentException("The sampling rate must be greater than 0");
+		}
+		this.samplingRate = config.samplingRate;
+		this.maxStackDepth = config.maxStackDepth > 0 ? config.maxStackDepth : Integer.MAX_VALUE;
+		this.minimumWaitingTime = config.minimumWaitingTime * 1_000_000;
+	}
+
+	public static TasksCreationTracker create(Config config) {
+		return new TasksCreationTracker(config);
+	}
+
+	boolean isToBeTracked() {
+		return samplingRate == 1 || ThreadLocalRandom.current().nextInt(samplingRate) == 0;
+	}
+
+	//The waiting time is expressed in nanoseconds
+	boolean isToBeRetained(long waitingTime) {
+		return waitingTime >= minimumWaitingTime;
+	}
+
+	//Only the frames following the ones of the executor are retained and their conversion to StackTraceElement
+	//is deferred until the creator infos are requested
+	Supplier<List<StackTraceElement>> capture() {
+		if (STACK_WALKER != null) {
+			try {
+				Object[] stackFrames = (Object[])STACK_WALKER.invoke((Function<Stream<Object>, Object[]>)stackFramesStream ->
+					stackFramesStream.filter(new ExternalCallersFilter<>(this::getClassName)).limit(maxStackDepth).toArray()
+				);
+				return () -> {
+					List<StackTraceElement> stackTrace = new ArrayList<>(stackFrames.length);
+					for (Object stackFrame : stackFrames) {
+						stackTrace.add(toStackTraceElement(stackFrame));
+					}
+					return stackTrace;
+				};
+			} catch (Throwable exc) {
+				return Driver.throwException(exc);
+			}
+		}
+		Throwable stackTraceHolder = new Throwable();
+		return () -> {
+			List<StackTraceElement> stackTrace = new ArrayList<>();
+			ExternalCallersFilter<StackTraceElement> externalCallersFilter = new ExternalCallersFilter<>(StackTraceElement::getClassName);
+			for (StackTraceElement stackTraceElement : stackTraceHolder.getStackTrace()) {
+				if (stackTrace.size() < maxStackDepth && externalCallersFilter.test(stackTraceElement)) {
+					stackTrace.add(stackTraceElement);
+				}
+			}
+			return stackTrace;
+		};
+	}
+
+	private String getClassName(Object stackFrame) {
+		try {
+			return (String)STACK_FRAME_CLASS_NAME_RETRIEVER.invoke(stackFrame);
+		} catch (Throwable exc) {
+			return Driver.throwException(exc);
+		}
+	}
+
+	private StackTraceElement toStackTraceElement(Object stackFrame) {
+		try {
+			return (StackTraceElement)STACK_TRACE_ELEMENT_CONVERTER.invoke(stackFrame);
+		} catch (Throwable exc) {
+			return Driver.throwException(exc);
+		}
+	}
+
+	public int getSamplingRate() {
+		return samplingRate;
+	}
+
+	public int getMaxStackDepth() {
+		return maxStackDepth;
+	}
+
+	public long getMinimumWaitingTime() {
+		return minimumWaitingTime / 1_000_000;
+	}
+
+	//Skips the frames of this class and of the executor that precede the first frame of the task creator
+	private static class ExternalCallersFilter<F> implements Predicate<F> {
+		private final Function<F, String> classNameRetriever;
+		private boolean externalCallerReached;
+
+		ExternalCallersFilter(Function<F, String> classNameRetriever) {
+			this.classNameRetriever = classNameRetriever;
+		}
+
+		@Override
+		public boolean test(F stackFrame) {
+			if (!externalCallerReached) {
+				String className = classNameRetriever.apply(stackFrame);
+				externalCallerReached = !className.startsWith(QueuedTaskExecutor.class.getName()) &&
+					!className.equals(TasksCreationTracker.class.getName()) &&
+					!className.equals(java.lang.Throwable.class.getName());
+			}
+			return externalCallerReached;
+		}
+	}
+
+	public static class Config {
+		private int samplingRate;
+		private int maxStackDepth;
+		private long minimumWaitingTime;
+
+		public Config() {
+			this.samplingRate = 1;
+			this.maxStackDepth = -1;
+		}
+
+		public int getSamplingRate() {
+			return samplingRate;
+		}
+
+		//Creation of one task every 'samplingRate' created tasks is tracked
+		public TasksCreationTracker.Config setSamplingRate(int samplingRate) {
+			this.samplingRate = samplingRate;
+			return this;
+		}
+
+		public int getMaxStackDepth() {
+			return maxStackDepth;
+		}
+
+		//A value less than 1 means no limit
+		public TasksCreationTracker.Config setMaxStackDepth(int maxStackDepth) {
+			this.maxStackDepth = maxStackDepth;
+			return this;
+		}
+
+		public long getMinimumWaitingTime() {
+			return minimumWaitingTime;
+		}
+
+		//The creator infos of the tasks that waited in the queue less than these milliseconds are released when
+		//the tasks start
+		public TasksCreationTracker.Config setMinimumWaitingTime(long minimumWaitingTime) {
+			this.minimumWaitingTime = minimumWaitingTime;
+			return this;
+		}
+	}
+}
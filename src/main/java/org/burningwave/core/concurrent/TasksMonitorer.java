@@ -30,13 +30,15 @@ package org.burningwave.core.concurrent;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
-import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.burningwave.core.Closeable;
@@ -47,17 +49,19 @@ public class TasksMonitorer implements Closeable {
 	Map<QueuedTaskExecutor.TaskAbst<?, ?>, StackTraceElement[]> waitingTasksAndLastStackTrace;
 	QueuedTaskExecutor.Group queuedTasksExecutorGroup;
 	TasksMonitorer.Config config;
+	TimerWheel.ScheduledTask scheduledTask;
+	AtomicBoolean handling;
 
 	TasksMonitorer(QueuedTaskExecutor.Group queuedTasksExecutorGroup, TasksMonitorer.Config config) {
 		waitingTasksAndLastStackTrace = new HashMap<>();
+		handling = new AtomicBoolean();
 		this.queuedTasksExecutorGroup = queuedTasksExecutorGroup;
 		this.config = config;
 	}
 
-	void checkAndHandleProbableDeadLockedTasks(
-		long minimumElapsedTimeToConsiderATaskAsProbablyDeadLocked,
-		boolean markAsProbableDeadLocked,
-		Consumer<QueuedTaskExecutor.TaskAbst<?, ?>> terminateProbableDeadLockedTasksFunction
+	//Only detects the probably dead locked tasks, so it can run on the thread of the timer wheel
+	Collection<QueuedTaskExecutor.TaskAbst<?, ?>> findProbableDeadLockedTasks(
+		long minimumElapsedTimeToConsiderATaskAsProbablyDeadLocked
 	) {
 		Iterator<Entry<QueuedTaskExecutor.TaskAbst<?, ?>, StackTraceElement[]>> tasksAndStackTracesIterator = waitingTasksAndLastStackTrace.entrySet().iterator();
 		while (tasksAndStackTracesIterator.hasNext()) {
@@ -66,8 +70,16 @@ public class TasksMonitorer implements Closeable {
 				tasksAndStackTracesIterator.remove();
 			}
 		}
+		Collection<QueuedTaskExecutor.TaskAbst<?, ?>> probableDeadLockedTasks = new ArrayList<>();
 		long currentTime = System.currentTimeMillis();
 		for (QueuedTaskExecutor.TaskAbst<?, ?> task : queuedTasksExecutorGroup.getAllTasksInExecution()) {
+			//The cycles between tasks waiting for each other are detected exactly when the waits begin, so a task that
+			//is waiting for another task is not dead locked as long as the last task of its chain is in execution: if
+			//that task is still queued the waiting task is checked like the others
+			if (task.awaitedTask != null && isInExecution(QueuedTaskExecutor.WaitForGraph.getLastAwaitedTask(task))) {
+				waitingTasksAndLastStackTrace.remove(task);
+				continue;
+			}
 			if (currentTime - task.startTime > minimumElapsedTimeToConsiderATaskAsProbablyDeadLocked) {
 				java.lang.Thread taskThread = task.executor;
 				Thread.State threadState = Optional.ofNullable(taskThread).map(java.lang.Thread::getState).orElseGet(() -> null);
@@ -80,33 +92,7 @@ public class TasksMonitorer implements Closeable {
 					if (previousRegisteredStackTrace != null) {
 						if (areStrackTracesEquals(previousRegisteredStackTrace, currentStackTrace)) {
 							if (!task.hasFinished()) {
-								ManagedLoggerRepository.logWarn(
-									getClass()::getName,
-									"Possible deadlock detected for task:{}",
-									task.getInfoAsString()
-								);
-								if (markAsProbableDeadLocked) {
-									task.markAsProbablyDeadLocked();
-								}
-								if (terminateProbableDeadLockedTasksFunction != null && !task.hasFinished()) {
-									ManagedLoggerRepository.logWarn(
-										getClass()::getName,
-										"Trying to terminate task {}",
-										task.hashCode()
-									);
-									terminateProbableDeadLockedTasksFunction.accept(task);
-								}
-								if (markAsProbableDeadLocked) {
-									task.clear();
-									synchronized(task) {
-										task.notifyAll();
-									}
-								}
-								ManagedLoggerRepository.logWarn(
-									getClass()::getName,
-									Synchronizer.getAllThreadsInfoAsString(true)
-								);
-								Synchronizer.logAllThreadsState(true);
+								probableDeadLockedTasks.add(task);
 							}
 						} else {
 							waitingTasksAndLastStackTrace.put(task, currentStackTrace);
@@ -117,6 +103,73 @@ public class TasksMonitorer implements Closeable {
 				}
 			}
 		}
+		return probableDeadLockedTasks;
+	}
+
+	void handleProbableDeadLockedTasks(
+		Collection<QueuedTaskExecutor.TaskAbst<?, ?>> probableDeadLockedTasks,
+		boolean markAsProbableDeadLocked,
+		Consumer<QueuedTaskExecutor.TaskAbst<?, ?>> terminateProbableDeadLockedTasksFunction
+	) {
+		for (QueuedTaskExecutor.TaskAbst<?, ?> task : probableDeadLockedTasks) {
+			if (!task.hasFinished()) {
+				ManagedLoggerRepository.logWarn(
+					getClass()::getName,
+					"Possible deadlock detected for task:{}",
+					task.getInfoAsString()
+				);
+				if (markAsProbableDeadLocked) {
+					task.markAsProbablyDeadLocked();
+				}
+				if (terminateProbableDeadLockedTasksFunction != null && !task.hasFinished()) {
+					ManagedLoggerRepository.logWarn(
+						getClass()::getName,
+						"Trying to terminate task {}",
+						task.hashCode()
+					);
+					terminateProbableDeadLockedTasksFunction.accept(task);
+				}
+				if (markAsProbableDeadLocked) {
+					task.clear();
+					synchronized(task) {
+						task.notifyAll();
+					}
+				}
+				ManagedLoggerRepository.logWarn(
+					getClass()::getName,
+					Synchronizer.getAllThreadsInfoAsString(true)
+				);
+				Synchronizer.logAllThreadsState(true);
+			}
+		}
+	}
+
+	private boolean isInExecution(QueuedTaskExecutor.TaskAbst<?, ?> task) {
+		return task != null && task.isStarted() && !task.hasFinished();
+	}
+
+	Collection<QueuedTaskExecutor.Metrics.Snapshot> findQueuesOverAlertThreshold(int queuedTasksAlertThreshold) {
+		Collection<QueuedTaskExecutor.Metrics.Snapshot> queuesOverAlertThreshold = new ArrayList<>();
+		if (queuedTasksAlertThreshold < 1) {
+			return queuesOverAlertThreshold;
+		}
+		for (QueuedTaskExecutor.Metrics.Snapshot metrics : queuedTasksExecutorGroup.getMetrics().values()) {
+			if (metrics.getQueuedTasksCount() >= queuedTasksAlertThreshold) {
+				queuesOverAlertThreshold.add(metrics);
+			}
+		}
+		return queuesOverAlertThreshold;
+	}
+
+	void logQueuesOverAlertThreshold(Collection<QueuedTaskExecutor.Metrics.Snapshot> queuesOverAlertThreshold, int queuedTasksAlertThreshold) {
+		for (QueuedTaskExecutor.Metrics.Snapshot metrics : queuesOverAlertThreshold) {
+			ManagedLoggerRepository.logWarn(
+				getClass()::getName,
+				"The queued tasks have reached the alert threshold of {}: {}",
+				queuedTasksAlertThreshold,
+				metrics
+			);
+		}
 	}
 
 	private boolean areStrackTracesEquals(StackTraceElement[] stackTraceOne, StackTraceElement[] stackTraceTwo) {
@@ -135,44 +188,125 @@ public class TasksMonitorer implements Closeable {
 		return Optional.ofNullable(queuedTasksExecutorGroup.name).map(nm -> nm + " - ").orElseGet(() -> "") + "All tasks monitorer";
 	}
 
-	public TasksMonitorer start() {
+	//A restart replaces the previous schedule
+	public synchronized TasksMonitorer start() {
+		stopMonitoring();
 		ManagedLoggerRepository.logInfo(
 			() -> this.getClass().getName(),
 			"Starting {}", getName()
 		);
-		ThreadHolder.startLooping(getName(), true, java.lang.Thread.MIN_PRIORITY, thread -> {
-			Thread.waitFor(config.getInterval());
-			if (thread.isLooping()) {
-				if (config.isAllTasksLoggerEnabled()) {
-					queuedTasksExecutorGroup.logInfo();
-				}
+		//Runs on the thread of the timer wheel instead of holding a dedicated thread: the pooled threads of the
+		//monitored group can't be used since they could all be busy or dead locked
+		scheduledTask = queuedTasksExecutorGroup.getTimerWheel().scheduleOnTicker(
+			this::monitor, config.getInterval(), -config.getInterval()
+		);
+		return this;
+	}
+
+	//The thread of the timer wheel only detects: the logging, the termination function and the clearing of the tasks,
+	//which could block or take long, are handed over to a detached thread. The detection of the next interval is not
+	//handed over if the previous handling is still in progress
+	void monitor() {
+		Collection<QueuedTaskExecutor.Metrics.Snapshot> queuesOverAlertThreshold = null;
+		Collection<QueuedTaskExecutor.TaskAbst<?, ?>> probableDeadLockedTasks = null;
+		try {
+			queuesOverAlertThreshold = findQueuesOverAlertThreshold(config.getQueuedTasksAlertThreshold());
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logError(
+				() -> this.getClass().getName(),
+				"Exception occurred while checking queued tasks", exc
+			);
+		}
+		try {
+			probableDeadLockedTasks = findProbableDeadLockedTasks(
+				config.getMinimumElapsedTimeToConsiderATaskAsProbablyDeadLocked()
+			);
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logError(
+				() -> this.getClass().getName(),
+				"Exception occurred while checking dead locked tasks", exc
+			);
+		}
+		boolean allTasksLoggerEnabled = config.isAllTasksLoggerEnabled();
+		if (!(allTasksLoggerEnabled ||
+			(queuesOverAlertThreshold != null && !queuesOverAlertThreshold.isEmpty()) ||
+			(probableDeadLockedTasks != null && !probableDeadLockedTasks.isEmpty())) ||
+			!handling.compareAndSet(false, true)
+		) {
+			return;
+		}
+		Collection<QueuedTaskExecutor.Metrics.Snapshot> queuesOverAlertThresholdToBeLogged = queuesOverAlertThreshold;
+		Collection<QueuedTaskExecutor.TaskAbst<?, ?>> probableDeadLockedTasksToBeHandled = probableDeadLockedTasks;
+		try {
+			Thread handler = queuedTasksExecutorGroup.threadSupplier.createDetachedThread().setExecutable(thread -> {
 				try {
-					checkAndHandleProbableDeadLockedTasks(
-						config.getMinimumElapsedTimeToConsiderATaskAsProbablyDeadLocked(),
-						config.isMarkAsProablyDeadLockedEnabled(),
-						config.getTerminateProablyDeadLockedTasksFunction()
-					);
-				} catch (Throwable exc) {
-					ManagedLoggerRepository.logError(
-						() -> this.getClass().getName(),
-						"Exception occurred while checking dead locked tasks", exc
-					);
+					handle(allTasksLoggerEnabled, queuesOverAlertThresholdToBeLogged, probableDeadLockedTasksToBeHandled);
+				} finally {
+					handling.set(false);
 				}
+			});
+			handler.setName(getName() + " - Handler");
+			handler.setPriority(java.lang.Thread.MAX_PRIORITY);
+			handler.setDaemon(true);
+			handler.start();
+		} catch (Throwable exc) {
+			handling.set(false);
+			ManagedLoggerRepository.logError(
+				() -> this.getClass().getName(),
+				"Exception occurred while starting the handler of {}", exc, getName()
+			);
+		}
+	}
+
+	void handle(
+		boolean allTasksLoggerEnabled,
+		Collection<QueuedTaskExecutor.Metrics.Snapshot> queuesOverAlertThreshold,
+		Collection<QueuedTaskExecutor.TaskAbst<?, ?>> probableDeadLockedTasks
+	) {
+		QueuedTaskExecutor.Group queuedTasksExecutorGroup = this.queuedTasksExecutorGroup;
+		if (queuedTasksExecutorGroup == null) {
+			return;
+		}
+		if (allTasksLoggerEnabled) {
+			queuedTasksExecutorGroup.logInfo();
+		}
+		if (queuesOverAlertThreshold != null) {
+			logQueuesOverAlertThreshold(queuesOverAlertThreshold, config.getQueuedTasksAlertThreshold());
+		}
+		if (probableDeadLockedTasks != null) {
+			try {
+				handleProbableDeadLockedTasks(
+					probableDeadLockedTasks,
+					config.isMarkAsProablyDeadLockedEnabled(),
+					config.getTerminateProablyDeadLockedTasksFunction()
+				);
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(
+					() -> this.getClass().getName(),
+					"Exception occurred while handling dead locked tasks", exc
+				);
 			}
-		});
-		return this;
+		}
 	}
 
 	public void stop() {
 		stop(false);
 	}
 
-	public void stop(boolean waitThreadToFinish) {
+	public synchronized void stop(boolean waitThreadToFinish) {
 		ManagedLoggerRepository.logInfo(
 			() -> this.getClass().getName(),
 			"Starting {}", getName()
 		);
-		ThreadHolder.stop(getName());
+		stopMonitoring();
+	}
+
+	private void stopMonitoring() {
+		TimerWheel.ScheduledTask scheduledTask = this.scheduledTask;
+		if (scheduledTask != null) {
+			scheduledTask.cancel();
+			this.scheduledTask = null;
+		}
 	}
 
 	@Override
@@ -193,6 +327,7 @@ public class TasksMonitorer implements Closeable {
 		private boolean markAsProbableDeadLocked;
 		private Consumer<QueuedTaskExecutor.TaskAbst<?, ?>> terminateProbableDeadLockedTasksFunction;
 		private boolean allTasksLoggerEnabled;
+		private int queuedTasksAlertThreshold;
 
 		public long getInterval() {
 			return interval;
@@ -247,5 +382,14 @@ public class TasksMonitorer implements Closeable {
 			this.allTasksLoggerEnabled = allTasksLoggerEnabled;
 			return this;
 		}
+
+		public int getQueuedTasksAlertThreshold() {
+			return queuedTasksAlertThreshold;
+		}
+
+		public TasksMonitorer.Config setQueuedTasksAlertThreshold(int queuedTasksAlertThreshold) {
+			this.queuedTasksAlertThreshold = queuedTasksAlertThreshold;
+			return this;
+		}
 	}
 }
\ No newline at end of file
@@ -36,6 +36,9 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -54,11 +57,33 @@ import org.burningwave.core.iterable.IterableObjectHelper.ResolveConfig;
 @SuppressWarnings("deprecation")
 public abstract class Thread extends java.lang.Thread {
 	private final static ThrowingConsumer<Thread, ? extends Throwable> nullExecutableNotifier;
+	private final static Function<java.lang.Runnable, java.lang.Thread> virtualThreadCreator;
 
 	static {
 		nullExecutableNotifier = thread -> {
 			ManagedLoggerRepository.logError(thread.getClass()::getName, "Executable is null");
 		};
+		Function<java.lang.Runnable, java.lang.Thread> virtualThreadCreatorTemp = null;
+		//Virtual threads are retrieved through method handles so that this class still works on the JVMs that don't support them
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			MethodHandle virtualThreadBuilderSupplier = lookup.findStatic(
+				java.lang.Thread.class, "ofVirtual", MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual"))
+			);
+			MethodHandle unstartedThreadCreator = lookup.findVirtual(
+				Class.forName("java.lang.Thread$Builder"), "unstarted", MethodType.methodType(java.lang.Thread.class, java.lang.Runnable.class)
+			);
+			virtualThreadCreatorTemp = runnable -> {
+				try {
+					return (java.lang.Thread)unstartedThreadCreator.invoke(virtualThreadBuilderSupplier.invoke(), runnable);
+				} catch (Throwable exc) {
+					return Driver.throwException(exc);
+				}
+			};
+		} catch (Throwable exc) {
+			//Virtual threads are not supported
+		}
+		virtualThreadCreator = virtualThreadCreatorTemp;
 	}
 
 	ThrowingConsumer<Thread, ? extends Throwable> originalExecutable;
@@ -120,6 +145,27 @@ public abstract class Thread extends java.lang.Thread {
 		return this instanceof Poolable;
 	}
 
+	public boolean isBackedByVirtualThread() {
+		return this instanceof Virtual;
+	}
+
+	//The following methods are overridden by the threads that run their executable on another thread
+	java.lang.Thread getExecutingThread() {
+		return this;
+	}
+
+	boolean isExecutingThreadAlive() {
+		return isAlive();
+	}
+
+	void interruptExecutingThread() {
+		super.interrupt();
+	}
+
+	void joinExecutingThread() throws InterruptedException {
+		join();
+	}
+
 	@Override
 	public void start() {
 		if (this.originalExecutable == null) {
@@ -161,7 +207,7 @@ public abstract class Thread extends java.lang.Thread {
 	}
 
 	public boolean isRunning() {
-		return isAlive() && running;
+		return isExecutingThreadAlive() && running;
 	}
 
 	public boolean isLooping() {
@@ -190,7 +236,7 @@ public abstract class Thread extends java.lang.Thread {
 
 	@Override
 	public void interrupt() {
-		terminate(thread -> super.interrupt(), "interrupt");
+		terminate(Thread::interruptExecutingThread, "interrupt");
 	}
 
 	void terminate(Consumer<Thread> operation, String operationName) {
@@ -207,7 +253,8 @@ public abstract class Thread extends java.lang.Thread {
 		shutDown();
 		removePermanently();
 		java.lang.Thread currentThread = java.lang.Thread.currentThread();
-		if (this != currentThread) {
+		java.lang.Thread executingThread = getExecutingThread();
+		if (executingThread != currentThread) {
 			try {
 				operation.accept(this);
 			} catch (Throwable exc) {
@@ -220,7 +267,7 @@ public abstract class Thread extends java.lang.Thread {
 		synchronized(executableWrapper) {
 			executableWrapper.notifyAll();
 		}
-		if (this == currentThread) {
+		if (executingThread == currentThread) {
 			Thread killer = supplier.getOrCreateThread().setExecutable(thread -> {
 				operation.accept(this);
 			});
@@ -307,7 +354,7 @@ public abstract class Thread extends java.lang.Thread {
 							supplier.poolableSleepingThreads.notifyAll();
 						}
 						setPriority(supplier.defaultThreadPriority);
-						executableWrapper.wait();
+						supplier.waitForExecutable(this);
 					}
 				} catch (InterruptedException exc) {
 					ManagedLoggerRepository.logError(getClass()::getName, exc);
@@ -397,6 +444,70 @@ public abstract class Thread extends java.lang.Thread {
 	}
 
 
+	//This thread is never started: it acts as a handle of the virtual thread on which the executable runs so that
+	//it can be managed like the platform threads (virtual threads ignore the priority and could not be stopped)
+	private static class Virtual extends Detached {
+		private volatile java.lang.Thread virtualThread;
+
+		private Virtual(Thread.Supplier supplier, long number) {
+			super(supplier, number);
+		}
+
+		@Override
+		void startRunning() {
+			java.lang.Thread virtualThread = virtualThreadCreator.apply(this::run);
+			virtualThread.setName(getName());
+			this.virtualThread = virtualThread;
+			virtualThread.start();
+		}
+
+		@Override
+		java.lang.Thread getExecutingThread() {
+			return virtualThread;
+		}
+
+		@Override
+		boolean isExecutingThreadAlive() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null && virtualThread.isAlive();
+		}
+
+		@Override
+		void interruptExecutingThread() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			if (virtualThread != null) {
+				virtualThread.interrupt();
+			}
+		}
+
+		@Override
+		void joinExecutingThread() throws InterruptedException {
+			java.lang.Thread virtualThread = this.virtualThread;
+			if (virtualThread != null) {
+				virtualThread.join();
+			}
+		}
+
+		@Override
+		@Deprecated/*(since="12.60.0")*/
+		public void kill() {
+			terminate(Thread::interruptExecutingThread, "interrupt (virtual threads could not be stopped)");
+		}
+
+		@Override
+		public StackTraceElement[] getStackTrace() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread.getStackTrace() : super.getStackTrace();
+		}
+
+		@Override
+		public State getState() {
+			java.lang.Thread virtualThread = this.virtualThread;
+			return virtualThread != null ? virtualThread.getState() : super.getState();
+		}
+
+	}
+
 	public static class Supplier implements Identifiable {
 		public static abstract class Configuration {
 			public static abstract class Key {
@@ -408,6 +519,13 @@ public abstract class Thread extends java.lang.Thread {
 					"thread-supplier.max-detached-thread-count.elapsed-time-threshold-from-last-increase-for-gradual-decreasing-to-initial-value";
 				public static final String MAX_DETACHED_THREAD_COUNT_INCREASING_STEP = "thread-supplier.max-detached-thread-count.increasing-step";
 				public static final String DEFAULT_THREAD_PRIORITY = "thread-supplier.default-thread-priority";
+				public static final String VIRTUAL_THREADS_ENABLED = "thread-supplier.virtual-threads.enabled";
+				public static final String ELASTIC_SIZING_ENABLED = "thread-supplier.elastic-sizing.enabled";
+				public static final String ELASTIC_SIZING_TARGET_WAIT_LATENCY = "thread-supplier.elastic-sizing.target-wait-latency";
+				public static final String ELASTIC_SIZING_MAX_CPU_LOAD = "thread-supplier.elastic-sizing.max-cpu-load";
+				public static final String ELASTIC_SIZING_MIN_POOLABLE_THREAD_COUNT = "thread-supplier.elastic-sizing.min-poolable-thread-count";
+				public static final String ELASTIC_SIZING_MAX_DETACHED_THREAD_COUNT = "thread-supplier.elastic-sizing.max-detached-thread-count";
+				public static final String ELASTIC_SIZING_POOLABLE_THREAD_KEEP_ALIVE_TIME = "thread-supplier.elastic-sizing.poolable-thread-keep-alive-time";
 			}
 
 			public final static Map<String, Object> DEFAULT_VALUES;
@@ -450,6 +568,41 @@ public abstract class Thread extends java.lang.Thread {
 					java.lang.Thread.NORM_PRIORITY
 				);
 
+				defaultValues.put(
+					Key.VIRTUAL_THREADS_ENABLED,
+					false
+				);
+
+				defaultValues.put(
+					Key.ELASTIC_SIZING_ENABLED,
+					false
+				);
+
+				defaultValues.put(
+					Key.ELASTIC_SIZING_TARGET_WAIT_LATENCY,
+					50
+				);
+
+				defaultValues.put(
+					Key.ELASTIC_SIZING_MAX_CPU_LOAD,
+					90
+				);
+
+				defaultValues.put(
+					Key.ELASTIC_SIZING_MIN_POOLABLE_THREAD_COUNT,
+					"autodetect"
+				);
+
+				defaultValues.put(
+					Key.ELASTIC_SIZING_MAX_DETACHED_THREAD_COUNT,
+					"autodetect"
+				);
+
+				defaultValues.put(
+					Key.ELASTIC_SIZING_POOLABLE_THREAD_KEEP_ALIVE_TIME,
+					60000
+				);
+
 				DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 			}
 		}
@@ -479,6 +632,8 @@ public abstract class Thread extends java.lang.Thread {
 		private java.util.function.Supplier<Thread.Poolable> getReversePoolableThreadFunction;
 		private java.util.function.Supplier<Thread.Poolable> getPoolableThreadFunction;
 		private int defaultThreadPriority;
+		private boolean virtualThreadsEnabled;
+		private ThreadsSizeController sizeController;
 
 		Supplier (
 			String name,
@@ -588,6 +743,85 @@ public abstract class Thread extends java.lang.Thread {
 			} catch (Throwable exc) {
 				this.defaultThreadPriority = java.lang.Thread.currentThread().getPriority();
 			}
+			this.virtualThreadsEnabled = Objects.toBoolean(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Configuration.Key.VIRTUAL_THREADS_ENABLED)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			);
+			if (virtualThreadsEnabled && virtualThreadCreator == null) {
+				ManagedLoggerRepository.logWarn(getClass()::getName, "Virtual threads are not supported by this JVM: {} will supply platform threads", name);
+				virtualThreadsEnabled = false;
+			}
+			boolean elasticSizingEnabled = Objects.toBoolean(
+				IterableObjectHelper.resolveValue(
+					ResolveConfig.forNamedKey(Configuration.Key.ELASTIC_SIZING_ENABLED)
+					.on(config)
+					.withDefaultValues(Configuration.DEFAULT_VALUES)
+				)
+			);
+			if (elasticSizingEnabled && !virtualThreadsEnabled) {
+				int minPoolableThreadCount;
+				try {
+					minPoolableThreadCount = Objects.toInt(
+						IterableObjectHelper.resolveValue(
+							ResolveConfig.forNamedKey(Configuration.Key.ELASTIC_SIZING_MIN_POOLABLE_THREAD_COUNT)
+							.on(config)
+							.withDefaultValues(Configuration.DEFAULT_VALUES)
+						)
+					);
+				} catch (Throwable exc) {
+					minPoolableThreadCount = availableProcessors;
+				}
+				//The configured max detached thread count is the lower bound of the limit of the detached threads
+				int maxElasticDetachedThreadCount;
+				try {
+					maxElasticDetachedThreadCount = Objects.toInt(
+						IterableObjectHelper.resolveValue(
+							ResolveConfig.forNamedKey(Configuration.Key.ELASTIC_SIZING_MAX_DETACHED_THREAD_COUNT)
+							.on(config)
+							.withDefaultValues(Configuration.DEFAULT_VALUES)
+						)
+					);
+				} catch (Throwable exc) {
+					maxElasticDetachedThreadCount = (int)Math.min(
+						(long)Math.max(maxDetachedThreadCount, availableProcessors) * 4, Integer.MAX_VALUE - maxPoolableThreadCount
+					);
+				}
+				if (maxElasticDetachedThreadCount < 0) {
+					maxElasticDetachedThreadCount = Integer.MAX_VALUE - maxPoolableThreadCount;
+				}
+				this.sizeController = new ThreadsSizeController(
+					this,
+					Objects.toLong(
+						IterableObjectHelper.resolveValue(
+							ResolveConfig.forNamedKey(Configuration.Key.ELASTIC_SIZING_TARGET_WAIT_LATENCY)
+							.on(config)
+							.withDefaultValues(Configuration.DEFAULT_VALUES)
+						)
+					),
+					poolableThreadRequestTimeout,
+					Objects.toInt(
+						IterableObjectHelper.resolveValue(
+							ResolveConfig.forNamedKey(Configuration.Key.ELASTIC_SIZING_MAX_CPU_LOAD)
+							.on(config)
+							.withDefaultValues(Configuration.DEFAULT_VALUES)
+						)
+					),
+					minPoolableThreadCount,
+					maxPoolableThreadCount,
+					maxDetachedThreadCount,
+					maxElasticDetachedThreadCount,
+					Objects.toLong(
+						IterableObjectHelper.resolveValue(
+							ResolveConfig.forNamedKey(Configuration.Key.ELASTIC_SIZING_POOLABLE_THREAD_KEEP_ALIVE_TIME)
+							.on(config)
+							.withDefaultValues(Configuration.DEFAULT_VALUES)
+						)
+					)
+				);
+			}
 		}
 
 		public static Supplier create(
@@ -615,6 +849,9 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public Thread getOrCreatePoolableThread() {
+			if (virtualThreadsEnabled) {
+				return createVirtualThread();
+			}
 			Thread thread;
 			while ((thread = getPoolableThreadFunction.get()) == null) {
 				synchronized(poolableSleepingThreads) {
@@ -650,10 +887,17 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		final Thread getOrCreateThread(int initialValue, int tentativeCount) {
+			//Virtual threads are cheap so they are neither pooled nor limited
+			if (virtualThreadsEnabled) {
+				return createVirtualThread();
+			}
 			Thread thread = getPoolableThreadFunction.get();
 			if (thread != null) {
 				return thread;
 			}
+			if (sizeController != null) {
+				return getOrCreateThreadWithElasticSizing();
+			}
 			if (tentativeCount > 0 && poolableThreadCount >= maxPoolableThreadCount && threadCount >= maxThreadCount) {
 				synchronized(poolableSleepingThreads) {
 					try {
@@ -713,6 +957,80 @@ public abstract class Thread extends java.lang.Thread {
 			}
 		}
 
+		//With the elastic sizing the requests wait for a thread in slices of the target latency and every slice waited
+		//is reported to the controller, which can raise the limit of the detached threads while the request is still waiting
+		private Thread getOrCreateThreadWithElasticSizing() {
+			synchronized(poolableSleepingThreads) {
+				sizeController.onRequest(runningThreads.size() + 1);
+				Thread thread;
+				boolean waiting = false;
+				long startWaitTime = 0;
+				long lastReportTime = 0;
+				while ((thread = getPoolableThreadFunction.get()) == null) {
+					if (poolableThreadCount < maxPoolableThreadCount) {
+						thread = createPoolableThread();
+						break;
+					}
+					maxThreadCount = maxPoolableThreadCount + sizeController.getDetachedThreadCountLimit();
+					if (threadCount < maxThreadCount) {
+						thread = createDetachedThread();
+						break;
+					}
+					if (!waiting) {
+						waiting = true;
+						startWaitTime = lastReportTime = System.nanoTime();
+						sizeController.onWaitingStarted();
+					}
+					try {
+						poolableSleepingThreads.wait(sizeController.getTargetWaitLatencyInMillis());
+					} catch (InterruptedException exc) {
+						ManagedLoggerRepository.logError(getClass()::getName, exc);
+					}
+					long now = System.nanoTime();
+					if (now - lastReportTime >= sizeController.targetWaitLatency) {
+						lastReportTime = now;
+						sizeController.onTargetWaitLatencyExceeded(now - startWaitTime);
+					}
+				}
+				if (waiting) {
+					sizeController.onWaitingEnded(System.nanoTime() - startWaitTime);
+				}
+				return thread;
+			}
+		}
+
+		//Called by the poolable threads while holding the monitor of their executable wrapper: with the elastic sizing
+		//a thread that remains idle for the keep-alive time is retired if the poolable threads exceed the target of the controller
+		private void waitForExecutable(Thread.Poolable thread) throws InterruptedException {
+			if (sizeController == null || sizeController.poolableThreadKeepAliveTime <= 0) {
+				thread.executableWrapper.wait();
+				return;
+			}
+			long keepAliveTime = sizeController.poolableThreadKeepAliveTime;
+			long startIdleTime = System.currentTimeMillis();
+			while (thread.executableWrapper.get() == null && thread.running) {
+				thread.executableWrapper.wait(keepAliveTime);
+				if (thread.executableWrapper.get() != null || !thread.running ||
+					System.currentTimeMillis() - startIdleTime < keepAliveTime
+				) {
+					continue;
+				}
+				if (sizeController.mustBeRetired(poolableThreadCount)) {
+					synchronized(poolableSleepingThreads) {
+						if (removePoolableSleepingThread(thread)) {
+							--threadCount;
+							--poolableThreadCount;
+							thread.running = false;
+							sizeController.onRetired();
+							poolableSleepingThreads.notifyAll();
+							return;
+						}
+					}
+				}
+				startIdleTime = System.currentTimeMillis();
+			}
+		}
+
 		Thread createPoolableThread() {
 			++poolableThreadCount;
 			++threadCount;
@@ -720,10 +1038,35 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public Thread createDetachedThread() {
+			if (virtualThreadsEnabled) {
+				return createVirtualThread();
+			}
 			++threadCount;
 			return new Detached(this, ++threadNumberSupplier);
 		}
 
+		Thread createVirtualThread() {
+			++threadCount;
+			return new Virtual(this, ++threadNumberSupplier);
+		}
+
+		public boolean areVirtualThreadsEnabled() {
+			return virtualThreadsEnabled;
+		}
+
+		public boolean isElasticSizingEnabled() {
+			return sizeController != null;
+		}
+
+		//Returns null if the elastic sizing is not enabled
+		public ThreadsSizeController.Snapshot getSizingMetrics() {
+			return sizeController != null ? sizeController.getSnapshot() : null;
+		}
+
+		public String getName() {
+			return name;
+		}
+
 		private Integer addForwardPoolableSleepingThread(Thread.Poolable thread) {
 			addPoolableSleepingThreadFunction = addReversePoolableSleepingThreadFunction;
 			for (int index = 0; index < poolableSleepingThreads.length; index++) {
@@ -840,7 +1183,7 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public Thread joinThread(Thread thread) {
-			if (java.lang.Thread.currentThread() == thread) {
+			if (java.lang.Thread.currentThread() == thread.getExecutingThread()) {
 				ManagedLoggerRepository.logWarn(getClass()::getName, "Join ignored: the current thread could not wait itself");
 				return thread;
 			}
@@ -893,7 +1236,10 @@ public abstract class Thread extends java.lang.Thread {
 		}
 
 		public int getCountOfThreadsThatCanBeSupplied() {
-			if (maxDetachedThreadCountIncreasingStep > 0) {
+			if (sizeController != null) {
+				return maxPoolableThreadCount + sizeController.maxDetachedThreadCount - runningThreads.size();
+			}
+			if (virtualThreadsEnabled || maxDetachedThreadCountIncreasingStep > 0) {
 				return Integer.MAX_VALUE - runningThreads.size();
 			}
 			return maxThreadCount - runningThreads.size();
@@ -1020,7 +1366,7 @@ public abstract class Thread extends java.lang.Thread {
 			Thread thr = threads.get(threadName);
 			if (thr != null) {
 				try {
-					thr.join();
+					thr.joinExecutingThread();
 				} catch (InterruptedException exc) {
 					ManagedLoggerRepository.logError(getClass()::getName, exc);
 				}
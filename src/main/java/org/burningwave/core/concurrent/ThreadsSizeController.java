@@ -0,0 +1,394 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+//Sizes the pools of a Thread.Supplier through a feedback loop: the requests that wait for a thread longer than the
+//target latency raise the limit of the detached threads proportionally to the number of the waiting requests, unless
+//the CPU is already saturated, while the control periods without waits lower it gradually toward the observed demand.
+//The poolable threads exceeding the observed demand are retired when they remain idle for the keep-alive time
+public class ThreadsSizeController {
+	static final long CONTROL_PERIOD = TimeUnit.MILLISECONDS.toNanos(1000);
+	private final static DoubleSupplier cpuLoadRetriever;
+
+	static {
+		OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+		DoubleSupplier cpuLoadRetrieverTemp;
+		//The load of the process is retrieved through a method handle because the com.sun.management package could be
+		//not available: in this case the system load average divided by the number of the processors is used
+		try {
+			MethodHandle processCpuLoadRetriever = MethodHandles.publicLookup().findVirtual(
+				Class.forName("com.sun.management.OperatingSystemMXBean"), "getProcessCpuLoad", MethodType.methodType(double.class)
+			);
+			cpuLoadRetrieverTemp = () -> {
+				try {
+					return (double)processCpuLoadRetriever.invoke(operatingSystemMXBean);
+				} catch (Throwable exc) {
+					return -1;
+				}
+			};
+		} catch (Throwable exc) {
+			cpuLoadRetrieverTemp = () ->
+				operatingSystemMXBean.getSystemLoadAverage() / operatingSystemMXBean.getAvailableProcessors();
+		}
+		cpuLoadRetriever = cpuLoadRetrieverTemp;
+	}
+
+	Thread.Supplier threadSupplier;
+	final long targetWaitLatency;
+	final long forcedIncreaseWaitTime;
+	final int maxCpuLoad;
+	final int minPoolableThreadCount;
+	final int maxPoolableThreadCount;
+	final int minDetachedThreadCount;
+	final int maxDetachedThreadCount;
+	final long poolableThreadKeepAliveTime;
+	int poolableThreadCountTarget;
+	int detachedThreadCountLimit;
+	int waitingRequestsCount;
+	//The fields below are reset at the end of each control period
+	long waitTimesSum;
+	int waitsCount;
+	long maxWaitTime;
+	boolean targetWaitLatencyExceeded;
+	int peakRunningThreadCount;
+	long lastControlTime;
+	long lastIncreaseTime;
+	long lastAverageWaitTime;
+	long lastMaxWaitTime;
+	int lastCpuLoad;
+	Decision lastDecision;
+	long increasesCount;
+	long heldIncreasesCount;
+	long decreasesCount;
+	long retiredThreadsCount;
+
+	//The wait times are expressed in milliseconds: a request that waited for the forced increase wait time makes the
+	//limit of the detached threads grow even if the CPU is saturated, so that the tasks that wait for other tasks can't starve
+	ThreadsSizeController(
+		Thread.Supplier threadSupplier,
+		long targetWaitLatency,
+		long forcedIncreaseWaitTime,
+		int maxCpuLoad,
+		int minPoolableThreadCount,
+		int maxPoolableThreadCount,
+		int minDetachedThreadCount,
+		int maxDetachedThreadCount,
+		long poolableThreadKeepAliveTime
+	) {
+		if (targetWaitLatency < 1) {
+			throw new IllegalArgumentException("The target wait latency must be greater than zero");
+		}
+		this.threadSupplier = threadSupplier;
+		this.targetWaitLatency = TimeUnit.MILLISECONDS.toNanos(targetWaitLatency);
+		this.forcedIncreaseWaitTime = TimeUnit.MILLISECONDS.toNanos(forcedIncreaseWaitTime);
+		this.maxCpuLoad = maxCpuLoad;
+		this.minPoolableThreadCount = Math.min(Math.max(minPoolableThreadCount, 0), maxPoolableThreadCount);
+		this.maxPoolableThreadCount = maxPoolableThreadCount;
+		this.minDetachedThreadCount = minDetachedThreadCount;
+		this.maxDetachedThreadCount = Math.max(maxDetachedThreadCount, minDetachedThreadCount);
+		this.poolableThreadKeepAliveTime = poolableThreadKeepAliveTime;
+		this.poolableThreadCountTarget = maxPoolableThreadCount;
+		this.detachedThreadCountLimit = minDetachedThreadCount;
+		this.lastControlTime = this.lastIncreaseTime = System.nanoTime();
+		this.lastCpuLoad = -1;
+		this.lastDecision = Decision.NONE;
+	}
+
+	long getTargetWaitLatencyInMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(targetWaitLatency);
+	}
+
+	synchronized int getDetachedThreadCountLimit() {
+		return detachedThreadCountLimit;
+	}
+
+	synchronized void onRequest(int runningThreadCount) {
+		peakRunningThreadCount = Math.max(peakRunningThreadCount, runningThreadCount);
+		controlIfPeriodElapsed();
+	}
+
+	synchronized void onWaitingStarted() {
+		++waitingRequestsCount;
+	}
+
+	synchronized void onWaitingEnded(long waitTime) {
+		--waitingRequestsCount;
+		waitTimesSum += waitTime;
+		++waitsCount;
+		maxWaitTime = Math.max(maxWaitTime, waitTime);
+	}
+
+	//Called by the requests each time they have waited for another target latency without obtaining a thread
+	synchronized void onTargetWaitLatencyExceeded(long waitTime) {
+		targetWaitLatencyExceeded = true;
+		long now = System.nanoTime();
+		//The requests that are waiting in the same slice are served by a single increase
+		if (now - lastIncreaseTime < targetWaitLatency || detachedThreadCountLimit >= maxDetachedThreadCount) {
+			return;
+		}
+		lastIncreaseTime = now;
+		lastCpuLoad = getCpuLoad();
+		if (lastCpuLoad >= maxCpuLoad && (forcedIncreaseWaitTime <= 0 || waitTime < forcedIncreaseWaitTime)) {
+			lastDecision = Decision.HOLD_FOR_CPU_SATURATION;
+			++heldIncreasesCount;
+			return;
+		}
+		detachedThreadCountLimit = (int)Math.min(
+			(long)detachedThreadCountLimit + Math.max(waitingRequestsCount, 1), maxDetachedThreadCount
+		);
+		lastDecision = Decision.INCREASE;
+		++increasesCount;
+		ManagedLoggerRepository.logInfo(
+			getClass()::getName,
+			"{}: {} requests waited for {}ms, the limit of the detached threads will be increased to {} (CPU load {}%)",
+			threadSupplier.getName(), waitingRequestsCount, TimeUnit.NANOSECONDS.toMillis(waitTime), detachedThreadCountLimit, lastCpuLoad
+		);
+	}
+
+	synchronized boolean mustBeRetired(int poolableThreadCount) {
+		controlIfPeriodElapsed();
+		return poolableThreadCount > poolableThreadCountTarget;
+	}
+
+	synchronized void onRetired() {
+		++retiredThreadsCount;
+	}
+
+	private void controlIfPeriodElapsed() {
+		long now = System.nanoTime();
+		if (now - lastControlTime < CONTROL_PERIOD) {
+			return;
+		}
+		lastControlTime = now;
+		lastAverageWaitTime = waitsCount > 0 ? waitTimesSum / waitsCount : 0;
+		lastMaxWaitTime = maxWaitTime;
+		int runningThreadCount = threadSupplier.getRunningThreadCount();
+		int observedDemand = Math.max(peakRunningThreadCount, runningThreadCount);
+		poolableThreadCountTarget = Math.min(Math.max(observedDemand, minPoolableThreadCount), maxPoolableThreadCount);
+		if (!targetWaitLatencyExceeded && waitingRequestsCount == 0 && lastAverageWaitTime < targetWaitLatency / 2) {
+			int detachedThreadsInUseCount = Math.max(observedDemand - maxPoolableThreadCount, minDetachedThreadCount);
+			int unusedDetachedThreadsCount = detachedThreadCountLimit - detachedThreadsInUseCount;
+			if (unusedDetachedThreadsCount > 0) {
+				//Halving the unused part avoids to oscillate between the bursts of a bursty load
+				detachedThreadCountLimit -= (unusedDetachedThreadsCount + 1) / 2;
+				lastDecision = Decision.DECREASE;
+				++decreasesCount;
+				ManagedLoggerRepository.logInfo(
+					getClass()::getName,
+					"{}: the limit of the detached threads will be decreased to {}",
+					threadSupplier.getName(), detachedThreadCountLimit
+				);
+			}
+		}
+		waitTimesSum = 0;
+		waitsCount = 0;
+		maxWaitTime = 0;
+		targetWaitLatencyExceeded = false;
+		peakRunningThreadCount = runningThreadCount;
+	}
+
+	static int getCpuLoad() {
+		double cpuLoad = cpuLoadRetriever.getAsDouble();
+		if (cpuLoad < 0 || Double.isNaN(cpuLoad)) {
+			return -1;
+		}
+		return (int)Math.round(Math.min(cpuLoad, 1D) * 100);
+	}
+
+	public synchronized Snapshot getSnapshot() {
+		return new Snapshot(this);
+	}
+
+	public static enum Decision {
+		NONE, INCREASE, HOLD_FOR_CPU_SATURATION, DECREASE
+	}
+
+	public static class Snapshot {
+		final long targetWaitLatency;
+		final int maxCpuLoad;
+		final int poolableThreadCount;
+		final int minPoolableThreadCount;
+		final int maxPoolableThreadCount;
+		final int poolableThreadCountTarget;
+		final int detachedThreadCount;
+		final int minDetachedThreadCount;
+		final int maxDetachedThreadCount;
+		final int detachedThreadCountLimit;
+		final int waitingRequestsCount;
+		final long averageWaitTime;
+		final long maxWaitTime;
+		final int cpuLoad;
+		final Decision lastDecision;
+		final long increasesCount;
+		final long heldIncreasesCount;
+		final long decreasesCount;
+		final long retiredThreadsCount;
+
+		Snapshot(ThreadsSizeController controller) {
+			this.targetWaitLatency = controller.getTargetWaitLatencyInMillis();
+			this.maxCpuLoad = controller.maxCpuLoad;
+			this.poolableThreadCount = controller.threadSupplier.getPoolableThreadCount();
+			this.minPoolableThreadCount = controller.minPoolableThreadCount;
+			this.maxPoolableThreadCount = controller.maxPoolableThreadCount;
+			this.poolableThreadCountTarget = controller.poolableThreadCountTarget;
+			this.detachedThreadCount = controller.threadSupplier.getDetachedThreadCount();
+			this.minDetachedThreadCount = controller.minDetachedThreadCount;
+			this.maxDetachedThreadCount = controller.maxDetachedThreadCount;
+			this.detachedThreadCountLimit = controller.detachedThreadCountLimit;
+			this.waitingRequestsCount = controller.waitingRequestsCount;
+			this.averageWaitTime = TimeUnit.NANOSECONDS.toMillis(controller.lastAverageWaitTime);
+			this.maxWaitTime = TimeUnit.NANOSECONDS.toMillis(controller.lastMaxWaitTime);
+			this.cpuLoad = controller.lastCpuLoad;
+			this.lastDecision = controller.lastDecision;
+			this.increasesCount = controller.increasesCount;
+			this.heldIncreasesCount = controller.heldIncreasesCount;
+			this.decreasesCount = controller.decreasesCount;
+			this.retiredThreadsCount = controller.retiredThreadsCount;
+		}
+
+		public long getTargetWaitLatency() {
+			return targetWaitLatency;
+		}
+
+		public int getMaxCpuLoad() {
+			return maxCpuLoad;
+		}
+
+		public int getPoolableThreadCount() {
+			return poolableThreadCount;
+		}
+
+		public int getMinPoolableThreadCount() {
+			return minPoolableThreadCount;
+		}
+
+		public int getMaxPoolableThreadCount() {
+			return maxPoolableThreadCount;
+		}
+
+		public int getPoolableThreadCountTarget() {
+			return poolableThreadCountTarget;
+		}
+
+		public int getDetachedThreadCount() {
+			return detachedThreadCount;
+		}
+
+		public int getMinDetachedThreadCount() {
+			return minDetachedThreadCount;
+		}
+
+		public int getMaxDetachedThreadCount() {
+			return maxDetachedThreadCount;
+		}
+
+		public int getDetachedThreadCountLimit() {
+			return detachedThreadCountLimit;
+		}
+
+		public int getWaitingRequestsCount() {
+			return waitingRequestsCount;
+		}
+
+		//The wait times refer to the last completed control period
+		public long getAverageWaitTime() {
+			return averageWaitTime;
+		}
+
+		public long getMaxWaitTime() {
+			return maxWaitTime;
+		}
+
+		//A negative value means that the CPU load has not been measured yet or that it is not available
+		public int getCpuLoad() {
+			return cpuLoad;
+		}
+
+		public Decision getLastDecision() {
+			return lastDecision;
+		}
+
+		public long getIncreasesCount() {
+			return increasesCount;
+		}
+
+		public long getHeldIncreasesCount() {
+			return heldIncreasesCount;
+		}
+
+		public long getDecreasesCount() {
+			return decreasesCount;
+		}
+
+		public long getRetiredThreadsCount() {
+			return retiredThreadsCount;
+		}
+
+		@Override
+		public String toString() {
+			return Strings.compile(
+				"poolable threads: {} (target {}, bounds {}-{}), detached threads: {} (limit {}, bounds {}-{}), {} waiting requests, " +
+				"wait times: {} ms mean, {} ms max (target {} ms), CPU load: {}% (max {}%), last decision: {}, " +
+				"{} increases, {} held increases, {} decreases, {} retired threads",
+				poolableThreadCount,
+				poolableThreadCountTarget,
+				minPoolableThreadCount,
+				maxPoolableThreadCount,
+				detachedThreadCount,
+				detachedThreadCountLimit,
+				minDetachedThreadCount,
+				maxDetachedThreadCount,
+				waitingRequestsCount,
+				averageWaitTime,
+				maxWaitTime,
+				targetWaitLatency,
+				cpuLoad,
+				maxCpuLoad,
+				lastDecision,
+				increasesCount,
+				heldIncreasesCount,
+				decreasesCount,
+				retiredThreadsCount
+			);
+		}
+
+	}
+
+}
@@ -0,0 +1,301 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.burningwave.core.Closeable;
+import org.burningwave.core.function.ThrowingRunnable;
+
+//A hashed timer wheel: the scheduled tasks are distributed by deadline in the buckets of a circular array and a
+//single thread advances the wheel one bucket per tick, handing the expired tasks over to the pooled threads of the
+//executor group. The thread parks until the first bucket that is not empty, so with no scheduled tasks it never wakes up.
+//The hand over never blocks: an execution is skipped if the queue of its priority is full
+public class TimerWheel implements Closeable {
+	static final long DEFAULT_TICK_DURATION = 100;
+	static final int DEFAULT_BUCKETS_COUNT = 512;
+
+	QueuedTaskExecutor.Group queuedTasksExecutorGroup;
+	String name;
+	long tickDuration;
+	int mask;
+	Collection<ScheduledTask>[] buckets;
+	Queue<ScheduledTask> scheduledTasksToBeAdded;
+	long startTime;
+	//The fields below are accessed only by the thread of the wheel
+	long tick;
+	int scheduledTasksCount;
+	Thread.Supplier threadSupplier;
+	volatile java.lang.Thread ticker;
+	volatile boolean closed;
+
+	TimerWheel(QueuedTaskExecutor.Group queuedTasksExecutorGroup, String name, Thread.Supplier threadSupplier) {
+		this(queuedTasksExecutorGroup, name, threadSupplier, DEFAULT_TICK_DURATION, DEFAULT_BUCKETS_COUNT);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	TimerWheel(QueuedTaskExecutor.Group queuedTasksExecutorGroup, String name, Thread.Supplier threadSupplier, long tickDuration, int bucketsCount) {
+		if (Integer.bitCount(bucketsCount) != 1) {
+			throw new IllegalArgumentException("The buckets count must be a power of two");
+		}
+		this.queuedTasksExecutorGroup = queuedTasksExecutorGroup;
+		this.name = name;
+		this.threadSupplier = threadSupplier;
+		this.tickDuration = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+		this.mask = bucketsCount - 1;
+		this.buckets = new Collection[bucketsCount];
+		for (int i = 0; i < bucketsCount; i++) {
+			buckets[i] = new ArrayList<>();
+		}
+		this.scheduledTasksToBeAdded = new ConcurrentLinkedQueue<>();
+		this.startTime = System.nanoTime();
+		Thread thread = threadSupplier.createDetachedThread().setExecutable(thr -> run());
+		thread.setName(name);
+		thread.setPriority(java.lang.Thread.MAX_PRIORITY);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	long getElapsedTime() {
+		return System.nanoTime() - startTime;
+	}
+
+	//The period is expressed in milliseconds: a positive value means a fixed rate and a negative one a fixed delay
+	ScheduledTask schedule(ThrowingRunnable<? extends Throwable> executable, long delay, long period, int priority) {
+		return schedule(executable, delay, period, priority, false);
+	}
+
+	//The tasks executed by the thread of the wheel delay the expiration of all the other tasks, so they must be short
+	//and must not block: they are meant for the work that can't depend on the pooled threads, like the monitoring of
+	//the executor group itself
+	ScheduledTask scheduleOnTicker(ThrowingRunnable<? extends Throwable> executable, long delay, long period) {
+		return schedule(executable, delay, period, java.lang.Thread.MAX_PRIORITY, true);
+	}
+
+	private ScheduledTask schedule(ThrowingRunnable<? extends Throwable> executable, long delay, long period, int priority, boolean executedByTicker) {
+		if (closed) {
+			throw new IllegalStateException(name + " is closed");
+		}
+		ScheduledTask scheduledTask = new ScheduledTask(
+			this, executable, priority, TimeUnit.MILLISECONDS.toNanos(period), executedByTicker
+		);
+		scheduledTask.deadline = getElapsedTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(delay, 0));
+		add(scheduledTask);
+		return scheduledTask;
+	}
+
+	void add(ScheduledTask scheduledTask) {
+		scheduledTasksToBeAdded.add(scheduledTask);
+		java.lang.Thread ticker = this.ticker;
+		if (ticker != null) {
+			LockSupport.unpark(ticker);
+		}
+	}
+
+	void run() {
+		ticker = java.lang.Thread.currentThread();
+		while (!closed) {
+			try {
+				long currentTick = getElapsedTime() / tickDuration;
+				if (scheduledTasksCount == 0) {
+					//All the buckets are empty so there is nothing to process in the skipped ones
+					tick = currentTick;
+				}
+				transferScheduledTasksToBeAdded();
+				if (scheduledTasksCount == 0) {
+					LockSupport.park(this);
+					continue;
+				}
+				for (; tick <= currentTick; tick++) {
+					expire(buckets[(int)(tick & mask)]);
+				}
+				long parkingTime = getNextNotEmptyBucketTime() - getElapsedTime();
+				if (parkingTime > 0) {
+					LockSupport.parkNanos(this, parkingTime);
+				}
+			} catch (Throwable exc) {
+				ManagedLoggerRepository.logError(getClass()::getName, "Exception occurred while advancing " + name, exc);
+			}
+		}
+		ticker = null;
+	}
+
+	private void transferScheduledTasksToBeAdded() {
+		ScheduledTask scheduledTask;
+		while ((scheduledTask = scheduledTasksToBeAdded.poll()) != null) {
+			if (scheduledTask.cancelled) {
+				continue;
+			}
+			//A deadline already passed is placed in the bucket of the next tick to be processed
+			long deadlineTick = Math.max((scheduledTask.deadline + tickDuration - 1) / tickDuration, tick);
+			scheduledTask.remainingRounds = (deadlineTick - tick) / buckets.length;
+			buckets[(int)(deadlineTick & mask)].add(scheduledTask);
+			++scheduledTasksCount;
+		}
+	}
+
+	private void expire(Collection<ScheduledTask> bucket) {
+		Iterator<ScheduledTask> scheduledTasksIterator = bucket.iterator();
+		while (scheduledTasksIterator.hasNext()) {
+			ScheduledTask scheduledTask = scheduledTasksIterator.next();
+			if (scheduledTask.cancelled) {
+				scheduledTasksIterator.remove();
+				--scheduledTasksCount;
+			} else if (scheduledTask.remainingRounds <= 0) {
+				scheduledTasksIterator.remove();
+				--scheduledTasksCount;
+				scheduledTask.launch();
+			} else {
+				--scheduledTask.remainingRounds;
+			}
+		}
+	}
+
+	private long getNextNotEmptyBucketTime() {
+		for (long nextTick = tick; nextTick < tick + buckets.length; nextTick++) {
+			if (!buckets[(int)(nextTick & mask)].isEmpty()) {
+				return nextTick * tickDuration;
+			}
+		}
+		return (tick + buckets.length) * tickDuration;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		java.lang.Thread ticker = this.ticker;
+		if (ticker != null) {
+			LockSupport.unpark(ticker);
+		}
+		scheduledTasksToBeAdded.clear();
+		queuedTasksExecutorGroup = null;
+		threadSupplier = null;
+	}
+
+	public static class ScheduledTask {
+		TimerWheel timerWheel;
+		ThrowingRunnable<? extends Throwable> executable;
+		int priority;
+		long period;
+		boolean executedByTicker;
+		volatile long deadline;
+		long remainingRounds;
+		volatile boolean cancelled;
+		volatile QueuedTaskExecutor.Task lastTask;
+
+		ScheduledTask(TimerWheel timerWheel, ThrowingRunnable<? extends Throwable> executable, int priority, long period, boolean executedByTicker) {
+			this.timerWheel = timerWheel;
+			this.executable = executable;
+			this.priority = priority;
+			this.period = period;
+			this.executedByTicker = executedByTicker;
+		}
+
+		void launch() {
+			TimerWheel timerWheel = this.timerWheel;
+			QueuedTaskExecutor.Group queuedTasksExecutorGroup = timerWheel.queuedTasksExecutorGroup;
+			if (queuedTasksExecutorGroup == null) {
+				return;
+			}
+			if (executedByTicker) {
+				try {
+					executable.run();
+				} catch (Throwable exc) {
+					ManagedLoggerRepository.logError(getClass()::getName, "Exception occurred while executing scheduled task", exc);
+				}
+				if (period != 0) {
+					reschedule(period > 0 ? deadline + period : timerWheel.getElapsedTime() - period);
+				}
+				return;
+			}
+			QueuedTaskExecutor.Task lastTask = this.lastTask;
+			//The next execution at fixed rate is skipped if the previous one is still running
+			if (period <= 0 || lastTask == null || lastTask.hasFinished()) {
+				try {
+					QueuedTaskExecutor.Task task = queuedTasksExecutorGroup.createTask(executable, priority);
+					if (period < 0) {
+						//Called also if the task is aborted because its queue is full
+						task.onCompletion(() ->
+							reschedule(timerWheel.getElapsedTime() - period)
+						);
+					}
+					if (!task.trySubmit().isAborted()) {
+						this.lastTask = task;
+					} else {
+						ManagedLoggerRepository.logWarn(getClass()::getName, "Execution of scheduled task skipped: the queue of priority {} is full", priority);
+					}
+				} catch (Throwable exc) {
+					ManagedLoggerRepository.logError(getClass()::getName, "Exception occurred while launching scheduled task", exc);
+					if (period < 0) {
+						reschedule(timerWheel.getElapsedTime() - period);
+					}
+				}
+			}
+			if (period > 0) {
+				reschedule(deadline + period);
+			}
+		}
+
+		private void reschedule(long deadline) {
+			if (!cancelled && !timerWheel.closed) {
+				this.deadline = deadline;
+				timerWheel.add(this);
+			}
+		}
+
+		public boolean isPeriodic() {
+			return period != 0;
+		}
+
+		//Returns false if the scheduled task was already cancelled: the execution in progress, if any, is not aborted
+		public boolean cancel() {
+			if (cancelled) {
+				return false;
+			}
+			return cancelled = true;
+		}
+
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		//Returns the task of the last execution or null if the scheduled task has not been launched yet
+		public QueuedTaskExecutor.Task getLastTask() {
+			return lastTask;
+		}
+	}
+}
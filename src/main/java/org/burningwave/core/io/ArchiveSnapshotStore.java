@@ -0,0 +1,224 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
+
+//Persists, for each archive stored on the file system, the tree of its children and their contents so that
+//after a restart of the JVM they can be retrieved from a memory mapped snapshot instead of inflating the archive
+//again. A snapshot is identified by the path of the archive and is discarded when the size or the last
+//modification time of the archive change.
+public class ArchiveSnapshotStore {
+	public static final String DEFAULT_FOLDER_NAME = "archive-snapshots";
+	private static final int MAGIC_NUMBER = 0x42575331;
+
+	private String folderPath;
+	private File folder;
+
+	ArchiveSnapshotStore(String folderPath) {
+		this.folderPath = folderPath;
+	}
+
+	public static ArchiveSnapshotStore create(String folderPath) {
+		return new ArchiveSnapshotStore(folderPath);
+	}
+
+	File getOrCreateFolder() {
+		File folder = this.folder;
+		if (folder == null) {
+			synchronized (this) {
+				if ((folder = this.folder) == null) {
+					if (folderPath == null || folderPath.trim().isEmpty()) {
+						folder = new File(FileSystemHelper.getOrCreateBurningwaveTemporaryFolder(), DEFAULT_FOLDER_NAME);
+					} else {
+						folder = new File(Paths.clean(folderPath.trim()));
+					}
+					folder.mkdirs();
+					this.folder = folder;
+				}
+			}
+		}
+		return folder;
+	}
+
+	File getSnapshotFile(File archive) {
+		return new File(
+			getOrCreateFolder(),
+			UUID.nameUUIDFromBytes(Paths.clean(archive.getAbsolutePath()).getBytes(StandardCharsets.UTF_8)).toString() + ".snapshot"
+		);
+	}
+
+	public Collection<Record> load(File archive) {
+		File snapshotFile = getSnapshotFile(archive);
+		if (!snapshotFile.exists()) {
+			return null;
+		}
+		try {
+			ByteBuffer snapshot;
+			try (RandomAccessFile randomAccessFile = new RandomAccessFile(snapshotFile, "r")) {
+				snapshot = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length());
+			}
+			if ((snapshot.getInt() != MAGIC_NUMBER) ||
+				!readString(snapshot).equals(Paths.clean(archive.getAbsolutePath())) ||
+				(snapshot.getLong() != archive.length()) ||
+				(snapshot.getLong() != archive.lastModified())
+			) {
+				ManagedLoggerRepository.logInfo(getClass()::getName, "Snapshot of {} is stale", archive.getAbsolutePath());
+				invalidate(archive);
+				return null;
+			}
+			int recordCount = snapshot.getInt();
+			Collection<Record> records = new ArrayList<>(recordCount);
+			for (int i = 0; i < recordCount; i++) {
+				String relativePath = readString(snapshot);
+				String conventionedRelativePath = readString(snapshot);
+				String parentContainerRelativePath = readString(snapshot);
+				int contentLength = snapshot.getInt();
+				ByteBuffer content = null;
+				if (contentLength >= 0) {
+					content = BufferHandler.duplicate(snapshot);
+					BufferHandler.limit(content, BufferHandler.position(snapshot) + contentLength);
+					content = content.slice();
+					BufferHandler.position(snapshot, BufferHandler.position(snapshot) + contentLength);
+				}
+				records.add(new Record(relativePath, conventionedRelativePath, parentContainerRelativePath, content));
+			}
+			return records;
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not load snapshot of {}: {}", archive.getAbsolutePath(), exc.getMessage());
+			invalidate(archive);
+			return null;
+		}
+	}
+
+	public void store(File archive, Collection<Record> records) {
+		File snapshotFile = getSnapshotFile(archive);
+		File temporarySnapshotFile = new File(snapshotFile.getAbsolutePath() + "." + UUID.randomUUID().toString() + ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporarySnapshotFile)))) {
+				output.writeInt(MAGIC_NUMBER);
+				writeString(output, Paths.clean(archive.getAbsolutePath()));
+				output.writeLong(archive.length());
+				output.writeLong(archive.lastModified());
+				output.writeInt(records.size());
+				for (Record record : records) {
+					writeString(output, record.relativePath);
+					writeString(output, record.conventionedRelativePath);
+					writeString(output, record.parentContainerRelativePath);
+					if (record.content != null) {
+						byte[] content = BufferHandler.toByteArray(record.content);
+						output.writeInt(content.length);
+						output.write(content);
+					} else {
+						output.writeInt(-1);
+					}
+				}
+			}
+			Files.move(temporarySnapshotFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			ManagedLoggerRepository.logInfo(getClass()::getName, "Snapshot of {} stored", archive.getAbsolutePath());
+		} catch (Throwable exc) {
+			ManagedLoggerRepository.logWarn(getClass()::getName, "Could not store snapshot of {}: {}", archive.getAbsolutePath(), exc.getMessage());
+			temporarySnapshotFile.delete();
+		}
+	}
+
+	public boolean invalidate(File archive) {
+		return getSnapshotFile(archive).delete();
+	}
+
+	private String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void writeString(DataOutputStream output, String value) throws IOException {
+		if (value == null) {
+			output.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	public static class Record {
+		final String relativePath;
+		final String conventionedRelativePath;
+		final String parentContainerRelativePath;
+		final ByteBuffer content;
+
+		public Record(String relativePath, String conventionedRelativePath, String parentContainerRelativePath, ByteBuffer content) {
+			this.relativePath = relativePath;
+			this.conventionedRelativePath = conventionedRelativePath;
+			this.parentContainerRelativePath = parentContainerRelativePath;
+			this.content = content;
+		}
+
+		public String getRelativePath() {
+			return relativePath;
+		}
+
+		public String getConventionedRelativePath() {
+			return conventionedRelativePath;
+		}
+
+		public String getParentContainerRelativePath() {
+			return parentContainerRelativePath;
+		}
+
+		public ByteBuffer getContent() {
+			return content;
+		}
+
+	}
+
+}
@@ -29,11 +29,11 @@
 package org.burningwave.core.io;
 
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
-import static org.burningwave.core.assembler.StaticComponentContainer.ThreadHolder;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -51,6 +51,7 @@ import org.burningwave.core.Closeable;
 import org.burningwave.core.Component;
 import org.burningwave.core.ManagedLogger;
 import org.burningwave.core.assembler.StaticComponentContainer;
+import org.burningwave.core.concurrent.TimerWheel;
 import org.burningwave.core.function.Executor;
 
 
@@ -245,6 +246,7 @@ public class FileSystemHelper implements Component {
 		private long deletingInterval;
 		private long waitInterval;
 		private File burningwaveTemporaryFolder;
+		private TimerWheel.ScheduledTask scheduledTask;
 		long lastDeletionStartTime;
 
 		private Scavenger(FileSystemHelper fileSystemHelper, String name, long deletingInterval, long waitInterval) {
@@ -256,7 +258,8 @@ public class FileSystemHelper implements Component {
 		}
 
 		public boolean isAlive() {
-			return ThreadHolder.isAlive(name);
+			TimerWheel.ScheduledTask scheduledTask = this.scheduledTask;
+			return scheduledTask != null && !scheduledTask.isCancelled();
 		}
 
 		void pingAndDelete() {
@@ -272,7 +275,8 @@ public class FileSystemHelper implements Component {
 				for (File fileSystemItem : burningwaveTemporaryFolder.listFiles()) {
 					try {
 						if (!fileSystemItem.getName().equals(fileSystemHelper.getOrCreateMainTemporaryFolder().getName()) &&
-							!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName())
+							!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName()) &&
+							!fileSystemItem.getName().equals(ArchiveSnapshotStore.DEFAULT_FOLDER_NAME)
 						) {
 							try {
 								try {
@@ -318,10 +322,7 @@ public class FileSystemHelper implements Component {
 
 		public void start() {
 			lastDeletionStartTime = -1;
-			ThreadHolder.startLooping(name, true, Thread.MIN_PRIORITY, thread -> {
-				pingAndDelete();
-				org.burningwave.core.concurrent.Thread.waitFor(waitInterval);
-			});
+			scheduledTask = BackgroundExecutor.scheduleWithFixedDelay(this::pingAndDelete, 0, waitInterval, Thread.MIN_PRIORITY);
 		}
 
 		long getOrSetPingTime(File pingFile) throws IOException {
@@ -366,7 +367,11 @@ public class FileSystemHelper implements Component {
 		}
 
 		public void stop() {
-			ThreadHolder.stop(name);
+			TimerWheel.ScheduledTask scheduledTask = this.scheduledTask;
+			if (scheduledTask != null) {
+				scheduledTask.cancel();
+				this.scheduledTask = null;
+			}
 		}
 
 		@Override
@@ -29,6 +29,7 @@
 package org.burningwave.core.io;
 
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
@@ -100,8 +101,8 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	private Map.Entry<String, String> absolutePath;
 	private FileSystemItem parent;
 	private FileSystemItem parentContainer;
-	private Collection<FileSystemItem> children;
-	private Collection<FileSystemItem> allChildren;
+	private volatile Collection<FileSystemItem> children;
+	private volatile Collection<FileSystemItem> allChildren;
 	private String instanceId;
 	private AtomicReference<JavaClass> javaClassWrapper;
 
@@ -631,6 +632,12 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	Collection<FileSystemItem> loadAllChildren() {
 		if (isContainer()) {
 			if (isCompressed() || isArchive()) {
+				if (isArchive()) {
+					Collection<FileSystemItem> allChildren = loadAllChildrenFromSnapshot();
+					if (allChildren != null) {
+						return allChildren;
+					}
+				}
 				Predicate<IterableZipContainer.Entry> zipEntryPredicate = null;
 				FileSystemItem parentContainerTemp = this;
 				if (isArchive()) {
@@ -672,6 +679,9 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 							allChildren.add(fileSystemItem);
 						}
 					}
+					if (isArchive()) {
+						storeSnapshot(allChildren);
+					}
 					return allChildren;
 				}
 			} else if (isFolder()) {
@@ -690,6 +700,94 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		return null;
 	}
 
+	private File getArchiveFileForSnapshot() {
+		if (Cache.archiveSnapshotStore == null) {
+			return null;
+		}
+		File file = new File(getAbsolutePath());
+		return file.isFile() ? file : null;
+	}
+
+	private Collection<FileSystemItem> loadAllChildrenFromSnapshot() {
+		File archive = getArchiveFileForSnapshot();
+		if (archive == null) {
+			return null;
+		}
+		Collection<ArchiveSnapshotStore.Record> records = Cache.archiveSnapshotStore.load(archive);
+		if (records == null) {
+			return null;
+		}
+		String absolutePath = getAbsolutePath();
+		String conventionedAbsolutePath = computeConventionedAbsolutePath();
+		Collection<FileSystemItem> allChildren = newCollectionSupplier.get();
+		for (ArchiveSnapshotStore.Record record : records) {
+			FileSystemItem fileSystemItem = FileSystemItem.ofPath(absolutePath + "/" + record.getRelativePath());
+			fileSystemItem.absolutePath.setValue(conventionedAbsolutePath + record.getConventionedRelativePath());
+			String parentContainerRelativePath = record.getParentContainerRelativePath();
+			if ((fileSystemItem.parentContainer == null) && (parentContainerRelativePath != null)) {
+				fileSystemItem.parentContainer = parentContainerRelativePath.isEmpty() ?
+					this : FileSystemItem.ofPath(absolutePath + "/" + parentContainerRelativePath);
+			}
+			ByteBuffer content = record.getContent();
+			if (content != null) {
+				Cache.pathForContents.getOrUploadIfAbsent(fileSystemItem.getAbsolutePath(), () -> content);
+			}
+			allChildren.add(fileSystemItem);
+		}
+		return allChildren;
+	}
+
+	private void storeSnapshot(Collection<FileSystemItem> allChildren) {
+		File archive = getArchiveFileForSnapshot();
+		if (archive == null) {
+			return;
+		}
+		String absolutePath = getAbsolutePath();
+		String absolutePathPrefix = absolutePath + "/";
+		String conventionedAbsolutePath = computeConventionedAbsolutePath();
+		Collection<ArchiveSnapshotStore.Record> records = new ArrayList<>();
+		for (FileSystemItem child : allChildren) {
+			String childAbsolutePath = child.getAbsolutePath();
+			String childConventionedAbsolutePath = child.absolutePath.getValue();
+			//The snapshot is stored only if the whole tree can be described relatively to the archive
+			if (!childAbsolutePath.startsWith(absolutePathPrefix) || (childConventionedAbsolutePath == null) ||
+				!childConventionedAbsolutePath.startsWith(conventionedAbsolutePath)
+			) {
+				return;
+			}
+			ByteBuffer content = null;
+			if (!isFolder.apply(childConventionedAbsolutePath) && ((content = Cache.pathForContents.get(childAbsolutePath)) == null)) {
+				ManagedLoggerRepository.logInfo(
+					getClass()::getName,
+					"Snapshot of {} not stored: the content of {} is not cached",
+					absolutePath, childAbsolutePath
+				);
+				return;
+			}
+			String parentContainerRelativePath = null;
+			FileSystemItem parentContainer = child.parentContainer;
+			if (parentContainer != null) {
+				String parentContainerAbsolutePath = parentContainer.getAbsolutePath();
+				if (parentContainerAbsolutePath.equals(absolutePath)) {
+					parentContainerRelativePath = "";
+				} else if (parentContainerAbsolutePath.startsWith(absolutePathPrefix)) {
+					parentContainerRelativePath = parentContainerAbsolutePath.substring(absolutePathPrefix.length());
+				}
+			}
+			records.add(
+				new ArchiveSnapshotStore.Record(
+					childAbsolutePath.substring(absolutePathPrefix.length()),
+					childConventionedAbsolutePath.substring(conventionedAbsolutePath.length()),
+					parentContainerRelativePath,
+					content
+				)
+			);
+		}
+		BackgroundExecutor.createTask(task -> {
+			Cache.archiveSnapshotStore.store(archive, records);
+		}).submit();
+	}
+
 	Collection<FileSystemItem> loadChildren() {
 		String conventionedAbsolutePath = computeConventionedAbsolutePath();
 		if (isContainer()) {
@@ -749,13 +847,13 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 	}
 
 	private void removeFromCache(FileSystemItem fileSystemItem, boolean removeFromCache) {
-		Cache.pathForContents.remove(fileSystemItem.getAbsolutePath(), true);
-		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(fileSystemItem.getAbsolutePath());
-		if (zipContainer != null) {
-			zipContainer.destroy();
-		}
+		String absolutePath = fileSystemItem.getAbsolutePath();
+		Cache.pathForContents.removeAllUnder(absolutePath, true);
+		Cache.pathForIterableZipContainers.iterateUnder(absolutePath, (path, zipContainer) ->
+			zipContainer.destroy()
+		);
 		if (removeFromCache) {
-			Cache.pathForFileSystemItems.remove(fileSystemItem.getAbsolutePath(), true);
+			Cache.pathForFileSystemItems.removeAllUnder(absolutePath, true);
 		}
 	}
 
@@ -786,9 +884,6 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 						child.allChildren = null;
 						child.children = null;
 						clearJavaClassWrapper(child);
-						if (removeLinkedResourcesFromCache) {
-							removeFromCache(child, removeFromCache);
-						}
 					});
 				}
 			} else if (children != null) {
@@ -814,7 +909,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 			if (javaClass != null) {
 				javaClass.close();
 			} else {
-				Synchronizer.execute(instanceId + "_loadJavaClass", () -> {
+				Synchronizer.execute(this, "loadJavaClass", () -> {
 					fileSystemItem.javaClassWrapper = null;
 				});
 			}
@@ -1116,7 +1211,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 		if (javaClassWrapper != null) {
 			return javaClassWrapper.get();
 		} else {
-			return Synchronizer.execute(instanceId + "_loadJavaClass", () -> {
+			return Synchronizer.execute(this, "loadJavaClass", () -> {
 				AtomicReference<JavaClass> javaClassWrapperInternalRef = this.javaClassWrapper;
 				if (javaClassWrapperInternalRef != null) {
 					return javaClassWrapperInternalRef.get();
@@ -1134,7 +1229,7 @@ public class FileSystemItem implements Comparable<FileSystemItem> {
 
 						@Override
 						public void close() {
-							Synchronizer.execute(instanceId + "_loadJavaClass", () -> {
+							Synchronizer.execute(FileSystemItem.this, "loadJavaClass", () -> {
 								AtomicReference<JavaClass> javaClassWrapperRef =
 									FileSystemItem.this.javaClassWrapper;
 								FileSystemItem.this.javaClassWrapper = null;
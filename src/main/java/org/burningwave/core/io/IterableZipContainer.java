@@ -85,7 +85,7 @@ public interface IterableZipContainer extends Closeable {
 		try {
 			return zipFile.duplicate();
 		} catch (Throwable exc) {
-			Synchronizer.execute(IterableZipContainer.classId + "_" + absolutePath, () -> {
+			Synchronizer.execute(IterableZipContainer.class, absolutePath, () -> {
 				ZipFile oldZipFile = (ZipFile)Cache.pathForIterableZipContainers.get(absolutePath);
 				if (oldZipFile == null || oldZipFile == zipFile || oldZipFile.isDestroyed) {
 					Cache.pathForIterableZipContainers.upload(
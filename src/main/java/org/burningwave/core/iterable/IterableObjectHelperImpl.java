@@ -682,7 +682,8 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			}
 			if (maxThreadCountsForParallelIteration == null) {
 				Synchronizer.execute(
-					getOperationId("initMaxThreadCountsForParallelIteration"),
+					this,
+					"initMaxThreadCountsForParallelIteration",
 					() -> {
 						if (this.maxThreadCountsForParallelIteration == null) {
 							this.maxThreadCountsForParallelIteration = autodetectMaxRuntimeThreadsCountThreshold();
@@ -714,7 +715,8 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 			}
 			if (this.parallelCollectionClasses == null) {
 				Synchronizer.execute(
-					getOperationId("initParallelCollectionClassesCollection"),
+					this,
+					"initParallelCollectionClassesCollection",
 					() -> {
 						if (this.parallelCollectionClasses == null) {
 							this.parallelCollectionClasses = parallelCollectionClassesSupplier.get();
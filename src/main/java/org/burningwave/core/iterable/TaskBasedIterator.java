@@ -33,11 +33,11 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -45,6 +45,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.burningwave.core.concurrent.TaskScope;
 import org.burningwave.core.function.ThrowingConsumer;
 
 @SuppressWarnings("unchecked")
@@ -81,7 +82,10 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 				Consumer<Consumer<OC>> outputItemsHandler = buildOutputCollectionHandler(output);
 				// Used for break the iteration
 				AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification = new AtomicReference<>();
-				Collection<QueuedTaskExecutor.Task> tasks = ConcurrentHashMap.newKeySet();
+				Collection<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>> iterators = new ArrayList<>();
+				//When the iteration is terminated the scope aborts the queued tasks, while the running ones stop by checking the
+				//termination notification
+				TaskScope taskScope = BackgroundExecutor.createScope();
 				/* Iterate List */
 				if (items instanceof List) {
 					List<I> itemList = (List<I>)items;
@@ -105,23 +109,16 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 									action.accept(itemIterator.next(), outputItemsHandler);
 								}
 							} catch (IterableObjectHelper.TerminateIteration exc) {
-								checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+								checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc, taskScope);
 							} catch (Throwable exc) {
 								terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 								throw exc;
-							} finally {
-								removeTask(tasks, task);
 							}
 						};
 						if (currentIndex < (taskCountThatCanBeCreated - 1)) {
-							tasks.add(
-								BackgroundExecutor.createTask(
-									iterator,
-									priority
-								).submit()
-							);
+							iterators.add(iterator);
 						} else {
-							consume(iterator);
+							forkAllAndConsume(taskScope, iterators, iterator, priority);
 						}
 					}
 				/* Iterate any Collection except List */
@@ -142,21 +139,17 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 								action.accept(item, outputItemsHandler);
 							}
 						} catch (IterableObjectHelper.TerminateIteration exc) {
-							checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+							checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc, taskScope);
 						} catch (Throwable exc) {
 							terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 							throw exc;
-						} finally {
-							removeTask(tasks, task);
 						}
 					};
 					for (int taskIndex = 0; taskIndex < taskCountThatCanBeCreated && terminateIterationNotification.get() == null; taskIndex++) {
 						if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-							tasks.add(
-								BackgroundExecutor.createTask(iterator, priority).submit()
-							);
+							iterators.add(iterator);
 						} else {
-							consume(iterator);
+							forkAllAndConsume(taskScope, iterators, iterator, priority);
 						}
 					}
 				} else {
@@ -186,23 +179,16 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 										action.accept((I)itemRetriever.apply(itemIndex++), outputItemsHandler);
 									}
 								} catch (IterableObjectHelper.TerminateIteration exc) {
-									checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+									checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc, taskScope);
 								} catch (Throwable exc) {
 									terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 									throw exc;
-								} finally {
-									removeTask(tasks, task);
 								}
 							};
 							if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-								tasks.add(
-									BackgroundExecutor.createTask(
-										iterator,
-										priority
-									).submit()
-								);
+								iterators.add(iterator);
 							} else {
-								consume(iterator);
+								forkAllAndConsume(taskScope, iterators, iterator, priority);
 							}
 						}
 					/* Iterate array of objects */
@@ -228,30 +214,21 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 										action.accept(itemArray[itemIndex++], outputItemsHandler);
 									}
 								} catch (IterableObjectHelper.TerminateIteration exc) {
-									checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+									checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc, taskScope);
 								} catch (Throwable exc) {
 									terminateIterationNotification.set(IterableObjectHelper.TerminateIteration.NOTIFICATION);
 									throw exc;
-								} finally {
-									removeTask(tasks, task);
 								}
 							};
 							if (taskIndex < (taskCountThatCanBeCreated - 1)) {
-								tasks.add(
-									BackgroundExecutor.createTask(
-										iterator,
-										priority
-									).submit()
-								);
+								iterators.add(iterator);
 							} else {
-								consume(iterator);
+								forkAllAndConsume(taskScope, iterators, iterator, priority);
 							}
 						}
 					}
 				}
-				for (QueuedTaskExecutor.Task task : tasks) {
-					task.join();
-				}
+				taskScope.joinAll();
 				return output;
 			}
 			Consumer<Consumer<OC>> outputItemsHandler =
@@ -288,6 +265,28 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 		return output;
 	}
 
+	//The tasks are forked all together just before the current thread starts to consume its own part of the items
+	void forkAllAndConsume(
+		TaskScope taskScope,
+		Collection<ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable>> iterators,
+		ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> iterator,
+		int priority
+	) {
+		taskScope.forkAll(iterators, priority);
+		consume(iterator);
+	}
+
+	void checkAndNotifyTerminationOfIteration(
+		AtomicReference<IterableObjectHelper.TerminateIteration> terminateIterationNotification,
+		IterableObjectHelper.TerminateIteration exc,
+		TaskScope taskScope
+	) {
+		checkAndNotifyTerminationOfIteration(terminateIterationNotification, exc);
+		if (exc == IterableObjectHelper.TerminateIteration.NOTIFICATION) {
+			taskScope.shutDown();
+		}
+	}
+
 	void consume(ThrowingConsumer<QueuedTaskExecutor.Task, ? extends Throwable> iterator) {
 		try {
 			iterator.accept(null);
@@ -296,10 +295,4 @@ class TaskBasedIterator extends IterableObjectHelperImpl.Iterator {
 		}
 	}
 
-	void removeTask(Collection<QueuedTaskExecutor.Task> tasks, QueuedTaskExecutor.Task task) {
-		if (task != null) {
-			tasks.remove(task);
-		}
-	}
-
 }
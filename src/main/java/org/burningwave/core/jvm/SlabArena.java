@@ -0,0 +1,199 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2022 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.jvm;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Driver;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.TreeMap;
+
+//Packs the contents into large direct or memory mapped slabs and returns read only slices of them.
+//A slab is released as a whole as soon as all the contents stored in it have been released: since the
+//contents of an archive are loaded together they usually share the same slabs, so evicting or refreshing
+//an archive frees its slabs. The memory of a released slab is reclaimed by the garbage collector once
+//the slices still referenced by the readers are unreachable.
+//The space of a released content is never reused nor compacted while its slab holds other live contents, since
+//the readers could still access it through the slices already returned: so a slab whose contents are released one
+//at a time remains allocated until the last of them is released. The free bytes of the arena measure this fragmentation.
+public class SlabArena {
+	final String name;
+	final boolean memoryMapped;
+	final int slabSize;
+	final TreeMap<Long, Slab> slabs;
+	Slab currentSlab;
+	long occupiedBytes;
+	long allocatedBytes;
+
+	SlabArena(String name, boolean memoryMapped, int slabSize) {
+		this.name = name;
+		this.memoryMapped = memoryMapped;
+		this.slabSize = slabSize;
+		this.slabs = new TreeMap<>();
+	}
+
+	public static SlabArena create(String name, boolean memoryMapped, int slabSize) {
+		return new SlabArena(name, memoryMapped, slabSize);
+	}
+
+	public ByteBuffer store(ByteBuffer content) {
+		content = BufferHandler.shareContent(content);
+		int size = BufferHandler.limit(content);
+		ByteBuffer slice;
+		synchronized (this) {
+			Slab slab = currentSlab;
+			//The contents bigger than a quarter of the slab size are stored in dedicated slabs
+			if (size > slabSize / 4) {
+				slab = allocateSlab(size);
+			} else if ((slab == null) || (slab.capacity - slab.position < size)) {
+				if ((slab != null) && (slab.liveBytes == 0)) {
+					release(slab);
+				}
+				slab = currentSlab = allocateSlab(slabSize);
+			}
+			slice = slab.slice(size);
+			slab.liveBytes += size;
+			occupiedBytes += size;
+		}
+		slice.put(content);
+		return BufferHandler.flip(slice).asReadOnlyBuffer();
+	}
+
+	public synchronized boolean release(ByteBuffer content) {
+		long address = BufferHandler.getAddress(content);
+		Map.Entry<Long, Slab> slabEntry = slabs.floorEntry(address);
+		if (slabEntry == null) {
+			return false;
+		}
+		Slab slab = slabEntry.getValue();
+		if (address >= slab.address + slab.capacity) {
+			return false;
+		}
+		int size = BufferHandler.capacity(content);
+		slab.liveBytes -= size;
+		occupiedBytes -= size;
+		if ((slab.liveBytes <= 0) && (slab != currentSlab)) {
+			release(slab);
+		}
+		return true;
+	}
+
+	public synchronized void clear() {
+		slabs.clear();
+		currentSlab = null;
+		occupiedBytes = 0;
+		allocatedBytes = 0;
+	}
+
+	Slab allocateSlab(int capacity) {
+		Slab slab = new Slab(memoryMapped ? map(capacity) : BufferHandler.allocateDirect(capacity));
+		slabs.put(slab.address, slab);
+		allocatedBytes += capacity;
+		return slab;
+	}
+
+	void release(Slab slab) {
+		if (slabs.remove(slab.address) != null) {
+			allocatedBytes -= slab.capacity;
+		}
+	}
+
+	ByteBuffer map(int capacity) {
+		try {
+			File file = File.createTempFile("burningwave-" + name + "-", ".slab");
+			try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+				randomAccessFile.setLength(capacity);
+				return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+			} finally {
+				//The mapping remains valid after the file has been closed
+				if (!file.delete()) {
+					file.deleteOnExit();
+				}
+			}
+		} catch (Throwable exc) {
+			return Driver.throwException(exc);
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public boolean isMemoryMapped() {
+		return memoryMapped;
+	}
+
+	public int getSlabSize() {
+		return slabSize;
+	}
+
+	public synchronized int getSlabCount() {
+		return slabs.size();
+	}
+
+	public synchronized long getOccupiedBytes() {
+		return occupiedBytes;
+	}
+
+	public synchronized long getFreeBytes() {
+		return allocatedBytes - occupiedBytes;
+	}
+
+	public synchronized long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	static class Slab {
+		final ByteBuffer buffer;
+		final long address;
+		final int capacity;
+		int position;
+		long liveBytes;
+
+		Slab(ByteBuffer buffer) {
+			this.buffer = buffer;
+			this.address = BufferHandler.getAddress(buffer);
+			this.capacity = BufferHandler.capacity(buffer);
+		}
+
+		ByteBuffer slice(int size) {
+			ByteBuffer slice = BufferHandler.duplicate(buffer);
+			BufferHandler.limit(slice, position + size);
+			BufferHandler.position(slice, position);
+			position += size;
+			return slice.slice();
+		}
+
+	}
+
+}
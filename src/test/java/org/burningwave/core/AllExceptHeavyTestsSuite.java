@@ -13,6 +13,7 @@ import org.junit.runner.RunWith;
 	BackgroundExecutorTest.class,
 	ByteBufferHandlerTest.class,
 	ByteCodeHunterTest.class,
+	CacheTest.class,
     ClassesTest.class,
     ClassFactoryTest.class,
     ComponentContainerTest.class,
@@ -37,6 +38,7 @@ import org.junit.runner.RunWith;
     PropertiesTest.class,
     SourceCodeHandlerTest.class,
     StringsTest.class,
+    SynchronizerTest.class,
     ThreadSupplierTest.class,
     UnitSourceGeneratorTest.class,
     RepeatedClassFactoryTest.class,
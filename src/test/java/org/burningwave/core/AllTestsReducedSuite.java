@@ -34,6 +34,7 @@ import org.junit.runner.RunWith;
 //    PropertiesTest.class,
 //    SourceCodeHandlerTest.class,
 //    StringsTest.class,
+//    SynchronizerTest.class,
 //    UnitSourceGeneratorTest.class,
     RepeatedClassFactoryTest.class,
     ComponentContainerTest.class,
@@ -3,17 +3,32 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.burningwave.core.concurrent.QueuedTaskExecutor;
+import org.burningwave.core.concurrent.TaskRejectedException;
+import org.burningwave.core.concurrent.TaskScope;
+import org.burningwave.core.concurrent.TaskStateException;
+import org.burningwave.core.concurrent.TasksCreationTracker;
+import org.burningwave.core.concurrent.TimerWheel;
+import org.burningwave.core.function.ThrowingConsumer;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
@@ -37,6 +52,605 @@ public class BackgroundExecutorTest extends BaseTest {
 		});
 	}
 
+	@Test
+	@Tag("Heavy")
+	public void queuedTasksThroughputBenchmark() {
+		testDoesNotThrow(() -> {
+			for (int taskCount : new int[] {1_000, 10_000, 100_000, 1_000, 10_000, 100_000}) {
+				AtomicInteger executedTaskCount = new AtomicInteger();
+				Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>(taskCount);
+				long startTime = System.currentTimeMillis();
+				for (int i = 0; i < taskCount; i++) {
+					tasks.add(BackgroundExecutor.createTask(task -> {
+						executedTaskCount.incrementAndGet();
+					}).submit());
+				}
+				long submissionElapsedTime = System.currentTimeMillis() - startTime;
+				tasks.forEach(QueuedTaskExecutor.Task::waitForFinish);
+				long elapsedTime = System.currentTimeMillis() - startTime;
+				assertTrue(executedTaskCount.get() == taskCount);
+				ManagedLoggerRepository.logInfo(getClass()::getName,
+					"{} tasks: submitted in {} ms, executed in {} ms ({} tasks/ms)",
+					taskCount,
+					submissionElapsedTime,
+					elapsedTime,
+					taskCount / Math.max(elapsedTime, 1)
+				);
+			}
+		});
+	}
+
+	@Test
+	public void workStealingTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> configuration = new HashMap<>();
+			configuration.put("work-stealing-executor.name", "Work stealing executor");
+			configuration.put("work-stealing-executor.thread-supplier", ThreadSupplier);
+			configuration.put("work-stealing-executor.daemon", true);
+			configuration.put("work-stealing-executor.undestroyable-from-external", false);
+			configuration.put("work-stealing-executor.work-stealing.enabled", true);
+			configuration.put("work-stealing-executor.work-stealing.parallelism", 2);
+			configuration.put("work-stealing-executor.queued-task-executor[0].name", "Normal priority tasks");
+			configuration.put("work-stealing-executor.queued-task-executor[0].priority", Thread.NORM_PRIORITY);
+			QueuedTaskExecutor.Group executor = QueuedTaskExecutor.Group.create("work-stealing-executor", configuration);
+			try {
+				//Each task waits for the subtasks that it has spawned: with only two workers this completes only if the
+				//waiting workers execute or let steal the subtasks in their deques
+				assertTrue(sum(executor, 1, 1_000).submit().join() == 500_500);
+			} finally {
+				executor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void workStealingTestTwo() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> configuration = new HashMap<>();
+			configuration.put("work-stealing-executor.name", "Work stealing executor");
+			configuration.put("work-stealing-executor.thread-supplier", ThreadSupplier);
+			configuration.put("work-stealing-executor.daemon", true);
+			configuration.put("work-stealing-executor.undestroyable-from-external", false);
+			configuration.put("work-stealing-executor.work-stealing.enabled", true);
+			configuration.put("work-stealing-executor.work-stealing.parallelism", 1);
+			configuration.put("work-stealing-executor.queued-task-executor[0].name", "Normal priority tasks");
+			configuration.put("work-stealing-executor.queued-task-executor[0].priority", Thread.NORM_PRIORITY);
+			QueuedTaskExecutor.Group executor = QueuedTaskExecutor.Group.create("work-stealing-executor", configuration);
+			try {
+				//The interrupted task ignores the interruption: the interrupt status of the worker must be cleared
+				//before the worker executes the next task
+				AtomicBoolean released = new AtomicBoolean();
+				QueuedTaskExecutor.Task interruptedTask = executor.createTask(() -> {
+					while (!released.get()) {
+						java.lang.Thread.yield();
+					}
+				}, Thread.NORM_PRIORITY).submit().waitForStarting();
+				interruptedTask.interrupt();
+				released.set(true);
+				QueuedTaskExecutor.ProducerTask<Boolean> nextTask = executor.createProducerTask(task ->
+					java.lang.Thread.currentThread().isInterrupted(), Thread.NORM_PRIORITY
+				);
+				assertTrue(!nextTask.submit().join());
+			} finally {
+				executor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void queueOverflowPoliciesTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> configuration = new HashMap<>();
+			configuration.put("bounded-executor.name", "Bounded executor");
+			configuration.put("bounded-executor.thread-supplier", ThreadSupplier);
+			configuration.put("bounded-executor.daemon", true);
+			configuration.put("bounded-executor.undestroyable-from-external", false);
+			//With a single worker for each priority the tasks remain queued while the worker is busy
+			configuration.put("bounded-executor.work-stealing.enabled", true);
+			configuration.put("bounded-executor.work-stealing.parallelism", 1);
+			configuration.put("bounded-executor.queue.capacity", 2);
+			configuration.put("bounded-executor.queued-task-executor[0].name", "Low priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[0].priority", Thread.MIN_PRIORITY);
+			configuration.put("bounded-executor.queued-task-executor[0].queue.overflow-policy", "discard oldest");
+			configuration.put("bounded-executor.queued-task-executor[1].name", "Normal priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[1].priority", Thread.NORM_PRIORITY);
+			configuration.put("bounded-executor.queued-task-executor[1].queue.overflow-policy", "reject");
+			configuration.put("bounded-executor.queued-task-executor[2].name", "High priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[2].priority", Thread.MAX_PRIORITY);
+			configuration.put("bounded-executor.queued-task-executor[2].queue.overflow-policy", "run in caller thread");
+			QueuedTaskExecutor.Group executor = QueuedTaskExecutor.Group.create("bounded-executor", configuration);
+			try {
+				CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+				QueuedTaskExecutor.Task[] tasks = fillQueue(executor, Thread.MIN_PRIORITY, blockingTaskLatch);
+				QueuedTaskExecutor.Task overflowingTask = executor.createTask(() -> {}, Thread.MIN_PRIORITY).submit();
+				blockingTaskLatch.countDown();
+				assertTrue(tasks[1].isAborted() && overflowingTask.waitForFinish().wasExecuted());
+
+				blockingTaskLatch = new CountDownLatch(1);
+				tasks = fillQueue(executor, Thread.NORM_PRIORITY, blockingTaskLatch);
+				QueuedTaskExecutor.Task rejectedTask = executor.createTask(() -> {}, Thread.NORM_PRIORITY);
+				try {
+					rejectedTask.submit();
+					assertTrue(false);
+				} catch (TaskRejectedException exc) {
+					assertTrue(rejectedTask.isAborted());
+				}
+				blockingTaskLatch.countDown();
+				assertTrue(tasks[2].waitForFinish().wasExecuted());
+
+				blockingTaskLatch = new CountDownLatch(1);
+				tasks = fillQueue(executor, Thread.MAX_PRIORITY, blockingTaskLatch);
+				AtomicReference<java.lang.Thread> executingThread = new AtomicReference<>();
+				QueuedTaskExecutor.Task callerRunTask = executor.createTask(() ->
+					executingThread.set(java.lang.Thread.currentThread()), Thread.MAX_PRIORITY
+				).submit();
+				assertTrue(callerRunTask.hasFinished() && executingThread.get() == java.lang.Thread.currentThread());
+				blockingTaskLatch.countDown();
+				assertTrue(tasks[2].waitForFinish().wasExecuted());
+			} finally {
+				executor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void queueOverflowPoliciesTestTwo() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> configuration = new HashMap<>();
+			configuration.put("bounded-executor.name", "Bounded executor");
+			configuration.put("bounded-executor.thread-supplier", ThreadSupplier);
+			configuration.put("bounded-executor.daemon", true);
+			configuration.put("bounded-executor.undestroyable-from-external", false);
+			configuration.put("bounded-executor.work-stealing.enabled", true);
+			configuration.put("bounded-executor.work-stealing.parallelism", 1);
+			configuration.put("bounded-executor.queue.capacity", 2);
+			configuration.put("bounded-executor.queued-task-executor[0].name", "Low priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[0].priority", Thread.MIN_PRIORITY);
+			configuration.put("bounded-executor.queued-task-executor[0].queue.overflow-policy", "discard oldest");
+			configuration.put("bounded-executor.queued-task-executor[1].name", "Normal priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[1].priority", Thread.NORM_PRIORITY);
+			configuration.put("bounded-executor.queued-task-executor[1].queue.overflow-policy", "reject");
+			configuration.put("bounded-executor.queued-task-executor[2].name", "High priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[2].priority", Thread.MAX_PRIORITY);
+			configuration.put("bounded-executor.queued-task-executor[2].queue.overflow-policy", "run in caller thread");
+			QueuedTaskExecutor.Group executor = QueuedTaskExecutor.Group.create("bounded-executor", configuration);
+			try {
+				//The concurrent submitters can't queue more tasks than the capacity of the queue
+				for (int priority : new int[] {Thread.MIN_PRIORITY, Thread.NORM_PRIORITY}) {
+					CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+					executor.createTask(() -> blockingTaskLatch.await(), priority).submit().waitForStarting();
+					AtomicInteger executedTaskCount = new AtomicInteger();
+					Collection<java.lang.Thread> submitters = new ArrayList<>();
+					for (int i = 0; i < 8; i++) {
+						java.lang.Thread submitter = new java.lang.Thread(() -> {
+							for (int j = 0; j < 50; j++) {
+								try {
+									executor.createTask(() -> {
+										executedTaskCount.incrementAndGet();
+									}, priority).submit();
+								} catch (TaskRejectedException exc) {
+									//The reject policy throws when the queue is full
+								}
+							}
+						});
+						submitter.start();
+						submitters.add(submitter);
+					}
+					for (java.lang.Thread submitter : submitters) {
+						submitter.join();
+					}
+					blockingTaskLatch.countDown();
+					executor.waitForTasksEnding(priority, true, true);
+					assertTrue(executedTaskCount.get() > 0 && executedTaskCount.get() <= 2);
+				}
+
+				//The interruption of a task executed by the caller thread must not leak to the caller
+				CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+				QueuedTaskExecutor.Task[] tasks = fillQueue(executor, Thread.MAX_PRIORITY, blockingTaskLatch);
+				CountDownLatch callerRunTaskStartedLatch = new CountDownLatch(1);
+				AtomicBoolean released = new AtomicBoolean();
+				QueuedTaskExecutor.Task callerRunTask = executor.createTask(() -> {
+					callerRunTaskStartedLatch.countDown();
+					while (!released.get()) {
+						java.lang.Thread.yield();
+					}
+				}, Thread.MAX_PRIORITY);
+				java.lang.Thread interrupter = new java.lang.Thread(() -> {
+					try {
+						callerRunTaskStartedLatch.await();
+						callerRunTask.interrupt();
+					} catch (InterruptedException exc) {
+						java.lang.Thread.currentThread().interrupt();
+					} finally {
+						released.set(true);
+					}
+				});
+				interrupter.start();
+				callerRunTask.submit();
+				interrupter.join();
+				assertTrue(callerRunTask.hasFinished() && !java.lang.Thread.currentThread().isInterrupted());
+				blockingTaskLatch.countDown();
+				assertTrue(tasks[2].waitForFinish().wasExecuted());
+
+				//A thread of the pool that executes a task rejected by a full queue is not removed from its pool when
+				//the task is interrupted
+				CountDownLatch secondBlockingTaskLatch = new CountDownLatch(1);
+				tasks = fillQueue(executor, Thread.MAX_PRIORITY, secondBlockingTaskLatch);
+				CountDownLatch pooledCallerRunTaskStartedLatch = new CountDownLatch(1);
+				AtomicBoolean pooledCallerRunTaskReleased = new AtomicBoolean();
+				QueuedTaskExecutor.Task pooledCallerRunTask = executor.createTask(() -> {
+					pooledCallerRunTaskStartedLatch.countDown();
+					while (!pooledCallerRunTaskReleased.get()) {
+						java.lang.Thread.yield();
+					}
+				}, Thread.MAX_PRIORITY);
+				AtomicInteger poolableThreadCount = new AtomicInteger();
+				QueuedTaskExecutor.Task pooledCaller = BackgroundExecutor.createTask(() -> {
+					poolableThreadCount.set(ThreadSupplier.getPoolableThreadCount());
+					pooledCallerRunTask.submit();
+				}).submit();
+				pooledCallerRunTaskStartedLatch.await();
+				pooledCallerRunTask.interrupt();
+				pooledCallerRunTaskReleased.set(true);
+				assertTrue(pooledCaller.waitForFinish().wasExecuted());
+				assertTrue(poolableThreadCount.get() == ThreadSupplier.getPoolableThreadCount());
+				secondBlockingTaskLatch.countDown();
+				assertTrue(tasks[2].waitForFinish().wasExecuted());
+			} finally {
+				executor.shutDown(false);
+			}
+		});
+	}
+
+	private QueuedTaskExecutor.Task[] fillQueue(QueuedTaskExecutor.Group executor, int priority, CountDownLatch blockingTaskLatch) {
+		return new QueuedTaskExecutor.Task[] {
+			executor.createTask(() -> blockingTaskLatch.await(), priority).submit().waitForStarting(),
+			executor.createTask(() -> {}, priority).submit(),
+			executor.createTask(() -> {}, priority).submit()
+		};
+	}
+
+	private QueuedTaskExecutor.ProducerTask<Long> sum(QueuedTaskExecutor.Group executor, long from, long to) {
+		return executor.createProducerTask(task -> {
+			if (to - from < 10) {
+				long sum = 0;
+				for (long i = from; i <= to; i++) {
+					sum += i;
+				}
+				return sum;
+			}
+			long middle = (from + to) / 2;
+			QueuedTaskExecutor.ProducerTask<Long> left = sum(executor, from, middle).submit();
+			QueuedTaskExecutor.ProducerTask<Long> right = sum(executor, middle + 1, to).submit();
+			return right.join() + left.join();
+		}, Thread.NORM_PRIORITY);
+	}
+
+	@Test
+	public void submitAllTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicInteger executedTaskCount = new AtomicInteger();
+			Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				tasks.add(BackgroundExecutor.createTask(task -> {
+					executedTaskCount.incrementAndGet();
+				}, i % 2 == 0 ? Thread.MIN_PRIORITY : Thread.MAX_PRIORITY));
+			}
+			QueuedTaskExecutor.Batch<QueuedTaskExecutor.Task> batch = BackgroundExecutor.submitAll(tasks);
+			batch.joinAll();
+			assertTrue(executedTaskCount.get() == 100 && !batch.anyFailed());
+			//The tasks of the batch keep the order of the submitted ones even if they have different priorities
+			assertTrue(batch.getTasks().equals(new ArrayList<>(tasks)));
+			QueuedTaskExecutor.Batch<QueuedTaskExecutor.Task> failingBatch = BackgroundExecutor.submitAll(
+				BackgroundExecutor.createTasks(Arrays.asList(
+					task -> {},
+					task -> {
+						throw new IllegalStateException("Expected exception");
+					}
+				))
+			);
+			failingBatch.waitForAll();
+			assertTrue(failingBatch.anyFailed());
+			//The tasks that precede a task that can't be submitted must not remain marked as submitted
+			QueuedTaskExecutor.Task notSubmittedTask = BackgroundExecutor.createTask(task -> {});
+			QueuedTaskExecutor.Task submittedTask = BackgroundExecutor.createTask(task -> {}).submit();
+			try {
+				BackgroundExecutor.submitAll(Arrays.asList(notSubmittedTask, submittedTask));
+				assertTrue(false);
+			} catch (TaskStateException exc) {
+				assertTrue(!notSubmittedTask.isSubmitted());
+			}
+			assertTrue(notSubmittedTask.submit().waitForFinish().wasExecuted());
+		});
+	}
+
+	@Test
+	public void continuationsTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicReference<Throwable> exceptionWrapper = new AtomicReference<>();
+			QueuedTaskExecutor.ProducerTask<Integer> source = BackgroundExecutor.createProducerTask(() -> 20);
+			QueuedTaskExecutor.ProducerTask<String> pipeline = source.thenApply(value -> value + 1)
+				.thenCompose(value -> BackgroundExecutor.createProducerTask(() -> value * 2))
+				.whenComplete((value, exc) -> exceptionWrapper.set(exc))
+				.thenApply(String::valueOf);
+			//The continuations are submitted only when the source task completes
+			assertTrue(!pipeline.isSubmitted());
+			source.submit();
+			assertTrue(pipeline.toCompletableFuture().get().equals("42") && exceptionWrapper.get() == null);
+			QueuedTaskExecutor.ProducerTask<Integer> failing = BackgroundExecutor.createProducerTask(task -> {
+				throw new IllegalStateException("Expected exception");
+			});
+			QueuedTaskExecutor.ProducerTask<Integer> failingPipeline = failing.thenApply(value -> value + 1)
+				.whenComplete((value, exc) -> exceptionWrapper.set(exc));
+			failing.submit();
+			assertTrue(failingPipeline.toCompletableFuture().handle((value, exc) -> exc).get() instanceof IllegalStateException);
+			assertTrue(exceptionWrapper.get() instanceof IllegalStateException);
+		});
+	}
+
+	@Test
+	public void metricsTestOne() {
+		testDoesNotThrow(() -> {
+			String taskName = "Metrics test task " + UUID.randomUUID();
+			Map<Integer, QueuedTaskExecutor.Metrics.Snapshot> previousMetrics = BackgroundExecutor.getMetrics();
+			Collection<QueuedTaskExecutor.Task> tasks = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				tasks.add(BackgroundExecutor.createTask(task -> {
+					Thread.sleep(10);
+				}, Thread.MAX_PRIORITY).setName(taskName).submit());
+			}
+			tasks.add(BackgroundExecutor.createTask(task -> {
+				throw new IllegalStateException("Expected exception");
+			}, Thread.MAX_PRIORITY).setName(taskName).submit());
+			tasks.forEach(QueuedTaskExecutor.Task::waitForFinish);
+			Map<Integer, QueuedTaskExecutor.Metrics.Snapshot> metrics = BackgroundExecutor.getMetrics();
+			QueuedTaskExecutor.Metrics.Snapshot executorMetrics = metrics.get(Thread.MAX_PRIORITY);
+			QueuedTaskExecutor.Metrics.Snapshot taskNameMetrics = executorMetrics.getSnapshotsForTaskName().get(taskName);
+			ManagedLoggerRepository.logInfo(getClass()::getName, executorMetrics.toString());
+			assertTrue(taskNameMetrics.getSubmittedTasksCount() == 11);
+			assertTrue(taskNameMetrics.getExecutedTasksCount() == 10 && taskNameMetrics.getFailedTasksCount() == 1);
+			assertTrue(taskNameMetrics.getExecutionTimes().getCount() == 11);
+			assertTrue(taskNameMetrics.getExecutionTimes().getValueAtPercentile(50) >= 10_000_000);
+			assertTrue(executorMetrics.getThroughputSince(previousMetrics.get(Thread.MAX_PRIORITY)) > 0);
+		});
+	}
+
+	@Test
+	public void timerWheelTestOne() {
+		testDoesNotThrow(() -> {
+			CountDownLatch oneShotLatch = new CountDownLatch(1);
+			long scheduleTime = System.currentTimeMillis();
+			AtomicLong oneShotExecutionTime = new AtomicLong();
+			BackgroundExecutor.schedule(() -> {
+				oneShotExecutionTime.set(System.currentTimeMillis());
+				oneShotLatch.countDown();
+			}, 300, Thread.MAX_PRIORITY);
+			CountDownLatch fixedRateLatch = new CountDownLatch(5);
+			TimerWheel.ScheduledTask fixedRateTask = BackgroundExecutor.scheduleAtFixedRate(
+				fixedRateLatch::countDown, 0, 100, Thread.MAX_PRIORITY
+			);
+			CountDownLatch fixedDelayLatch = new CountDownLatch(3);
+			TimerWheel.ScheduledTask fixedDelayTask = BackgroundExecutor.scheduleWithFixedDelay(
+				fixedDelayLatch::countDown, 50, 100, Thread.MAX_PRIORITY
+			);
+			assertTrue(oneShotLatch.await(10, TimeUnit.SECONDS));
+			assertTrue(oneShotExecutionTime.get() - scheduleTime >= 300);
+			assertTrue(fixedRateLatch.await(10, TimeUnit.SECONDS) && fixedDelayLatch.await(10, TimeUnit.SECONDS));
+			assertTrue(fixedRateTask.isPeriodic() && fixedRateTask.cancel() && fixedRateTask.isCancelled());
+			assertTrue(fixedDelayTask.cancel() && !fixedDelayTask.cancel());
+			AtomicInteger cancelledTaskExecutionsCount = new AtomicInteger();
+			BackgroundExecutor.schedule(cancelledTaskExecutionsCount::incrementAndGet, 200, Thread.MAX_PRIORITY).cancel();
+			Thread.sleep(500);
+			assertTrue(cancelledTaskExecutionsCount.get() == 0);
+		});
+	}
+
+	@Test
+	public void timerWheelTestTwo() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> configuration = new HashMap<>();
+			configuration.put("bounded-executor.name", "Bounded executor");
+			configuration.put("bounded-executor.thread-supplier", ThreadSupplier);
+			configuration.put("bounded-executor.daemon", true);
+			configuration.put("bounded-executor.undestroyable-from-external", false);
+			configuration.put("bounded-executor.work-stealing.enabled", true);
+			configuration.put("bounded-executor.work-stealing.parallelism", 1);
+			configuration.put("bounded-executor.queue.capacity", 2);
+			configuration.put("bounded-executor.queue.overflow-policy", "run in caller thread");
+			configuration.put("bounded-executor.queued-task-executor[0].name", "Low priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[0].priority", Thread.MIN_PRIORITY);
+			configuration.put("bounded-executor.queued-task-executor[1].name", "High priority tasks");
+			configuration.put("bounded-executor.queued-task-executor[1].priority", Thread.MAX_PRIORITY);
+			QueuedTaskExecutor.Group executor = QueuedTaskExecutor.Group.create("bounded-executor", configuration);
+			try {
+				//The thread of the wheel must not execute the tasks of a full queue: their executions are skipped
+				CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+				QueuedTaskExecutor.Task[] tasks = fillQueue(executor, Thread.MIN_PRIORITY, blockingTaskLatch);
+				AtomicInteger skippedTaskExecutionsCount = new AtomicInteger();
+				executor.schedule(skippedTaskExecutionsCount::incrementAndGet, 0, Thread.MIN_PRIORITY);
+				CountDownLatch otherPriorityLatch = new CountDownLatch(1);
+				executor.schedule(otherPriorityLatch::countDown, 100, Thread.MAX_PRIORITY);
+				assertTrue(otherPriorityLatch.await(10, TimeUnit.SECONDS));
+				blockingTaskLatch.countDown();
+				assertTrue(tasks[2].waitForFinish().wasExecuted());
+				executor.waitForTasksEnding(Thread.MIN_PRIORITY, true, true);
+				assertTrue(skippedTaskExecutionsCount.get() == 0);
+			} finally {
+				executor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void taskCreationTrackingTestOne() {
+		testDoesNotThrow(() -> {
+			Map<String, Object> configuration = new HashMap<>();
+			configuration.put("tracked-executor.name", "Tracked executor");
+			configuration.put("tracked-executor.thread-supplier", ThreadSupplier);
+			configuration.put("tracked-executor.daemon", true);
+			configuration.put("tracked-executor.undestroyable-from-external", false);
+			configuration.put("tracked-executor.task-creation-tracking.max-stack-depth", 3);
+			configuration.put("tracked-executor.queued-task-executor[0].name", "Normal priority tasks");
+			configuration.put("tracked-executor.queued-task-executor[0].priority", Thread.NORM_PRIORITY);
+			QueuedTaskExecutor.Group executor = QueuedTaskExecutor.Group.create("tracked-executor", configuration);
+			try {
+				executor.setTasksCreationTrackingFlag(true);
+				QueuedTaskExecutor.Task task = executor.createTask(() -> {}).submit().waitForFinish();
+				assertTrue(task.getCreatorInfos().size() == 3);
+				assertTrue(task.getCreatorInfos().get(0).getClassName().startsWith(getClass().getName()));
+
+				executor.setTasksCreationTrackingConfig(new TasksCreationTracker.Config().setSamplingRate(Integer.MAX_VALUE));
+				assertTrue(executor.createTask(() -> {}).getCreatorInfos() == null);
+
+				executor.setTasksCreationTrackingConfig(new TasksCreationTracker.Config().setMinimumWaitingTime(60_000));
+				task = executor.createTask(() -> {});
+				assertTrue(task.getCreatorInfos() != null);
+				task = executor.createTask(() -> {}).submit().waitForFinish();
+				assertTrue(task.getCreatorInfos() == null);
+			} finally {
+				executor.shutDown(false);
+			}
+		});
+	}
+
+	@Test
+	public void deadLockDetectionTestOne() {
+		testDoesNotThrow(() -> {
+			CountDownLatch startedTasksLatch = new CountDownLatch(2);
+			AtomicReference<QueuedTaskExecutor.Task> taskOneWrapper = new AtomicReference<>();
+			AtomicReference<QueuedTaskExecutor.Task> taskTwoWrapper = new AtomicReference<>();
+			AtomicInteger deadLockExceptionsCount = new AtomicInteger();
+			ThrowingConsumer<AtomicReference<QueuedTaskExecutor.Task>, Throwable> waitForOtherTask = otherTaskWrapper -> {
+				startedTasksLatch.countDown();
+				startedTasksLatch.await();
+				try {
+					otherTaskWrapper.get().waitForFinish();
+				} catch (TaskStateException exc) {
+					deadLockExceptionsCount.incrementAndGet();
+					throw exc;
+				}
+			};
+			taskOneWrapper.set(BackgroundExecutor.createTask(task -> {
+				waitForOtherTask.accept(taskTwoWrapper);
+			}, Thread.MAX_PRIORITY));
+			taskTwoWrapper.set(BackgroundExecutor.createTask(task -> {
+				waitForOtherTask.accept(taskOneWrapper);
+			}, Thread.MAX_PRIORITY));
+			taskOneWrapper.get().submit();
+			taskTwoWrapper.get().submit();
+			taskOneWrapper.get().waitForFinish();
+			taskTwoWrapper.get().waitForFinish();
+			//Only the wait that closes the cycle is refused, so the other task can complete
+			assertTrue(deadLockExceptionsCount.get() == 1);
+			assertTrue(taskOneWrapper.get().wasExecuted() != taskTwoWrapper.get().wasExecuted());
+			assertTrue(BackgroundExecutor.getMetrics().get(Thread.MAX_PRIORITY).getDeadLocksCount() > 0);
+		});
+	}
+
+	@Test
+	public void taskScopeTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicReference<QueuedTaskExecutor.Task> sleepingTaskWrapper = new AtomicReference<>();
+			boolean failureThrown = false;
+			long startTime = System.currentTimeMillis();
+			try (TaskScope taskScope = BackgroundExecutor.createScope().setRunningTasksInterruptionFlag(true)) {
+				sleepingTaskWrapper.set(taskScope.fork(() -> Thread.sleep(60_000)));
+				taskScope.fork(() -> {
+					throw new IllegalStateException("Task scope test exception");
+				});
+				taskScope.joinAll();
+			} catch (IllegalStateException exc) {
+				failureThrown = exc.getMessage().equals("Task scope test exception");
+			}
+			//The sleeping task is interrupted as soon as the other one fails
+			assertTrue(failureThrown);
+			assertTrue(sleepingTaskWrapper.get().hasFinished() && !sleepingTaskWrapper.get().wasExecuted());
+			assertTrue(System.currentTimeMillis() - startTime < 30_000);
+		});
+	}
+
+	@Test
+	public void taskScopeTestTwo() {
+		testDoesNotThrow(() -> {
+			try (TaskScope taskScope = BackgroundExecutor.createScope().setRunningTasksInterruptionFlag(true)) {
+				QueuedTaskExecutor.ProducerTask<String> sleepingTask = taskScope.fork(() -> {
+					Thread.sleep(60_000);
+					return "slow";
+				});
+				taskScope.fork(() -> null);
+				taskScope.fork(() -> "fast");
+				assertTrue("fast".equals(taskScope.joinUntilFirstSuccess()));
+				assertTrue(taskScope.isShutDown());
+				assertTrue(sleepingTask.hasFinished() && !sleepingTask.wasExecuted());
+			}
+		});
+	}
+
+	@Test
+	public void taskScopeTestThree() {
+		testDoesNotThrow(() -> {
+			boolean deadlineExpired = false;
+			try (TaskScope taskScope = BackgroundExecutor.createScope(500).setRunningTasksInterruptionFlag(true)) {
+				taskScope.fork(() -> Thread.sleep(60_000));
+				taskScope.joinAll();
+			} catch (TaskStateException exc) {
+				deadlineExpired = true;
+			}
+			assertTrue(deadlineExpired);
+		});
+	}
+
+	@Test
+	public void taskScopeTestFour() {
+		testDoesNotThrow(() -> {
+			AtomicReference<QueuedTaskExecutor.Task> sleepingTaskWrapper = new AtomicReference<>();
+			boolean failureThrown = false;
+			CountDownLatch sleepingTaskStarted = new CountDownLatch(1);
+			try (TaskScope taskScope = BackgroundExecutor.createScope()) {
+				sleepingTaskWrapper.set(taskScope.fork(() -> {
+					sleepingTaskStarted.countDown();
+					Thread.sleep(500);
+				}));
+				taskScope.fork(() -> {
+					sleepingTaskStarted.await();
+					throw new IllegalStateException("Task scope test exception");
+				});
+				taskScope.joinAll();
+			} catch (IllegalStateException exc) {
+				failureThrown = exc.getMessage().equals("Task scope test exception");
+			}
+			//Without the interruption of the running tasks the sleeping task ends on its own
+			assertTrue(failureThrown);
+			assertTrue(sleepingTaskWrapper.get().wasExecuted());
+		});
+	}
+
+	@Test
+	public void taskScopeTestFive() {
+		testDoesNotThrow(() -> {
+			AtomicInteger poolableThreadCount = new AtomicInteger();
+			boolean failureThrown = false;
+			CountDownLatch sleepingTaskStarted = new CountDownLatch(1);
+			try (TaskScope taskScope = BackgroundExecutor.createScope().setRunningTasksInterruptionFlag(true)) {
+				taskScope.fork(() -> {
+					sleepingTaskStarted.countDown();
+					Thread.sleep(60_000);
+				});
+				taskScope.fork(() -> {
+					sleepingTaskStarted.await();
+					poolableThreadCount.set(ThreadSupplier.getPoolableThreadCount());
+					throw new IllegalStateException("Task scope test exception");
+				});
+				taskScope.joinAll();
+			} catch (IllegalStateException exc) {
+				failureThrown = exc.getMessage().equals("Task scope test exception");
+			}
+			//The interrupted thread is not removed from its pool
+			assertTrue(failureThrown);
+			assertTrue(poolableThreadCount.get() == ThreadSupplier.getPoolableThreadCount());
+		});
+	}
+
 	//@Test
 	public void stressTestOne() {
 		testDoesNotThrow(() -> {
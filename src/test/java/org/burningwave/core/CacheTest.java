@@ -0,0 +1,425 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.burningwave.core.assembler.StaticComponentContainer;
+import org.burningwave.core.io.ArchiveSnapshotStore;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class CacheTest extends BaseTest {
+
+	@Test
+	public void boundedByEntryCountTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicInteger destroyedItemCount = new AtomicInteger();
+			Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+				1L, item -> item, (path, item) -> destroyedItemCount.incrementAndGet(),
+				Cache.Bounds.create("test", 10, -1, null)
+			);
+			Object key = new Object();
+			for (int i = 0; i < 100; i++) {
+				String path = "/folder/resource-" + i;
+				cache.getOrUploadIfAbsent(key, path, () -> path);
+			}
+			cache.getBounds().waitForEviction();
+			assertTrue(cache.getBounds().getEntryCount() <= 10);
+			assertTrue(cache.getBounds().getEvictedEntryCount() == destroyedItemCount.get());
+			assertTrue(cache.get(key, "/folder/resource-99") != null);
+		});
+	}
+
+	@Test
+	public void boundedByWeightTestOne() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+				1L, item -> item, null,
+				Cache.Bounds.create("test", -1, 1024, String::length)
+			);
+			Object key = new Object();
+			for (int i = 0; i < 100; i++) {
+				String path = "/folder/resource-" + i;
+				cache.getOrUploadIfAbsent(key, path, () -> new String(new char[64]));
+			}
+			cache.getBounds().waitForEviction();
+			assertTrue(cache.getBounds().getWeight() <= 1024);
+			cache.remove(key, true);
+			assertTrue(cache.getBounds().getEntryCount() == 0);
+		});
+	}
+
+	@Test
+	public void boundsFromConfigurationTestOne() {
+		testDoesNotThrow(() -> {
+			Map<Object, Object> config = new HashMap<>();
+			config.put("cache.test.max-entry-count", "100");
+			config.put("cache.test.max-weight", "2KB");
+			Cache.Bounds<String> bounds = Cache.Bounds.create("test", config, String::length);
+			assertTrue(bounds.getMaxEntryCount() == 100 && bounds.getMaxWeight() == 2048);
+		});
+	}
+
+	@Test
+	public void boundsFromConfigurationTestTwo() {
+		testThrow(() -> {
+			Map<Object, Object> config = new HashMap<>();
+			config.put("cache.test.max-weight", "K");
+			Cache.Bounds.create("test", config, String::length);
+		});
+	}
+
+	@Test
+	public void weakKeysTestOne() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<Object, Object> cache = new Cache.ObjectAndPathForResources<>(
+				Cache.Bounds.create("test", 100, -1, null), true
+			);
+			uploadWithUnreachableKeys(cache);
+			assertTrue(cache.getBounds().getEntryCount() == 2);
+			for (int i = 0; (i < 50) && (cache.getPurgedKeyCount() < 2); i++) {
+				System.gc();
+				cache.purge();
+				java.lang.Thread.sleep(10);
+			}
+			assertTrue(cache.getPurgedKeyCount() == 2);
+			assertTrue(cache.getBounds().getEntryCount() == 0);
+		});
+	}
+
+	@Test
+	public void weakKeysTestTwo() {
+		testDoesNotThrow(() -> {
+			Cache cache = StaticComponentContainer.Cache;
+			long purgedKeyCount = cache.classLoaderForFields.getPurgedKeyCount();
+			uploadWithUnreachableClassLoader(cache);
+			//The region is no longer accessed, so its collected keys are purged only by the drain of the cache
+			for (int i = 0; (i < 50) && (cache.classLoaderForFields.getPurgedKeyCount() == purgedKeyCount); i++) {
+				System.gc();
+				cache.purgeCollectedKeys();
+				java.lang.Thread.sleep(10);
+			}
+			assertTrue(cache.classLoaderForFields.getPurgedKeyCount() > purgedKeyCount);
+		});
+	}
+
+	private void uploadWithUnreachableClassLoader(Cache cache) {
+		ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+		cache.classLoaderForFields.getOrUploadIfAbsent(classLoader, "/java/lang/Object", () -> Object.class.getDeclaredFields());
+	}
+
+	private void uploadWithUnreachableKeys(Cache.ObjectAndPathForResources<Object, Object> cache) {
+		Cache.Anchor anchor = new Cache.Anchor() {
+			Map<Object, Object> anchoredResources = new java.util.concurrent.ConcurrentHashMap<>();
+
+			@Override
+			public Map<Object, Object> getAnchoredResources() {
+				return anchoredResources;
+			}
+		};
+		//The item references its key as the members cached for a class loader do
+		cache.getOrUploadIfAbsent(anchor, "/folder/resource", () -> anchor);
+		cache.getOrUploadIfAbsent(new Object(), "/folder/resource", () -> "resource");
+		assertTrue(cache.get(anchor, "/folder/resource") == anchor);
+	}
+
+	@Test
+	public void statisticsTestOne() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+				Cache.Bounds.create("test", 10, -1, null)
+			);
+			Object key = new Object();
+			for (int i = 0; i < 20; i++) {
+				String path = "/folder/resource-" + i;
+				cache.getOrUploadIfAbsent(key, path, () -> path);
+			}
+			cache.getBounds().waitForEviction();
+			cache.get(key, "/folder/resource-19");
+			Cache.Statistics.Snapshot statistics = cache.getStatistics();
+			assertTrue(statistics.getLoadCount() == 20);
+			assertTrue(statistics.getMissCount() == 20);
+			assertTrue(statistics.getHitCount() == 1);
+			assertTrue(statistics.getEvictionCount() == cache.getBounds().getEvictedEntryCount());
+			assertTrue(statistics.getSize() == cache.getBounds().getEntryCount());
+		});
+	}
+
+	@Test
+	public void loadOnceTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicInteger loadCount = new AtomicInteger();
+			Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>();
+			Object key = new Object();
+			int threadCount = 16;
+			CountDownLatch startSignal = new CountDownLatch(1);
+			CountDownLatch doneSignal = new CountDownLatch(threadCount);
+			for (int i = 0; i < threadCount; i++) {
+				new java.lang.Thread(() -> {
+					try {
+						startSignal.await();
+						for (int j = 0; j < 100; j++) {
+							String path = "/folder/resource-" + j;
+							cache.getOrUploadIfAbsent(key, path, () -> {
+								loadCount.incrementAndGet();
+								return path;
+							});
+						}
+					} catch (InterruptedException exc) {
+						java.lang.Thread.currentThread().interrupt();
+					} finally {
+						doneSignal.countDown();
+					}
+				}).start();
+			}
+			startSignal.countDown();
+			doneSignal.await();
+			assertTrue(loadCount.get() == 100);
+		});
+	}
+
+	@Test
+	public void removeAllUnderTestOne() {
+		testDoesNotThrow(() -> {
+			AtomicInteger destroyedItemCount = new AtomicInteger();
+			Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>(
+				1L, item -> item, (path, item) -> destroyedItemCount.incrementAndGet()
+			);
+			Object key = new Object();
+			for (String path : new String[] {
+				"/folder/archive.jar", "/folder/archive.jar/com/Class.class", "/folder/archive.jar/META-INF/MANIFEST.MF",
+				"/folder/archive.jar.bak", "/folder/other.jar/com/Class.class"
+			}) {
+				cache.getOrUploadIfAbsent(key, path, () -> path);
+			}
+			AtomicInteger iteratedItemCount = new AtomicInteger();
+			cache.retrievePathForResources(key).iterateUnder("/folder/archive.jar", (path, item) -> iteratedItemCount.incrementAndGet());
+			assertTrue(iteratedItemCount.get() == 3);
+			assertTrue(cache.retrievePathForResources(key).removeAllUnder("/folder/archive.jar", true) == 3);
+			assertTrue(destroyedItemCount.get() == 3);
+			assertTrue(cache.get(key, "/folder/archive.jar/com/Class.class") == null);
+			assertTrue(cache.get(key, "/folder/archive.jar.bak") != null);
+			assertTrue(cache.get(key, "/folder/other.jar/com/Class.class") != null);
+			assertTrue(cache.retrievePathForResources(key).getLoadedResourcesCount() == 2);
+		});
+	}
+
+	@Test
+	public void removeAllUnderTestTwo() {
+		testDoesNotThrow(() -> {
+			Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>();
+			Object key = new Object();
+			CountDownLatch startSignal = new CountDownLatch(1);
+			Collection<Thread> loaders = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				String archive = "/folder/archive-" + i + ".jar";
+				Thread loader = new Thread(() -> {
+					try {
+						startSignal.await();
+					} catch (InterruptedException exc) {
+						Thread.currentThread().interrupt();
+					}
+					for (int j = 0; j < 500; j++) {
+						String path = archive + "/com/Class" + j + ".class";
+						cache.getOrUploadIfAbsent(key, path, () -> path);
+					}
+				});
+				loader.start();
+				loaders.add(loader);
+			}
+			startSignal.countDown();
+			for (Thread loader : loaders) {
+				loader.join();
+			}
+			//The paths loaded concurrently are all indexed
+			int removedItemsCount = 0;
+			for (int i = 0; i < 8; i++) {
+				removedItemsCount += cache.retrievePathForResources(key).removeAllUnder("/folder/archive-" + i + ".jar", false);
+			}
+			assertTrue(removedItemsCount == 4000);
+			assertTrue(cache.retrievePathForResources(key).getLoadedResourcesCount() == 0);
+		});
+	}
+
+	@Test
+	public void slabArenaTestOne() {
+		testDoesNotThrow(() -> {
+			for (String store : new String[] {"direct-slabs", "memory-mapped-slabs"}) {
+				Map<String, String> config = new HashMap<>();
+				config.put(Cache.Configuration.Key.PATH_FOR_CONTENTS_STORE, store);
+				config.put(Cache.Configuration.Key.PATH_FOR_CONTENTS_SLAB_SIZE, "64KB");
+				Cache cache = Cache.create(config);
+				for (int i = 0; i < 100; i++) {
+					byte[] bytes = new byte[1024];
+					bytes[0] = (byte)i;
+					cache.pathForContents.getOrUploadIfAbsent("/folder/archive.jar/entry-" + i, () -> ByteBuffer.wrap(bytes));
+				}
+				assertTrue(cache.pathForContentsArena.getOccupiedBytes() == 100 * 1024);
+				ByteBuffer content = cache.pathForContents.get("/folder/archive.jar/entry-7");
+				assertTrue(content.isReadOnly() && content.limit() == 1024 && content.get(0) == 7);
+				assertTrue(cache.pathForContents.removeAllUnder("/folder/archive.jar", false) == 100);
+				assertTrue(cache.pathForContentsArena.getOccupiedBytes() == 0);
+				assertTrue(cache.pathForContentsArena.getSlabCount() <= 1);
+			}
+		});
+	}
+
+	@Test
+	public void archiveSnapshotStoreTestOne() {
+		testDoesNotThrow(() -> {
+			File folder = Files.createTempDirectory("archive-snapshots-test").toFile();
+			File archive = new File(folder, "archive.jar");
+			Files.write(archive.toPath(), new byte[] {1, 2, 3});
+			ArchiveSnapshotStore archiveSnapshotStore = ArchiveSnapshotStore.create(folder.getAbsolutePath() + "/snapshots");
+			Collection<ArchiveSnapshotStore.Record> records = new ArrayList<>();
+			records.add(new ArchiveSnapshotStore.Record("com", "com/", "", null));
+			records.add(new ArchiveSnapshotStore.Record("com/Class.class", "com/Class.class", "", ByteBuffer.wrap(new byte[] {7, 8, 9})));
+			archiveSnapshotStore.store(archive, records);
+			Collection<ArchiveSnapshotStore.Record> loadedRecords = archiveSnapshotStore.load(archive);
+			assertTrue(loadedRecords != null && loadedRecords.size() == 2);
+			ArchiveSnapshotStore.Record record = new ArrayList<>(loadedRecords).get(1);
+			assertTrue(record.getRelativePath().equals("com/Class.class") && record.getContent().limit() == 3 && record.getContent().get(2) == 9);
+			assertTrue(archive.setLastModified(archive.lastModified() - 10000));
+			assertTrue(archiveSnapshotStore.load(archive) == null);
+		});
+	}
+
+	@Test
+	@Tag("Heavy")
+	public void getOrUploadIfAbsentContentionBenchmark() {
+		testDoesNotThrow(() -> {
+			//Every thread requests every path: each path is loaded once and concurrently requested by the other threads
+			int pathCount = 100_000;
+			for (int threadCount : new int[] {1, 8, 32, 1, 8, 32}) {
+				Object key = new Object();
+				Cache.ObjectAndPathForResources<Object, String> lockFreeCache = new Cache.ObjectAndPathForResources<>();
+				long lockFreeElapsedTime = runContended(threadCount, pathCount, path ->
+					lockFreeCache.getOrUploadIfAbsent(key, path, () -> path)
+				);
+				LegacyPathForResources<String> mutexBasedCache = new LegacyPathForResources<>(1L);
+				long mutexBasedElapsedTime = runContended(threadCount, pathCount, path ->
+					mutexBasedCache.getOrUploadIfAbsent(path, () -> path)
+				);
+				long totalOperations = (long)threadCount * pathCount;
+				ManagedLoggerRepository.logInfo(getClass()::getName,
+					"{} threads: lock free loading {} ops/ms, mutex based loading {} ops/ms",
+					threadCount,
+					totalOperations / Math.max(lockFreeElapsedTime, 1),
+					totalOperations / Math.max(mutexBasedElapsedTime, 1)
+				);
+			}
+		});
+	}
+
+	private long runContended(int threadCount, int pathCount, java.util.function.Function<String, String> operation) throws InterruptedException {
+		String[] paths = new String[pathCount];
+		for (int i = 0; i < pathCount; i++) {
+			paths[i] = "/folder/resource-" + i;
+		}
+		CountDownLatch startSignal = new CountDownLatch(1);
+		CountDownLatch doneSignal = new CountDownLatch(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			int offset = i;
+			new java.lang.Thread(() -> {
+				try {
+					startSignal.await();
+					for (int j = 0; j < pathCount; j++) {
+						operation.apply(paths[(j + offset) % pathCount]);
+					}
+				} catch (InterruptedException exc) {
+					java.lang.Thread.currentThread().interrupt();
+				} finally {
+					doneSignal.countDown();
+				}
+			}).start();
+		}
+		long startTime = System.currentTimeMillis();
+		startSignal.countDown();
+		doneSignal.await();
+		return System.currentTimeMillis() - startTime;
+	}
+
+	//Emulation of the previous loading path: the resources are stored in nested partitions that are created, like
+	//the resources themselves, under a mutex of the Synchronizer identified by a string built for each request
+	private static class LegacyPathForResources<R> {
+		Map<Long, Map<String, Map<String, R>>> resources;
+		Long partitionStartLevel;
+		String instanceId;
+
+		LegacyPathForResources(Long partitionStartLevel) {
+			this.partitionStartLevel = partitionStartLevel;
+			this.resources = new ConcurrentHashMap<>();
+			this.instanceId = this.toString();
+		}
+
+		Map<String, Map<String, R>> retrievePartition(Long partitionIndex) {
+			Map<String, Map<String, R>> partition = resources.get(partitionIndex);
+			if (partition == null) {
+				partition = Synchronizer.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
+					Map<String, Map<String, R>> partitionTemp = resources.get(partitionIndex);
+					if (partitionTemp == null) {
+						resources.put(partitionIndex, partitionTemp = new ConcurrentHashMap<>());
+					}
+					return partitionTemp;
+				});
+			}
+			return partition;
+		}
+
+		Map<String, R> retrievePartition(Map<String, Map<String, R>> partition, Long partitionIndex, String path) {
+			String partitionKey = "/";
+			if (partitionIndex > 1) {
+				partitionKey = path.substring(0, path.lastIndexOf("/"));
+				partitionKey = partitionKey.substring(partitionKey.lastIndexOf("/") + 1);
+			}
+			Map<String, R> innerPartition = partition.get(partitionKey);
+			if (innerPartition == null) {
+				String finalPartitionKey = partitionKey;
+				innerPartition = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
+					Map<String, R> innerPartitionTemp = partition.get(finalPartitionKey);
+					if (innerPartitionTemp == null) {
+						partition.put(finalPartitionKey, innerPartitionTemp = new ConcurrentHashMap<>());
+					}
+					return innerPartitionTemp;
+				});
+			}
+			return innerPartition;
+		}
+
+		R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
+			Long occurences = path.chars().filter(ch -> ch == '/').count();
+			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
+			Map<String, R> loadedResources = retrievePartition(retrievePartition(partitionIndex), partitionIndex, path);
+			R resource = loadedResources.get(path);
+			if (resource == null) {
+				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+					R resourceTemp = loadedResources.get(path);
+					if (resourceTemp == null) {
+						resourceTemp = resourceSupplier.get();
+						if (resourceTemp != null) {
+							loadedResources.put(path, resourceTemp);
+						}
+					}
+					return resourceTemp;
+				});
+			}
+			return resource;
+		}
+	}
+
+}
@@ -1,12 +1,24 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.assembler.StaticComponentContainer;
+import org.burningwave.core.io.ArchiveSnapshotStore;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.junit.jupiter.api.Tag;
@@ -25,6 +37,44 @@ public class FileSystemItemTest extends BaseTest {
 		);
 	}
 
+	@Test
+	public void archiveSnapshotTestOne() {
+		testDoesNotThrow(() -> {
+			File folder = Files.createTempDirectory("file-system-item-snapshots-test").toFile();
+			File archive = new File(folder, "archive.zip");
+			try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(archive))) {
+				zipOutputStream.putNextEntry(new ZipEntry("folder/"));
+				zipOutputStream.closeEntry();
+				zipOutputStream.putNextEntry(new ZipEntry("folder/resource.txt"));
+				zipOutputStream.write("content".getBytes(StandardCharsets.UTF_8));
+				zipOutputStream.closeEntry();
+			}
+			ArchiveSnapshotStore archiveSnapshotStore = ArchiveSnapshotStore.create(folder.getAbsolutePath() + "/snapshots");
+			ArchiveSnapshotStore defaultArchiveSnapshotStore = Cache.archiveSnapshotStore;
+			Fields.setDirect(Cache, "archiveSnapshotStore", archiveSnapshotStore);
+			try {
+				FileSystemItem fileSystemItem = FileSystemItem.ofPath(archive.getAbsolutePath());
+				assertTrue(fileSystemItem.getAllChildren().size() == 2);
+				//The snapshot is stored in background
+				for (int i = 0; (i < 100) && (archiveSnapshotStore.load(archive) == null); i++) {
+					java.lang.Thread.sleep(50);
+				}
+				assertTrue(archiveSnapshotStore.load(archive).size() == 2);
+				//After the clearing the children and their contents are loaded from the snapshot
+				fileSystemItem.reset();
+				Collection<FileSystemItem> allChildren = fileSystemItem.getAllChildren();
+				assertTrue(allChildren.size() == 2);
+				FileSystemItem resource = allChildren.stream().filter(child ->
+					child.getName().equals("resource.txt")
+				).findFirst().get();
+				assertTrue(new String(resource.toByteArray(), StandardCharsets.UTF_8).equals("content"));
+				assertTrue(resource.getParent().getName().equals("folder"));
+			} finally {
+				Fields.setDirect(Cache, "archiveSnapshotStore", defaultArchiveSnapshotStore);
+			}
+		});
+	}
+
 	@Test
 	public void resetTestOne() {
 		testNotNull(() -> {
@@ -1,10 +1,16 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.MethodCriteria;
+import org.burningwave.core.classes.WarmUpPlan;
 import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
 
@@ -264,4 +270,50 @@ public class MethodsTest extends BaseTest {
 	        ), true
 	    );
 	}
+
+	@Test
+	public void warmUpPlanTestOne() throws Throwable {
+		testDoesNotThrow(() -> {
+			WarmUpPlan warmUpPlan = WarmUpPlan.create().startRecording();
+			try {
+				Methods.invokeStatic(WarmUpPlanTarget.class, "getValue", "Hello!");
+				Methods.invokeStaticDirect(WarmUpPlanTarget.class, "getValue", "Hello!");
+			} finally {
+				warmUpPlan.stopRecording();
+			}
+			Path file = Files.createTempFile("warm-up-plan", ".txt");
+			warmUpPlan.store(file);
+			WarmUpPlan loadedWarmUpPlan = WarmUpPlan.load(file);
+			assertTrue(loadedWarmUpPlan.getSize() == warmUpPlan.getSize() && loadedWarmUpPlan.getSize() >= 2);
+			Files.delete(file);
+			//The plan is replayed on empty member caches
+			ClassLoader classLoader = WarmUpPlanTarget.class.getClassLoader();
+			Cache.uniqueKeyForMethods.remove(classLoader, true);
+			Cache.uniqueKeyForExecutableAndMethodHandle.remove(classLoader, true);
+			long loadCount = Cache.uniqueKeyForMethods.getStatistics().getLoadCount() +
+				Cache.uniqueKeyForExecutableAndMethodHandle.getStatistics().getLoadCount();
+			loadedWarmUpPlan.replay(classLoader);
+			assertTrue(
+				Cache.uniqueKeyForMethods.getStatistics().getLoadCount() +
+				Cache.uniqueKeyForExecutableAndMethodHandle.getStatistics().getLoadCount() > loadCount
+			);
+			//The lookups are recorded only when they miss the caches, so after the replay nothing is recorded
+			WarmUpPlan hotPathWarmUpPlan = WarmUpPlan.create().startRecording();
+			try {
+				Methods.invokeStatic(WarmUpPlanTarget.class, "getValue", "Hello!");
+				Methods.invokeStaticDirect(WarmUpPlanTarget.class, "getValue", "Hello!");
+			} finally {
+				hotPathWarmUpPlan.stopRecording();
+			}
+			assertTrue(hotPathWarmUpPlan.getSize() == 0);
+		});
+	}
+
+	public static class WarmUpPlanTarget {
+
+		public static String getValue(String value) {
+			return value;
+		}
+
+	}
 }
@@ -0,0 +1,326 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.burningwave.core.concurrent.Synchronizer.Mutex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class SynchronizerTest extends BaseTest {
+
+	@Test
+	public void getMutexTestOne() {
+		testDoesNotThrow(() -> {
+			try (org.burningwave.core.concurrent.Synchronizer synchronizer =
+				org.burningwave.core.concurrent.Synchronizer.create("test", false)
+			) {
+				Mutex mutex = synchronizer.getMutex("id");
+				Mutex sameMutex = synchronizer.getMutex("id");
+				assertTrue(mutex == sameMutex && mutex.getClientsCount() == 2);
+				sameMutex.close();
+				mutex.close();
+				assertTrue(mutex.getClientsCount() == 0);
+				Mutex newMutex = synchronizer.getMutex("id");
+				assertTrue(newMutex != mutex && newMutex.getClientsCount() == 1);
+				newMutex.close();
+			}
+		});
+	}
+
+	@Test
+	public void getMutexTestTwo() {
+		testDoesNotThrow(() -> {
+			try (org.burningwave.core.concurrent.Synchronizer synchronizer =
+				org.burningwave.core.concurrent.Synchronizer.create("test", false, 5)
+			) {
+				assertTrue(synchronizer.isStriped());
+				Mutex mutex = synchronizer.getMutex("id");
+				mutex.close();
+				assertTrue(synchronizer.getMutex("id") == mutex);
+			}
+		});
+	}
+
+	@Test
+	public void getMutexTestThree() {
+		testDoesNotThrow(() -> {
+			try (org.burningwave.core.concurrent.Synchronizer synchronizer =
+				org.burningwave.core.concurrent.Synchronizer.create("test", false)
+			) {
+				Object owner = new Object();
+				Mutex mutex = synchronizer.getMutex(owner, "path", 1);
+				Mutex sameMutex = synchronizer.getMutex(owner, new StringBuilder("pa").append("th").toString(), 1);
+				Mutex otherOwnerMutex = synchronizer.getMutex(new Object(), "path", 1);
+				Mutex otherKeyMutex = synchronizer.getMutex(owner, "path");
+				assertTrue(mutex == sameMutex && mutex != otherOwnerMutex && mutex != otherKeyMutex);
+				sameMutex.close();
+				mutex.close();
+				otherOwnerMutex.close();
+				otherKeyMutex.close();
+			}
+		});
+	}
+
+	@Test
+	public void executeReadTestOne() {
+		testDoesNotThrow(() -> {
+			try (org.burningwave.core.concurrent.Synchronizer synchronizer =
+				org.burningwave.core.concurrent.Synchronizer.create("test", false)
+			) {
+				CountDownLatch readersLatch = new CountDownLatch(2);
+				Thread otherReader = new Thread(() ->
+					synchronizer.executeRead("id", () -> {
+						readersLatch.countDown();
+						return null;
+					})
+				);
+				assertTrue(synchronizer.executeRead("id", () -> {
+					otherReader.start();
+					readersLatch.countDown();
+					try {
+						//Both the readers must hold the read lock at the same time
+						return readersLatch.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException exc) {
+						return false;
+					}
+				}));
+				otherReader.join();
+				assertTrue(synchronizer.executeWrite("id", () -> "value").equals("value"));
+				assertTrue(synchronizer.executeOptimisticRead("id", () -> "value").equals("value"));
+				assertTrue(synchronizer.executeStampedWrite("id", () -> "value").equals("value"));
+			}
+		});
+	}
+
+	@Test
+	public void contentionTrackingTestOne() {
+		testDoesNotThrow(() -> {
+			try (org.burningwave.core.concurrent.Synchronizer synchronizer =
+				org.burningwave.core.concurrent.Synchronizer.create("test", false)
+			) {
+				synchronizer.setContentionTrackingFlag(true);
+				Object owner = new Object();
+				for (int i = 0; i < 10; i++) {
+					synchronizer.execute(owner, "path", () -> {});
+					synchronizer.execute("prefix_" + i, () -> {});
+				}
+				synchronizer.execute("other", () -> {});
+				assertTrue(synchronizer.getMostContended(10).size() == 3);
+				assertTrue(synchronizer.getMostContended(10).stream().anyMatch(
+					stats -> stats.getKey().equals("prefix") && stats.getAcquisitionsCount() == 10
+				));
+				ManagedLoggerRepository.logInfo(getClass()::getName, synchronizer.getContentionReportAsString(10));
+				synchronizer.resetContentionStats();
+				assertTrue(synchronizer.getMostContended(10).isEmpty());
+			}
+		});
+	}
+
+	@Test
+	public void contentionTrackingTestTwo() {
+		testDoesNotThrow(() -> {
+			try (org.burningwave.core.concurrent.Synchronizer synchronizer =
+				org.burningwave.core.concurrent.Synchronizer.create("test", false)
+			) {
+				synchronizer.setContentionTrackingFlag(true);
+				for (int i = 0; i < 10; i++) {
+					synchronizer.executeRead("read", () -> null);
+					synchronizer.executeWrite("write", () -> null);
+					synchronizer.executeStampedWrite("stamped", () -> null);
+				}
+				for (String key : new String[] {"read", "write", "stamped"}) {
+					assertTrue(synchronizer.getMostContended(10).stream().anyMatch(
+						stats -> stats.getKey().equals(key) && stats.getAcquisitionsCount() == 10
+					));
+				}
+			}
+		});
+	}
+
+	@Test
+	public void virtualThreadsPinningTestOne() {
+		testDoesNotThrow(() -> {
+			Method virtualThreadStarter;
+			try {
+				virtualThreadStarter = java.lang.Thread.class.getMethod("startVirtualThread", Runnable.class);
+			} catch (NoSuchMethodException exc) {
+				ManagedLoggerRepository.logInfo(getClass()::getName, "Virtual threads are not supported by this JVM");
+				return;
+			}
+			//The tests are compiled for Java 8, so the JFR API is accessed through reflection
+			Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+			Class<?> recordingFileClass = Class.forName("jdk.jfr.consumer.RecordingFile");
+			boolean reentrantLocksEnabled = Synchronizer.areReentrantLocksEnabled();
+			Synchronizer.setReentrantLocksFlag(true);
+			Path recordingPath = Files.createTempFile("virtual-threads-pinning", ".jfr");
+			try (Closeable recording = Constructors.newInstanceOf(recordingClass)) {
+				Object eventSettings = Methods.invoke(recording, "enable", "jdk.VirtualThreadPinned");
+				eventSettings = Methods.invoke(eventSettings, "withThreshold", Duration.ZERO);
+				Methods.invoke(eventSettings, "withStackTrace");
+				Methods.invoke(recording, "start");
+				Cache.ObjectAndPathForResources<Object, String> cache = new Cache.ObjectAndPathForResources<>();
+				Object cacheKey = new Object();
+				Object mutexOwner = new Object();
+				int threadCount = 5_000;
+				CountDownLatch doneSignal = new CountDownLatch(threadCount);
+				for (int i = 0; i < threadCount; i++) {
+					String path = "/folder/resource-" + (i % 100);
+					boolean submitTask = i % 10 == 0;
+					virtualThreadStarter.invoke(null, (Runnable)() -> {
+						try {
+							cache.getOrUploadIfAbsent(cacheKey, path, () -> {
+								sleep(1);
+								return path;
+							});
+							Methods.invoke(path, "length");
+							Synchronizer.execute(mutexOwner, path, () -> sleep(1));
+							if (submitTask) {
+								BackgroundExecutor.createTask(() -> sleep(1)).submit().waitForFinish();
+							}
+						} finally {
+							doneSignal.countDown();
+						}
+					});
+				}
+				assertTrue(doneSignal.await(5, TimeUnit.MINUTES));
+				Methods.invoke(recording, "stop");
+				Methods.invoke(recording, "dump", recordingPath);
+				List<Object> allEvents = Methods.invokeStatic(recordingFileClass, "readAllEvents", recordingPath);
+				List<Object> pinningEvents = allEvents.stream().filter(event -> {
+					Object stackTrace = Methods.invoke(event, "getStackTrace");
+					if (stackTrace == null) {
+						return false;
+					}
+					List<Object> frames = Methods.invoke(stackTrace, "getFrames");
+					return frames.stream().anyMatch(frame -> {
+						String className = Methods.invoke(Methods.invoke(Methods.invoke(frame, "getMethod"), "getType"), "getName");
+						return className.startsWith("org.burningwave.core");
+					});
+				}).collect(Collectors.toList());
+				for (Object pinningEvent : pinningEvents) {
+					ManagedLoggerRepository.logError(getClass()::getName, "Virtual thread pinned: {}", pinningEvent);
+				}
+				assertTrue(pinningEvents.isEmpty());
+			} finally {
+				Synchronizer.setReentrantLocksFlag(reentrantLocksEnabled);
+				Files.deleteIfExists(recordingPath);
+			}
+		});
+	}
+
+	private void sleep(long millis) {
+		try {
+			java.lang.Thread.sleep(millis);
+		} catch (InterruptedException exc) {
+			java.lang.Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	@Tag("Heavy")
+	public void getMutexContentionBenchmark() {
+		testDoesNotThrow(() -> {
+			int idCount = 1_000;
+			int operationCount = 200_000;
+			for (int threadCount : new int[] {8, 32, 128, 8, 32, 128}) {
+				org.burningwave.core.concurrent.Synchronizer referenceCountedSynchronizer =
+					org.burningwave.core.concurrent.Synchronizer.create("benchmark", false);
+				long referenceCountedElapsedTime = runContended(threadCount, idCount, operationCount, id -> {
+					try (Mutex mutex = referenceCountedSynchronizer.getMutex(id)) {
+						synchronized (mutex) {}
+					}
+				});
+				referenceCountedSynchronizer.close();
+				org.burningwave.core.concurrent.Synchronizer stripedSynchronizer =
+					org.burningwave.core.concurrent.Synchronizer.create("benchmark", false, 256);
+				long stripedElapsedTime = runContended(threadCount, idCount, operationCount, id -> {
+					try (Mutex mutex = stripedSynchronizer.getMutex(id)) {
+						synchronized (mutex) {}
+					}
+				});
+				stripedSynchronizer.close();
+				//Emulation of the previous implementation that allocates a new mutex for each request
+				Map<String, LegacyMutex> legacyMutexes = new ConcurrentHashMap<>();
+				long legacyElapsedTime = runContended(threadCount, idCount, operationCount, id -> {
+					LegacyMutex mutex = LegacyMutex.get(legacyMutexes, id);
+					synchronized (mutex) {}
+					if (--mutex.clientsCount < 1) {
+						legacyMutexes.remove(id);
+					}
+				});
+				long totalOperations = (long)threadCount * operationCount;
+				ManagedLoggerRepository.logInfo(getClass()::getName,
+					"{} threads: reference counted mutexes {} ops/ms, striped mutexes {} ops/ms, allocating mutexes {} ops/ms",
+					threadCount,
+					totalOperations / Math.max(referenceCountedElapsedTime, 1),
+					totalOperations / Math.max(stripedElapsedTime, 1),
+					totalOperations / Math.max(legacyElapsedTime, 1)
+				);
+			}
+		});
+	}
+
+	private long runContended(int threadCount, int idCount, int operationCount, Consumer<String> operation) throws InterruptedException {
+		String[] ids = new String[idCount];
+		for (int i = 0; i < idCount; i++) {
+			ids[i] = "mutex-" + i;
+		}
+		CountDownLatch startSignal = new CountDownLatch(1);
+		CountDownLatch doneSignal = new CountDownLatch(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			int offset = i;
+			new java.lang.Thread(() -> {
+				try {
+					startSignal.await();
+					for (int j = 0; j < operationCount; j++) {
+						operation.accept(ids[(j + offset) % idCount]);
+					}
+				} catch (InterruptedException exc) {
+					java.lang.Thread.currentThread().interrupt();
+				} finally {
+					doneSignal.countDown();
+				}
+			}).start();
+		}
+		long startTime = System.currentTimeMillis();
+		startSignal.countDown();
+		doneSignal.await();
+		return System.currentTimeMillis() - startTime;
+	}
+
+	private static class LegacyMutex {
+		int clientsCount = 1;
+
+		static LegacyMutex get(Map<String, LegacyMutex> mutexes, String id) {
+			LegacyMutex newMutex = new LegacyMutex();
+			while (true) {
+				LegacyMutex oldMutex = mutexes.putIfAbsent(id, newMutex);
+				if (oldMutex == null) {
+					return newMutex;
+				}
+				if (++oldMutex.clientsCount > 1 && mutexes.get(id) == oldMutex) {
+					return oldMutex;
+				}
+			}
+		}
+	}
+
+}
@@ -3,7 +3,13 @@ package org.burningwave.core;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggerRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.burningwave.core.concurrent.Thread;
@@ -50,6 +56,83 @@ public class ThreadSupplierTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void virtualThreadsTestOne() {
+		testDoesNotThrow(() -> {
+			Map<Object, Object> config = new HashMap<>(org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties);
+			config.put(Thread.Supplier.Configuration.Key.VIRTUAL_THREADS_ENABLED, true);
+			Thread.Supplier threadSupplier = Thread.Supplier.create("Virtual threads supplier for test", config, false);
+			if (!threadSupplier.areVirtualThreadsEnabled()) {
+				ManagedLoggerRepository.logInfo(getClass()::getName, "Virtual threads are not supported by this JVM");
+				return;
+			}
+			Method isVirtual = java.lang.Thread.class.getMethod("isVirtual");
+			int threadCount = 10_000;
+			CountDownLatch doneSignal = new CountDownLatch(threadCount);
+			AtomicInteger virtualThreadCount = new AtomicInteger(0);
+			//Far more threads than the caps of the platform threads could wait at the same time
+			for (int i = 0; i < threadCount; i++) {
+				threadSupplier.getOrCreateThread().setExecutable(thr -> {
+					if ((Boolean)isVirtual.invoke(java.lang.Thread.currentThread())) {
+						virtualThreadCount.incrementAndGet();
+					}
+					java.lang.Thread.sleep(100);
+					doneSignal.countDown();
+				}).start();
+			}
+			assertTrue(doneSignal.await(1, TimeUnit.MINUTES));
+			assertEquals(threadCount, virtualThreadCount.get());
+			Thread sleepingThread = threadSupplier.getOrCreateThread().setExecutable(thr -> {
+				java.lang.Thread.sleep(60_000);
+			});
+			sleepingThread.start();
+			while (!sleepingThread.isRunning()) {
+				Thread.waitFor(10);
+			}
+			sleepingThread.interrupt();
+			threadSupplier.joinThread(sleepingThread);
+			assertTrue(!sleepingThread.isRunning());
+			threadSupplier.shutDownAllThreads(true);
+		});
+	}
+
+	@Test
+	public void elasticSizingTestOne() {
+		testDoesNotThrow(() -> {
+			Map<Object, Object> config = new HashMap<>(org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties);
+			config.put(Thread.Supplier.Configuration.Key.MAX_POOLABLE_THREAD_COUNT, 2);
+			config.put(Thread.Supplier.Configuration.Key.MAX_DETACHED_THREAD_COUNT, 0);
+			config.put(Thread.Supplier.Configuration.Key.VIRTUAL_THREADS_ENABLED, false);
+			config.put(Thread.Supplier.Configuration.Key.ELASTIC_SIZING_ENABLED, true);
+			config.put(Thread.Supplier.Configuration.Key.ELASTIC_SIZING_TARGET_WAIT_LATENCY, 20);
+			config.put(Thread.Supplier.Configuration.Key.ELASTIC_SIZING_MIN_POOLABLE_THREAD_COUNT, 0);
+			config.put(Thread.Supplier.Configuration.Key.ELASTIC_SIZING_POOLABLE_THREAD_KEEP_ALIVE_TIME, 200);
+			Thread.Supplier threadSupplier = Thread.Supplier.create("Elastically sized thread supplier for test", config, false);
+			assertTrue(threadSupplier.isElasticSizingEnabled());
+			int threadCount = 20;
+			CountDownLatch doneSignal = new CountDownLatch(threadCount);
+			//A burst of requests that exceeds the initial limits makes the controller raise the limit of the detached threads
+			for (int i = 0; i < threadCount; i++) {
+				threadSupplier.getOrCreateThread().setExecutable(thr -> {
+					java.lang.Thread.sleep(200);
+					doneSignal.countDown();
+				}).start();
+			}
+			assertTrue(doneSignal.await(1, TimeUnit.MINUTES));
+			assertTrue(threadSupplier.getSizingMetrics().getIncreasesCount() > 0);
+			assertTrue(threadSupplier.getSizingMetrics().getDetachedThreadCountLimit() > 0);
+			//Once the burst is over the idle poolable threads are retired
+			long startTime = System.currentTimeMillis();
+			while (threadSupplier.getPoolableThreadCount() > 0 && System.currentTimeMillis() - startTime < 10_000) {
+				Thread.waitFor(50);
+			}
+			ManagedLoggerRepository.logInfo(getClass()::getName, "Sizing metrics: {}", threadSupplier.getSizingMetrics());
+			assertEquals(0, threadSupplier.getPoolableThreadCount());
+			assertTrue(threadSupplier.getSizingMetrics().getRetiredThreadsCount() > 0);
+			threadSupplier.shutDownAllThreads(true);
+		});
+	}
+
 	//@Test
 	public void stressTest() {
 		testDoesNotThrow(() -> {